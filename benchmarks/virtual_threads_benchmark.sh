@@ -0,0 +1,86 @@
+#!/bin/bash
+# Throughput and p99 latency: platform threads vs virtual threads (profile "virtual").
+#
+# Usage (infrastructure from docker-compose up -d, https://github.com/rakyll/hey on the PATH):
+#   CONCURRENCY=1000 DURATION=60s benchmarks/virtual_threads_benchmark.sh
+#
+# The same jar is started once per mode with identical pool sizes, warmed up, and then loaded with
+# CONCURRENCY clients well above Tomcat's 200 platform threads. Both endpoints block on I/O:
+# a status page reads Postgres (slice + items, count from the stats counters) and a lookup by
+# external ID goes through Redis. The JVM runs with -Djdk.tracePinnedThreads=short, so the
+# "pinned" column counts stack frames holding a monitor while a virtual thread blocked (0 is the goal).
+
+set -euo pipefail
+
+CONCURRENCY=${CONCURRENCY:-1000}
+DURATION=${DURATION:-60s}
+WARMUP=${WARMUP:-15s}
+SEED_ORDERS=${SEED_ORDERS:-500}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+RUN_ID=$(date +%s)
+
+cd "$(dirname "$0")/.."
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+
+wait_until_up() {
+    for _ in $(seq 1 60); do
+        if curl -sf "$BASE_URL/actuator/health" > /dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "Application did not start, see $1" >&2
+    exit 1
+}
+
+seed() {
+    for i in $(seq 1 "$SEED_ORDERS"); do
+        curl -sf -o /dev/null -X POST "$BASE_URL/api/v1/orders" -H "Content-Type: application/json" \
+            -d "{\"externalId\":\"BENCH-$RUN_ID-$i\",\"items\":[{\"productCode\":\"PROD-001\",\"quantity\":2,\"unitPrice\":50.00}]}"
+    done
+}
+
+load() {
+    hey -z "$1" -c "$CONCURRENCY" "$2"
+}
+
+report() {
+    local mode=$1 name=$2 output=$3 log=$4
+    local rps p99 pinned
+    rps=$(grep "Requests/sec" <<< "$output" | awk '{print $2}')
+    p99=$(grep "99% in" <<< "$output" | awk '{print $3}')
+    pinned=$(grep -c "<== monitors" "$log" || true)
+    printf "%-9s %-14s %12s %12s %8s\n" "$mode" "$name" "$rps" "${p99}s" "$pinned"
+}
+
+RESULTS=()
+for mode in platform virtual; do
+    log="build/benchmark-$mode.log"
+    profile=""
+    if [ "$mode" = "virtual" ]; then
+        profile="--spring.profiles.active=virtual"
+    fi
+
+    java -Djdk.tracePinnedThreads=short -jar "$JAR" $profile > "$log" 2>&1 &
+    app=$!
+    trap 'kill $app 2> /dev/null || true' EXIT
+    wait_until_up "$log"
+
+    if [ "$mode" = "platform" ]; then
+        seed
+    fi
+
+    status_url="$BASE_URL/api/v1/orders/status/COMPLETED?size=20"
+    external_url="$BASE_URL/api/v1/orders/external/BENCH-$RUN_ID-1"
+    load "$WARMUP" "$status_url" > /dev/null
+
+    RESULTS+=("$(report "$mode" "status-page" "$(load "$DURATION" "$status_url")" "$log")")
+    RESULTS+=("$(report "$mode" "external-id" "$(load "$DURATION" "$external_url")" "$log")")
+
+    kill "$app"
+    wait "$app" 2> /dev/null || true
+done
+
+printf "\n%-9s %-14s %12s %12s %8s\n" "mode" "endpoint" "req/s" "p99" "pinned"
+printf "%s\n" "${RESULTS[@]}"
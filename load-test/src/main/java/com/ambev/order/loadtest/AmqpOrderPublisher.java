@@ -0,0 +1,64 @@
+package com.ambev.order.loadtest;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes orders to order.incoming.queue the way System A does, waiting for the broker's confirm.
+ * Channels are not thread-safe, so publishers borrow one from a small pool.
+ */
+public class AmqpOrderPublisher implements AutoCloseable {
+
+    private static final AMQP.BasicProperties PROPERTIES = new AMQP.BasicProperties.Builder()
+            .contentType("text/plain")
+            .contentEncoding("UTF-8")
+            .deliveryMode(2)
+            .build();
+
+    private final Connection connection;
+    private final BlockingQueue<Channel> channels;
+    private final String queue;
+    private final long confirmTimeoutMillis;
+
+    public AmqpOrderPublisher(String uri, String queue, int channelCount, Duration confirmTimeout) throws Exception {
+        ConnectionFactory factory = new ConnectionFactory();
+        factory.setUri(uri);
+        this.connection = factory.newConnection("order-load-test");
+        this.channels = new ArrayBlockingQueue<>(channelCount);
+        for (int i = 0; i < channelCount; i++) {
+            Channel channel = connection.createChannel();
+            channel.confirmSelect();
+            channels.add(channel);
+        }
+        this.queue = queue;
+        this.confirmTimeoutMillis = confirmTimeout.toMillis();
+    }
+
+    /**
+     * Returns true once the broker confirmed the message
+     */
+    public boolean publish(byte[] body) throws IOException, InterruptedException {
+        Channel channel = channels.take();
+        try {
+            channel.basicPublish("", queue, PROPERTIES, body);
+            return channel.waitForConfirms(confirmTimeoutMillis);
+        } catch (TimeoutException e) {
+            return false;
+        } finally {
+            channels.add(channel);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        connection.close();
+    }
+}
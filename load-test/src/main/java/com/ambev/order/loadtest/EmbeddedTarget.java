@@ -0,0 +1,61 @@
+package com.ambev.order.loadtest;
+
+import com.ambev.order.OrderApiApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+
+/**
+ * Self-contained target: throwaway Postgres, Redis and RabbitMQ containers (same images as
+ * docker-compose.yml) and the application booted in this JVM on a random port
+ */
+public class EmbeddedTarget implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+    private final GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+    private final RabbitMQContainer rabbitmq = new RabbitMQContainer("rabbitmq:3-management-alpine");
+    private ConfigurableApplicationContext application;
+
+    public void start() {
+        postgres.start();
+        redis.start();
+        rabbitmq.start();
+
+        application = SpringApplication.run(OrderApiApplication.class,
+                "--server.port=0",
+                "--order.reactive.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--order.reactive.r2dbc.url=r2dbc:pool:postgresql://" + postgres.getHost() + ":"
+                        + postgres.getFirstMappedPort() + "/" + postgres.getDatabaseName(),
+                "--spring.data.redis.host=" + redis.getHost(),
+                "--spring.data.redis.port=" + redis.getFirstMappedPort(),
+                "--spring.rabbitmq.host=" + rabbitmq.getHost(),
+                "--spring.rabbitmq.port=" + rabbitmq.getAmqpPort(),
+                "--spring.rabbitmq.username=" + rabbitmq.getAdminUsername(),
+                "--spring.rabbitmq.password=" + rabbitmq.getAdminPassword(),
+                "--logging.level.com.ambev.order=WARN");
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+    }
+
+    public String amqpUri() {
+        return rabbitmq.getAmqpUrl().replace("amqp://", "amqp://" + rabbitmq.getAdminUsername() + ":"
+                + rabbitmq.getAdminPassword() + "@");
+    }
+
+    @Override
+    public void close() {
+        if (application != null) {
+            application.close();
+        }
+        rabbitmq.stop();
+        redis.stop();
+        postgres.stop();
+    }
+}
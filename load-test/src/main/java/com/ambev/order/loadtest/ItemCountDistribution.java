@@ -0,0 +1,55 @@
+package com.ambev.order.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted item-count ranges, e.g. "1-1:30,2-5:50,6-20:19,21-200:1": a range is picked by weight,
+ * then a count uniformly inside it
+ */
+public final class ItemCountDistribution {
+
+    private record Range(int min, int max, double cumulativeWeight) {
+    }
+
+    private final List<Range> ranges;
+    private final double totalWeight;
+
+    private ItemCountDistribution(List<Range> ranges, double totalWeight) {
+        this.ranges = ranges;
+        this.totalWeight = totalWeight;
+    }
+
+    public static ItemCountDistribution parse(String spec) {
+        List<Range> ranges = new ArrayList<>();
+        double cumulative = 0;
+        for (String entry : spec.split(",")) {
+            String[] rangeAndWeight = entry.trim().split(":");
+            String[] bounds = rangeAndWeight[0].split("-");
+            int min = Integer.parseInt(bounds[0]);
+            int max = bounds.length > 1 ? Integer.parseInt(bounds[1]) : min;
+            double weight = Double.parseDouble(rangeAndWeight[1]);
+            if (min < 1 || max < min || weight <= 0) {
+                throw new IllegalArgumentException("Invalid item range: " + entry);
+            }
+            cumulative += weight;
+            ranges.add(new Range(min, max, cumulative));
+        }
+        if (ranges.isEmpty()) {
+            throw new IllegalArgumentException("Empty item distribution");
+        }
+        return new ItemCountDistribution(List.copyOf(ranges), cumulative);
+    }
+
+    public int sample(RandomGenerator random) {
+        double point = random.nextDouble(totalWeight);
+        for (Range range : ranges) {
+            if (point < range.cumulativeWeight()) {
+                return random.nextInt(range.min(), range.max() + 1);
+            }
+        }
+        Range last = ranges.get(ranges.size() - 1);
+        return random.nextInt(last.min(), last.max() + 1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ambev.order.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation HdrHistogram recorders. "response" latency runs from the time a request was scheduled
+ * to start (coordinated-omission corrected: a stalled server cannot hide the requests it delayed);
+ * "service" latency runs from the time it was actually sent.
+ */
+public class LatencyRecorder {
+
+    public enum Outcome { OK, DUPLICATE, NOT_FOUND, ERROR, DROPPED }
+
+    private static final long HIGHEST_TRACKABLE = TimeUnit.MINUTES.toNanos(5);
+
+    private final Map<Operation, Recorder> response = new EnumMap<>(Operation.class);
+    private final Map<Operation, Recorder> service = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<Outcome, LongAdder>> outcomes = new EnumMap<>(Operation.class);
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            response.put(operation, new Recorder(1, HIGHEST_TRACKABLE, 3));
+            service.put(operation, new Recorder(1, HIGHEST_TRACKABLE, 3));
+            Map<Outcome, LongAdder> counters = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                counters.put(outcome, new LongAdder());
+            }
+            outcomes.put(operation, counters);
+        }
+    }
+
+    public void record(Operation operation, long intendedStartNanos, long actualStartNanos, long endNanos, Outcome outcome) {
+        outcomes.get(operation).get(outcome).increment();
+        // Failures are recorded too: a timeout is latency the caller really saw
+        response.get(operation).recordValue(clamp(endNanos - intendedStartNanos));
+        service.get(operation).recordValue(clamp(endNanos - actualStartNanos));
+    }
+
+    public void dropped(Operation operation) {
+        outcomes.get(operation).get(Outcome.DROPPED).increment();
+    }
+
+    /**
+     * Discards everything recorded so far (end of warmup)
+     */
+    public void reset() {
+        response.values().forEach(Recorder::reset);
+        service.values().forEach(Recorder::reset);
+        outcomes.values().forEach(counters -> counters.values().forEach(LongAdder::reset));
+    }
+
+    public Histogram responseHistogram(Operation operation) {
+        return response.get(operation).getIntervalHistogram();
+    }
+
+    public Histogram serviceHistogram(Operation operation) {
+        return service.get(operation).getIntervalHistogram();
+    }
+
+    public long count(Operation operation, Outcome outcome) {
+        return outcomes.get(operation).get(outcome).sum();
+    }
+
+    private static long clamp(long nanos) {
+        return Math.max(1, Math.min(nanos, HIGHEST_TRACKABLE));
+    }
+}
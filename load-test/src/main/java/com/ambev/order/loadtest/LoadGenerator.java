@@ -0,0 +1,182 @@
+package com.ambev.order.loadtest;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model driver: requests start on a fixed schedule (config.rate per second) whether or not
+ * earlier ones finished, each on its own virtual thread. Latency is measured from the scheduled start,
+ * so a slow server shows up as queueing delay instead of silently lowering the offered load.
+ * Requests beyond config.maxInFlight are counted as dropped rather than queued without bound.
+ */
+public class LoadGenerator {
+
+    private static final int KEYSET_SIZE = 20;
+    private static final Duration VISIBILITY_POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final LoadTestConfig config;
+    private final OrderApiClient apiClient;
+    private final AmqpOrderPublisher amqpPublisher;
+    private final OrderPayloadFactory payloads;
+    private final LatencyRecorder recorder;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LoadGenerator(LoadTestConfig config, OrderApiClient apiClient, AmqpOrderPublisher amqpPublisher,
+                         OrderPayloadFactory payloads, LatencyRecorder recorder) {
+        this.config = config;
+        this.apiClient = apiClient;
+        this.amqpPublisher = amqpPublisher;
+        this.payloads = payloads;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Runs warmup then the measured phase; returns the measured phase's wall-clock length in nanos
+     */
+    public long run() throws InterruptedException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            drive(executor, config.warmup());
+            awaitInFlight(config.requestTimeout());
+            recorder.reset();
+
+            long start = System.nanoTime();
+            drive(executor, config.duration());
+            long end = System.nanoTime();
+            awaitInFlight(config.requestTimeout().multipliedBy(6));
+            return end - start;
+        }
+    }
+
+    private void drive(ExecutorService executor, Duration phase) {
+        SplittableRandom arrivals = new SplittableRandom();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long start = System.nanoTime();
+        long end = start + phase.toNanos();
+        double offset = 0;
+
+        while (true) {
+            long intendedStart = start + (long) offset;
+            if (intendedStart >= end) {
+                return;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = config.mix().next(arrivals);
+            if (inFlight.incrementAndGet() > config.maxInFlight()) {
+                inFlight.decrementAndGet();
+                recorder.dropped(operation);
+            } else {
+                executor.execute(() -> {
+                    try {
+                        execute(operation, intendedStart);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+
+            offset += config.arrival() == LoadTestConfig.Arrival.POISSON
+                    ? -Math.log(1 - arrivals.nextDouble()) * meanGapNanos
+                    : meanGapNanos;
+        }
+    }
+
+    private void execute(Operation operation, long intendedStart) {
+        long actualStart = System.nanoTime();
+        LatencyRecorder.Outcome outcome;
+        try {
+            outcome = switch (operation) {
+                case CREATE -> create();
+                case GET_BY_ID -> getById();
+                case GET_BY_EXTERNAL_ID -> getByExternalId();
+                case KEYSET -> apiClient.keyset(KEYSET_SIZE).outcome();
+                case AMQP -> publish(intendedStart);
+                case AMQP_VISIBLE -> throw new IllegalStateException("Not a scheduled operation");
+            };
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = LatencyRecorder.Outcome.ERROR;
+        } catch (Exception e) {
+            outcome = LatencyRecorder.Outcome.ERROR;
+        }
+        recorder.record(operation, intendedStart, actualStart, System.nanoTime(), outcome);
+    }
+
+    private LatencyRecorder.Outcome create() throws Exception {
+        OrderPayloadFactory.Payload payload = payloads.next();
+        OrderApiClient.Response response = apiClient.create(payload.json());
+        if (response.outcome() == LatencyRecorder.Outcome.OK && !payload.duplicate()) {
+            payloads.created(apiClient.idOf(response), payload.externalId());
+        }
+        return response.outcome();
+    }
+
+    /**
+     * Until the first order is confirmed there is nothing to read; the request becomes a create
+     */
+    private LatencyRecorder.Outcome getById() throws Exception {
+        String[] order = payloads.randomCreated();
+        return order == null ? create() : apiClient.getById(order[0]).outcome();
+    }
+
+    private LatencyRecorder.Outcome getByExternalId() throws Exception {
+        String[] order = payloads.randomCreated();
+        return order == null ? create() : apiClient.getByExternalId(order[1]).outcome();
+    }
+
+    private LatencyRecorder.Outcome publish(long intendedStart) throws Exception {
+        OrderPayloadFactory.Payload payload = payloads.next();
+        if (!amqpPublisher.publish(payload.json())) {
+            return LatencyRecorder.Outcome.ERROR;
+        }
+        if (!payload.duplicate() && ThreadLocalRandom.current().nextDouble() < config.visibilitySampleRatio()) {
+            inFlight.incrementAndGet();
+            Thread.ofVirtual().start(() -> {
+                try {
+                    awaitVisible(payload.externalId(), intendedStart);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+        return LatencyRecorder.Outcome.OK;
+    }
+
+    /**
+     * End-to-end ingestion latency of a sampled AMQP order: polls the API until the order is readable
+     */
+    private void awaitVisible(String externalId, long intendedStart) {
+        long deadline = intendedStart + config.requestTimeout().toNanos() * 6;
+        try {
+            while (System.nanoTime() < deadline) {
+                if (apiClient.getByExternalId(externalId).outcome() == LatencyRecorder.Outcome.OK) {
+                    long now = System.nanoTime();
+                    recorder.record(Operation.AMQP_VISIBLE, intendedStart, intendedStart, now, LatencyRecorder.Outcome.OK);
+                    return;
+                }
+                Thread.sleep(VISIBILITY_POLL_INTERVAL);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // fall through and count the sample as failed
+        }
+        recorder.record(Operation.AMQP_VISIBLE, intendedStart, intendedStart, System.nanoTime(), LatencyRecorder.Outcome.ERROR);
+    }
+
+    private void awaitInFlight(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
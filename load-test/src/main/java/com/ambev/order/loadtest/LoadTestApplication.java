@@ -0,0 +1,42 @@
+package com.ambev.order.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Entry point: gradlew :load-test:run --args='--rate=500 --duration=2m --label=baseline'.
+ * See LoadTestConfig for every option and its default.
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        EmbeddedTarget embedded = null;
+        if (config.target() == LoadTestConfig.Target.EMBEDDED) {
+            embedded = new EmbeddedTarget();
+            embedded.start();
+            config = config.withBaseUrl(embedded.baseUrl(), embedded.amqpUri());
+        }
+
+        try (AmqpOrderPublisher amqpPublisher = new AmqpOrderPublisher(config.amqpUri(), config.incomingQueue(),
+                config.amqpChannels(), config.requestTimeout())) {
+            System.out.printf("Offering %.0f req/s (%s arrivals) to %s for %s after %s warmup, mix %s%n",
+                    config.rate(), config.arrival(), config.baseUrl(), config.duration(), config.warmup(), config.mix().weights());
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            LoadGenerator generator = new LoadGenerator(config,
+                    new OrderApiClient(config.baseUrl(), config.requestTimeout()),
+                    amqpPublisher,
+                    new OrderPayloadFactory(config.itemCounts(), config.duplicateRatio()),
+                    recorder);
+            long measuredNanos = generator.run();
+
+            Path runDir = new RunReport().write(config, recorder, measuredNanos, System.out);
+            System.out.printf("%nReport written to %s (measured %s)%n", runDir.toAbsolutePath(), Duration.ofNanos(measuredNanos));
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+}
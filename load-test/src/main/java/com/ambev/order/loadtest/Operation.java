@@ -0,0 +1,37 @@
+package com.ambev.order.loadtest;
+
+/**
+ * What the generator measures. AMQP_VISIBLE is not scheduled on its own: it is the end-to-end time
+ * from publishing a sampled AMQP order until the API returns it.
+ */
+public enum Operation {
+    CREATE("create"),
+    GET_BY_ID("get-by-id"),
+    GET_BY_EXTERNAL_ID("get-by-external-id"),
+    KEYSET("keyset"),
+    AMQP("amqp"),
+    AMQP_VISIBLE("amqp-visible");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public boolean isScheduled() {
+        return this != AMQP_VISIBLE;
+    }
+
+    public static Operation fromName(String name) {
+        for (Operation operation : values()) {
+            if (operation.label.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + name);
+    }
+}
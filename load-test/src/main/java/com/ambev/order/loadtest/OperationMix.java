@@ -0,0 +1,60 @@
+package com.ambev.order.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted choice of the operation each scheduled request performs,
+ * e.g. "create:40,get-by-id:20,get-by-external-id:15,keyset:10,amqp:15"
+ */
+public final class OperationMix {
+
+    private final Operation[] operations;
+    private final double[] cumulativeWeights;
+    private final Map<Operation, Double> weights;
+
+    private OperationMix(Map<Operation, Double> weights) {
+        this.weights = weights;
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new double[operations.length];
+        double cumulative = 0;
+        for (int i = 0; i < operations.length; i++) {
+            cumulative += weights.get(operations[i]);
+            cumulativeWeights[i] = cumulative;
+        }
+    }
+
+    public static OperationMix parse(String spec) {
+        Map<Operation, Double> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] nameAndWeight = entry.trim().split(":");
+            Operation operation = Operation.fromName(nameAndWeight[0]);
+            if (!operation.isScheduled()) {
+                throw new IllegalArgumentException("Operation cannot be scheduled: " + nameAndWeight[0]);
+            }
+            double weight = Double.parseDouble(nameAndWeight[1]);
+            if (weight > 0) {
+                weights.put(operation, weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Empty operation mix");
+        }
+        return new OperationMix(weights);
+    }
+
+    public Operation next(RandomGenerator random) {
+        double point = random.nextDouble(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < operations.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    public Map<Operation, Double> weights() {
+        return weights;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ambev.order.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Blocking HTTP calls against the Order API, issued from virtual threads
+ */
+public class OrderApiClient {
+
+    public record Response(int status, byte[] body) {
+
+        public LatencyRecorder.Outcome outcome() {
+            if (status >= 200 && status < 300) {
+                return LatencyRecorder.Outcome.OK;
+            }
+            if (status == 409) {
+                return LatencyRecorder.Outcome.DUPLICATE;
+            }
+            if (status == 404) {
+                return LatencyRecorder.Outcome.NOT_FOUND;
+            }
+            return LatencyRecorder.Outcome.ERROR;
+        }
+    }
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String ordersUrl;
+    private final Duration requestTimeout;
+
+    public OrderApiClient(String baseUrl, Duration requestTimeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.ordersUrl = baseUrl + "/api/v1/orders";
+        this.requestTimeout = requestTimeout;
+    }
+
+    public Response create(byte[] json) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(ordersUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json)));
+    }
+
+    public Response getById(String id) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(ordersUrl + "/" + id)).GET());
+    }
+
+    public Response getByExternalId(String externalId) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(ordersUrl + "/external/"
+                + URLEncoder.encode(externalId, StandardCharsets.UTF_8))).GET());
+    }
+
+    public Response keyset(int size) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(ordersUrl + "/keyset?size=" + size)).GET());
+    }
+
+    /**
+     * The "id" field of a created order's response body
+     */
+    public String idOf(Response response) throws IOException {
+        JsonNode id = objectMapper.readTree(response.body()).get("id");
+        return id != null ? id.asText() : null;
+    }
+
+    private Response send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request.timeout(requestTimeout).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        return new Response(response.statusCode(), response.body());
+    }
+}
@@ -0,0 +1,85 @@
+package com.ambev.order.loadtest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Builds System A order payloads and remembers recent identifiers. With probability duplicateRatio an
+ * order reuses an external ID that was already sent, exercising the duplicate checks; query operations
+ * pick their targets from the orders the API confirmed.
+ */
+public class OrderPayloadFactory {
+
+    private static final int RECENT_CAPACITY = 16_384;
+
+    public record Payload(String externalId, boolean duplicate, byte[] json) {
+    }
+
+    private final ItemCountDistribution itemCounts;
+    private final double duplicateRatio;
+    private final String runPrefix;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicReferenceArray<String> sentExternalIds = new AtomicReferenceArray<>(RECENT_CAPACITY);
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicReferenceArray<String[]> createdOrders = new AtomicReferenceArray<>(RECENT_CAPACITY);
+    private final AtomicLong createdCount = new AtomicLong();
+
+    public OrderPayloadFactory(ItemCountDistribution itemCounts, double duplicateRatio) {
+        this.itemCounts = itemCounts;
+        this.duplicateRatio = duplicateRatio;
+        this.runPrefix = "LOAD-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    }
+
+    public Payload next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String externalId = random.nextDouble() < duplicateRatio ? recent(sentExternalIds, sentCount) : null;
+        boolean duplicate = externalId != null;
+        if (!duplicate) {
+            externalId = runPrefix + sequence.incrementAndGet();
+            remember(sentExternalIds, sentCount, externalId);
+        }
+
+        int items = itemCounts.sample(random);
+        StringBuilder json = new StringBuilder(64 + items * 64)
+                .append("{\"externalId\":\"").append(externalId).append("\",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"productCode\":\"PROD-").append(random.nextInt(1, 1000))
+                    .append("\",\"quantity\":").append(random.nextInt(1, 10))
+                    .append(",\"unitPrice\":").append(BigDecimal.valueOf(random.nextLong(100, 100_000), 2))
+                    .append('}');
+        }
+        json.append("]}");
+        return new Payload(externalId, duplicate, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Records an order the API created, so later queries hit existing rows
+     */
+    public void created(String id, String externalId) {
+        remember(createdOrders, createdCount, new String[]{id, externalId});
+    }
+
+    /**
+     * A created order as {id, externalId}, or null until the first one is confirmed
+     */
+    public String[] randomCreated() {
+        return recent(createdOrders, createdCount);
+    }
+
+    private static <T> void remember(AtomicReferenceArray<T> ring, AtomicLong count, T value) {
+        ring.set((int) (count.getAndIncrement() % RECENT_CAPACITY), value);
+    }
+
+    private static <T> T recent(AtomicReferenceArray<T> ring, AtomicLong count) {
+        long size = Math.min(count.get(), RECENT_CAPACITY);
+        return size == 0 ? null : ring.get((int) ThreadLocalRandom.current().nextLong(size));
+    }
+}
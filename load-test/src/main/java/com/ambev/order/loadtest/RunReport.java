@@ -0,0 +1,122 @@
+package com.ambev.order.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one directory per run under config.reportDir:
+ * summary.json (config, counts, throughput and percentiles per operation, same shape every run),
+ * &lt;operation&gt;.hgrm percentile distributions (plottable with HdrHistogram's plotter) and a line per
+ * operation appended to runs.csv, so successive runs can be compared side by side.
+ */
+public class RunReport {
+
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final String CSV_HEADER = "run,label,operation,ok,duplicate,not_found,error,dropped," +
+            "throughput_per_s,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,service_p99_ms";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public Path write(LoadTestConfig config, LatencyRecorder recorder, long measuredNanos, PrintStream console) throws IOException {
+        String runId = RUN_ID.format(LocalDateTime.now());
+        Path runDir = config.reportDir().resolve(runId + "-" + config.label());
+        Files.createDirectories(runDir);
+
+        double seconds = measuredNanos / 1e9;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        StringBuilder csv = new StringBuilder();
+        console.printf("%n%-20s %10s %8s %8s %10s %10s %10s %10s %10s%n",
+                "operation", "req/s", "errors", "dropped", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99");
+
+        for (Operation operation : Operation.values()) {
+            Histogram response = recorder.responseHistogram(operation);
+            Histogram service = recorder.serviceHistogram(operation);
+            long completed = response.getTotalCount();
+            long dropped = recorder.count(operation, LatencyRecorder.Outcome.DROPPED);
+            if (completed == 0 && dropped == 0) {
+                continue;
+            }
+
+            double throughput = completed / seconds;
+            long errors = recorder.count(operation, LatencyRecorder.Outcome.ERROR);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("ok", recorder.count(operation, LatencyRecorder.Outcome.OK));
+            summary.put("duplicate", recorder.count(operation, LatencyRecorder.Outcome.DUPLICATE));
+            summary.put("notFound", recorder.count(operation, LatencyRecorder.Outcome.NOT_FOUND));
+            summary.put("error", errors);
+            summary.put("dropped", dropped);
+            summary.put("throughputPerSecond", round(throughput));
+            summary.put("responseTimeMs", percentiles(response));
+            summary.put("serviceTimeMs", percentiles(service));
+            operations.put(operation.label(), summary);
+
+            writeDistribution(runDir.resolve(operation.label() + ".hgrm"), response);
+            csv.append(String.join(",", runId, config.label(), operation.label(),
+                    String.valueOf(summary.get("ok")), String.valueOf(summary.get("duplicate")),
+                    String.valueOf(summary.get("notFound")), String.valueOf(errors), String.valueOf(dropped),
+                    String.valueOf(round(throughput)), millis(response, 50), millis(response, 90),
+                    millis(response, 99), millis(response, 99.9), String.valueOf(round(response.getMaxValue() / NANOS_PER_MILLI)),
+                    millis(service, 99))).append('\n');
+
+            console.printf("%-20s %10.1f %8d %8d %10s %10s %10s %10.3f %10s%n", operation.label(), throughput, errors, dropped,
+                    millis(response, 50), millis(response, 99), millis(response, 99.9),
+                    response.getMaxValue() / NANOS_PER_MILLI, millis(service, 99));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("run", runId);
+        report.put("label", config.label());
+        report.put("measuredSeconds", round(seconds));
+        report.put("config", new TreeMap<>(config.raw()));
+        report.put("operations", operations);
+        objectMapper.writeValue(runDir.resolve("summary.json").toFile(), report);
+
+        Path runs = config.reportDir().resolve("runs.csv");
+        if (Files.notExists(runs)) {
+            Files.writeString(runs, CSV_HEADER + "\n", StandardCharsets.UTF_8);
+        }
+        Files.writeString(runs, csv, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        return runDir;
+    }
+
+    private Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> percentiles = new LinkedHashMap<>();
+        percentiles.put("count", histogram.getTotalCount());
+        percentiles.put("mean", round(histogram.getMean() / NANOS_PER_MILLI));
+        percentiles.put("p50", round(histogram.getValueAtPercentile(50) / NANOS_PER_MILLI));
+        percentiles.put("p90", round(histogram.getValueAtPercentile(90) / NANOS_PER_MILLI));
+        percentiles.put("p99", round(histogram.getValueAtPercentile(99) / NANOS_PER_MILLI));
+        percentiles.put("p999", round(histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI));
+        percentiles.put("max", round(histogram.getMaxValue() / NANOS_PER_MILLI));
+        return percentiles;
+    }
+
+    private void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+
+    private static String millis(Histogram histogram, double percentile) {
+        return String.valueOf(round(histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ambev.order.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCountDistributionTest {
+
+    @Test
+    void shouldSampleWithinRangesByWeight() {
+        ItemCountDistribution distribution = ItemCountDistribution.parse("1-1:90,50-60:10");
+        SplittableRandom random = new SplittableRandom(42);
+
+        int single = 0;
+        for (int i = 0; i < 10_000; i++) {
+            int count = distribution.sample(random);
+            assertTrue(count == 1 || (count >= 50 && count <= 60), "unexpected count " + count);
+            if (count == 1) {
+                single++;
+            }
+        }
+
+        assertEquals(9000, single, 300);
+    }
+
+    @Test
+    void shouldRejectInvalidRanges() {
+        assertThrows(IllegalArgumentException.class, () -> ItemCountDistribution.parse("5-2:10"));
+        assertThrows(IllegalArgumentException.class, () -> ItemCountDistribution.parse("0-2:10"));
+        assertThrows(IllegalArgumentException.class, () -> ItemCountDistribution.parse("1-2:0"));
+    }
+}
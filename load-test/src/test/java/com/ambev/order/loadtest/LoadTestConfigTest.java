@@ -0,0 +1,30 @@
+package com.ambev.order.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestConfigTest {
+
+    @Test
+    void shouldApplyDefaultsAndOverrides() {
+        LoadTestConfig config = LoadTestConfig.parse("--rate=1500", "--duration=2m", "--mix=create:1,amqp:1",
+                "--arrival=poisson");
+
+        assertEquals(1500, config.rate());
+        assertEquals(Duration.ofMinutes(2), config.duration());
+        assertEquals(Duration.ofSeconds(15), config.warmup());
+        assertEquals(LoadTestConfig.Arrival.POISSON, config.arrival());
+        assertEquals(2, config.mix().weights().size());
+        assertEquals("1500", config.raw().get("rate"));
+    }
+
+    @Test
+    void shouldRejectUnknownOptionsAndUnschedulableOperations() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--rps=10"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--mix=amqp-visible:1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parse("--duplicate-ratio=2"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.ambev.order.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderPayloadFactoryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldBuildValidOrderJson() throws Exception {
+        OrderPayloadFactory factory = new OrderPayloadFactory(ItemCountDistribution.parse("3-3:1"), 0);
+
+        OrderPayloadFactory.Payload payload = factory.next();
+        JsonNode json = objectMapper.readTree(payload.json());
+
+        assertEquals(payload.externalId(), json.get("externalId").asText());
+        assertEquals(3, json.get("items").size());
+        assertTrue(json.get("items").get(0).get("unitPrice").isNumber());
+        assertFalse(payload.duplicate());
+    }
+
+    @Test
+    void shouldReuseSentExternalIdsAtDuplicateRatio() {
+        OrderPayloadFactory factory = new OrderPayloadFactory(ItemCountDistribution.parse("1-1:1"), 0.2);
+        Set<String> sent = new HashSet<>();
+
+        int duplicates = 0;
+        for (int i = 0; i < 10_000; i++) {
+            OrderPayloadFactory.Payload payload = factory.next();
+            if (payload.duplicate()) {
+                duplicates++;
+                assertTrue(sent.contains(payload.externalId()));
+            } else {
+                assertTrue(sent.add(payload.externalId()));
+            }
+        }
+
+        assertEquals(2000, duplicates, 300);
+    }
+
+    @Test
+    void shouldOfferOnlyConfirmedOrdersForQueries() {
+        OrderPayloadFactory factory = new OrderPayloadFactory(ItemCountDistribution.parse("1-1:1"), 0);
+        assertNull(factory.randomCreated());
+
+        factory.created("id-1", "ORDER-1");
+
+        assertArrayEquals(new String[]{"id-1", "ORDER-1"}, factory.randomCreated());
+    }
+}
@@ -0,0 +1,66 @@
+package com.ambev.order.benchmark;
+
+import com.ambev.order.application.dto.OrderItemRequestDTO;
+import com.ambev.order.application.dto.OrderRequestDTO;
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderStatusDomain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Orders shaped like System A traffic, built once per benchmark trial
+ */
+final class OrderFixtures {
+
+    private OrderFixtures() {
+    }
+
+    static OrderRequestDTO request(int itemCount) {
+        List<OrderItemRequestDTO> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItemRequestDTO.builder()
+                    .productCode("PROD-" + i)
+                    .quantity(1 + i % 5)
+                    .unitPrice(BigDecimal.valueOf(1999 + i, 2))
+                    .build());
+        }
+        return OrderRequestDTO.builder()
+                .externalId("ORDER-" + UUID.randomUUID())
+                .items(items)
+                .build();
+    }
+
+    static OrderDomain order(int itemCount) {
+        List<OrderItemDomain> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Money unitPrice = Money.ofMinor(1999 + i);
+            int quantity = 1 + i % 5;
+            items.add(OrderItemDomain.builder()
+                    .id(UUID.randomUUID())
+                    .productCode("PROD-" + i)
+                    .quantity(quantity)
+                    .unitPrice(unitPrice)
+                    .totalPrice(unitPrice.times(quantity))
+                    .build());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        OrderDomain order = OrderDomain.builder()
+                .id(UUID.randomUUID())
+                .externalId("ORDER-" + UUID.randomUUID())
+                .status(OrderStatusDomain.COMPLETED)
+                .createdAt(now)
+                .updatedAt(now)
+                .version(0L)
+                .items(items)
+                .build();
+        order.calculateTotalAmount();
+        return order;
+    }
+}
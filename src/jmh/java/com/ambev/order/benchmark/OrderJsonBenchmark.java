@@ -0,0 +1,77 @@
+package com.ambev.order.benchmark;
+
+import com.ambev.order.application.dto.OrderRequestDTO;
+import com.ambev.order.application.dto.OrderResponseDTO;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (de)serialization of the REST/AMQP payloads with the application's ObjectMapper.
+ * Readers and writers are resolved once, as the adapters do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderJsonBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private ObjectReader requestReader;
+    private ObjectWriter requestWriter;
+    private ObjectReader responseReader;
+    private ObjectWriter responseWriter;
+
+    private OrderRequestDTO request;
+    private OrderResponseDTO response;
+    private byte[] requestJson;
+    private byte[] responseJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        requestReader = objectMapper.readerFor(OrderRequestDTO.class);
+        requestWriter = objectMapper.writerFor(OrderRequestDTO.class);
+        responseReader = objectMapper.readerFor(OrderResponseDTO.class);
+        responseWriter = objectMapper.writerFor(OrderResponseDTO.class);
+
+        request = OrderFixtures.request(itemCount);
+        response = new OrderMapper().toResponseDTO(OrderFixtures.order(itemCount));
+        requestJson = requestWriter.writeValueAsBytes(request);
+        responseJson = responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public OrderRequestDTO readRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] writeRequest() throws IOException {
+        return requestWriter.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public OrderResponseDTO readResponse() throws IOException {
+        return responseReader.readValue(responseJson);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ambev.order.benchmark;
+
+import com.ambev.order.adapter.out.persistence.OrderPersistenceMapper;
+import com.ambev.order.adapter.out.persistence.entity.OrderEntity;
+import com.ambev.order.application.dto.OrderRequestDTO;
+import com.ambev.order.application.dto.OrderResponseDTO;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.domain.model.OrderDomain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-order cost of the DTO and entity mappings on the create and query paths
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private final OrderMapper orderMapper = new OrderMapper();
+    private final OrderPersistenceMapper persistenceMapper = new OrderPersistenceMapper();
+
+    private OrderRequestDTO request;
+    private OrderDomain order;
+    private OrderEntity entity;
+
+    @Setup
+    public void setUp() {
+        request = OrderFixtures.request(itemCount);
+        order = OrderFixtures.order(itemCount);
+        entity = persistenceMapper.toEntity(order);
+    }
+
+    @Benchmark
+    public OrderDomain requestToDomain() {
+        return orderMapper.toDomain(request);
+    }
+
+    @Benchmark
+    public OrderResponseDTO domainToResponse() {
+        return orderMapper.toResponseDTO(order);
+    }
+
+    @Benchmark
+    public OrderEntity domainToEntity() {
+        return persistenceMapper.toEntity(order);
+    }
+
+    @Benchmark
+    public OrderDomain entityToDomain() {
+        return persistenceMapper.toDomain(entity);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ambev.order.benchmark;
+
+import com.ambev.order.application.dto.OrderItemRequestDTO;
+import com.ambev.order.application.dto.OrderRequestDTO;
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderItemDomain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pricing an incoming order: the BigDecimal chain the order path used to run (item total in the mapper,
+ * again in the domain and again in the entity callback, order total in the domain and the entity)
+ * against Money, where each total is computed once in minor units. Compare gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMoneyBenchmark {
+
+    private static final int ITEM_TOTAL_PASSES = 3;
+    private static final int ORDER_TOTAL_PASSES = 2;
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private OrderRequestDTO request;
+    private OrderDomain order;
+
+    @Setup
+    public void setUp() {
+        request = OrderFixtures.request(itemCount);
+        order = OrderFixtures.order(itemCount);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalBaseline() {
+        BigDecimal[] itemTotals = new BigDecimal[request.getItems().size()];
+        for (int pass = 0; pass < ITEM_TOTAL_PASSES; pass++) {
+            for (int i = 0; i < itemTotals.length; i++) {
+                OrderItemRequestDTO item = request.getItems().get(i);
+                itemTotals[i] = item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+            }
+        }
+        BigDecimal total = BigDecimal.ZERO;
+        for (int pass = 0; pass < ORDER_TOTAL_PASSES; pass++) {
+            total = BigDecimal.ZERO;
+            for (BigDecimal itemTotal : itemTotals) {
+                total = total.add(itemTotal);
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money money() {
+        for (OrderItemDomain item : order.getItems()) {
+            item.calculateTotalPrice();
+        }
+        order.calculateTotalAmount();
+        return order.getTotalAmount();
+    }
+}
@@ -0,0 +1,39 @@
+package com.ambev.order.benchmark;
+
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderDomain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderDomain.calculateTotalAmount from a single item up to very large orders
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderTotalBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    private OrderDomain order;
+
+    @Setup
+    public void setUp() {
+        order = OrderFixtures.order(itemCount);
+    }
+
+    @Benchmark
+    public Money calculateTotalAmount() {
+        order.calculateTotalAmount();
+        return order.getTotalAmount();
+    }
+}
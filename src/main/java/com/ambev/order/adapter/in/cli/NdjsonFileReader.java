@@ -0,0 +1,111 @@
+package com.ambev.order.adapter.in.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits an NDJSON file into regions that start and end on line boundaries, and walks the lines of a
+ * region through a read-only memory mapping. Regions are independent, so they can be parsed in parallel;
+ * each one is mapped separately, which also keeps every mapping under the 2 GB MappedByteBuffer limit.
+ */
+class NdjsonFileReader {
+
+    private static final int BOUNDARY_SCAN_SIZE = 64 * 1024;
+
+    /**
+     * A byte range [start, end) of the file holding whole lines
+     */
+    record Region(long start, long end) {
+        long length() {
+            return end - start;
+        }
+    }
+
+    @FunctionalInterface
+    interface LineHandler {
+        /**
+         * @param offset file offset of the line, used to locate rejects
+         * @param line   buffer holding the line without its terminator; only valid during the call
+         * @param length number of bytes of the line in the buffer
+         */
+        void onLine(long offset, byte[] line, int length) throws IOException;
+    }
+
+    private final long regionSize;
+
+    NdjsonFileReader(long regionSize) {
+        if (regionSize <= 0 || regionSize > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Region size must be between 1 byte and 1 GB");
+        }
+        this.regionSize = regionSize;
+    }
+
+    List<Region> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Region> regions = new ArrayList<>();
+        long start = 0;
+        while (start < size) {
+            long end = start + regionSize >= size ? size : nextLineStart(channel, start + regionSize, size);
+            regions.add(new Region(start, end));
+            start = end;
+        }
+        return regions;
+    }
+
+    void readLines(FileChannel channel, Region region, LineHandler handler) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, region.start(), region.length());
+        byte[] line = new byte[8 * 1024];
+        int length = 0;
+        long lineOffset = region.start();
+
+        for (int position = 0; position < buffer.limit(); position++) {
+            byte b = buffer.get(position);
+            if (b == '\n') {
+                emit(handler, lineOffset, line, length);
+                length = 0;
+                lineOffset = region.start() + position + 1;
+            } else {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, line.length * 2);
+                }
+                line[length++] = b;
+            }
+        }
+        emit(handler, lineOffset, line, length);
+    }
+
+    private void emit(LineHandler handler, long offset, byte[] line, int length) throws IOException {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        if (length > 0) {
+            handler.onLine(offset, line, length);
+        }
+    }
+
+    /**
+     * Offset just after the first newline at or after position, or the file size if there is none
+     */
+    private long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        while (position < size) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+}
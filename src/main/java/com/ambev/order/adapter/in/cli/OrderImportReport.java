@@ -0,0 +1,51 @@
+package com.ambev.order.adapter.in.cli;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals of a file import, updated concurrently by the import workers
+ */
+class OrderImportReport {
+
+    private static final long PROGRESS_INTERVAL_NANOS = Duration.ofSeconds(10).toNanos();
+
+    private final long startedAt = System.nanoTime();
+    private final AtomicLong lastProgressAt = new AtomicLong(startedAt);
+
+    final LongAdder read = new LongAdder();
+    final LongAdder created = new LongAdder();
+    final LongAdder duplicates = new LongAdder();
+    final LongAdder rejected = new LongAdder();
+    final LongAdder failedRegions = new LongAdder();
+
+    Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startedAt);
+    }
+
+    long ordersPerMinute() {
+        long millis = Math.max(1, elapsed().toMillis());
+        return read.sum() * 60_000 / millis;
+    }
+
+    /**
+     * True at most once per interval, for the single worker that should log progress
+     */
+    boolean progressDue() {
+        long last = lastProgressAt.get();
+        long now = System.nanoTime();
+        return now - last >= PROGRESS_INTERVAL_NANOS && lastProgressAt.compareAndSet(last, now);
+    }
+
+    @Override
+    public String toString() {
+        return "read=" + read.sum()
+                + ", created=" + created.sum()
+                + ", duplicates=" + duplicates.sum()
+                + ", rejected=" + rejected.sum()
+                + ", failedRegions=" + failedRegions.sum()
+                + ", elapsed=" + elapsed().toSeconds() + "s"
+                + ", rate=" + ordersPerMinute() + " orders/min";
+    }
+}
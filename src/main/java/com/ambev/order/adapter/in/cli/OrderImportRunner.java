@@ -0,0 +1,185 @@
+package com.ambev.order.adapter.in.cli;
+
+import com.ambev.order.application.dto.OrderRequestDTO;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.domain.model.OrderCreationOutcome;
+import com.ambev.order.domain.model.OrderCreationResult;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.port.in.ImportOrdersUseCase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Driving adapter - Imports a back-fill/replay NDJSON file from System A (one order per line, same
+ * shape as the REST body) when started with --order.import.file=/path/to/orders.ndjson.
+ * The file is memory-mapped and split into line-aligned regions parsed in parallel; each batch of
+ * parsed orders is bulk-loaded through ImportOrdersUseCase. Malformed and invalid lines are written
+ * with their file offset to &lt;file&gt;.rejects.ndjson.
+ */
+@Component
+@ConditionalOnProperty(name = "order.import.file")
+@Slf4j
+public class OrderImportRunner implements ApplicationRunner {
+
+    private final ImportOrdersUseCase importOrdersUseCase;
+    private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader orderReader;
+    private final ConfigurableApplicationContext context;
+    private final ReentrantLock rejectsLock = new ReentrantLock();
+
+    @Value("${order.import.file}")
+    private Path file;
+
+    @Value("${order.import.batch-size}")
+    private int batchSize;
+
+    @Value("${order.import.workers}")
+    private int workers;
+
+    @Value("${order.import.region-size}")
+    private DataSize regionSize;
+
+    @Value("${order.import.exit-when-done}")
+    private boolean exitWhenDone;
+
+    public OrderImportRunner(ImportOrdersUseCase importOrdersUseCase,
+                             OrderMapper orderMapper,
+                             ObjectMapper objectMapper,
+                             ConfigurableApplicationContext context) {
+        this.importOrdersUseCase = importOrdersUseCase;
+        this.orderMapper = orderMapper;
+        this.objectMapper = objectMapper;
+        this.orderReader = objectMapper.readerFor(OrderRequestDTO.class);
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        OrderImportReport report = importFile(file);
+        log.info("CLI Adapter: Import of {} finished - {}", file, report);
+
+        if (exitWhenDone) {
+            int exitCode = SpringApplication.exit(context, () -> report.failedRegions.sum() > 0 ? 1 : 0);
+            System.exit(exitCode);
+        }
+    }
+
+    OrderImportReport importFile(Path file) throws IOException, InterruptedException {
+        log.info("CLI Adapter: Importing orders from {} with {} workers", file, workers);
+
+        OrderImportReport report = new OrderImportReport();
+        NdjsonFileReader fileReader = new NdjsonFileReader(regionSize.toBytes());
+        Path rejectsFile = file.resolveSibling(file.getFileName() + ".rejects.ndjson");
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             BufferedWriter rejects = Files.newBufferedWriter(rejectsFile)) {
+            List<Future<?>> regions = new ArrayList<>();
+            for (NdjsonFileReader.Region region : fileReader.split(channel)) {
+                regions.add(executor.submit(() -> {
+                    importRegion(fileReader, channel, region, rejects, report);
+                    return null;
+                }));
+            }
+
+            for (Future<?> region : regions) {
+                try {
+                    region.get();
+                } catch (ExecutionException e) {
+                    report.failedRegions.increment();
+                    log.error("CLI Adapter: Import of a file region failed", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return report;
+    }
+
+    private void importRegion(NdjsonFileReader fileReader, FileChannel channel, NdjsonFileReader.Region region,
+                              BufferedWriter rejects, OrderImportReport report) throws IOException {
+        List<OrderDomain> batch = new ArrayList<>(batchSize);
+        List<Long> offsets = new ArrayList<>(batchSize);
+
+        fileReader.readLines(channel, region, (offset, line, length) -> {
+            report.read.increment();
+            try {
+                OrderRequestDTO request = orderReader.readValue(line, 0, length);
+                batch.add(orderMapper.toDomain(request));
+                offsets.add(offset);
+            } catch (JsonProcessingException e) {
+                reject(rejects, report, offset, "Malformed JSON: " + e.getOriginalMessage());
+            }
+
+            if (batch.size() == batchSize) {
+                importBatch(batch, offsets, rejects, report);
+            }
+        });
+        importBatch(batch, offsets, rejects, report);
+    }
+
+    private void importBatch(List<OrderDomain> batch, List<Long> offsets,
+                             BufferedWriter rejects, OrderImportReport report) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<OrderCreationResult> results = importOrdersUseCase.importOrders(batch);
+        for (int i = 0; i < results.size(); i++) {
+            OrderCreationResult result = results.get(i);
+            if (result.getOutcome() == OrderCreationOutcome.CREATED) {
+                report.created.increment();
+            } else if (result.getOutcome() == OrderCreationOutcome.DUPLICATE) {
+                report.duplicates.increment();
+            } else {
+                reject(rejects, report, offsets.get(i), result.getMessage());
+            }
+        }
+        batch.clear();
+        offsets.clear();
+
+        if (report.progressDue()) {
+            log.info("CLI Adapter: Import progress - {}", report);
+        }
+    }
+
+    private void reject(BufferedWriter rejects, OrderImportReport report, long offset, String reason) throws IOException {
+        report.rejected.increment();
+        String line = objectMapper.writeValueAsString(Map.of("offset", offset, "reason", reason));
+        // A lock rather than a monitor: blocking file I/O inside synchronized would pin a virtual thread
+        rejectsLock.lock();
+        try {
+            rejects.write(line);
+            rejects.newLine();
+        } finally {
+            rejectsLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ambev.order.adapter.in.messaging;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIMD controller for the consumer batch size.
+ * Grows the batch additively while commits stay under the target latency and the batches
+ * come in full, and halves it as soon as a commit is slower than the target.
+ */
+public class AdaptiveBatchSizer {
+
+    private final int minSize;
+    private final int maxSize;
+    private final int step;
+    private final long targetLatencyNanos;
+
+    private volatile int currentSize;
+
+    public AdaptiveBatchSizer(int minSize, int maxSize, long targetLatencyMillis) {
+        if (minSize < 1 || maxSize < minSize) {
+            throw new IllegalArgumentException("Invalid batch size bounds: min=" + minSize + ", max=" + maxSize);
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.step = minSize;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.currentSize = minSize;
+    }
+
+    public int currentSize() {
+        return currentSize;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Records the commit latency of a batch and returns the batch size to use next.
+     */
+    public int onCommit(int batchSize, long latencyNanos) {
+        int size = currentSize;
+        if (latencyNanos > targetLatencyNanos) {
+            size = Math.max(minSize, size / 2);
+        } else if (batchSize >= size) {
+            size = Math.min(maxSize, size + step);
+        }
+        currentSize = size;
+        return size;
+    }
+
+    /**
+     * Records a failed batch, treated like a commit over the target latency.
+     */
+    public int onFailure() {
+        int size = Math.max(minSize, currentSize / 2);
+        currentSize = size;
+        return size;
+    }
+}
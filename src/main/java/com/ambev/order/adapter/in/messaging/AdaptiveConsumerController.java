@@ -0,0 +1,189 @@
+package com.ambev.order.adapter.in.messaging;
+
+import com.ambev.order.adapter.in.messaging.AdaptiveConsumerLimits.Action;
+import com.ambev.order.adapter.in.messaging.AdaptiveConsumerLimits.Decision;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Messaging Adapter - Retunes the order listener's consumer count and prefetch every
+ * order.consumer.adaptive.interval ms from what the database and the broker report: mean Hikari
+ * connection wait and mean flush plus commit time of AMQP orders over the interval (from the Micrometer
+ * timers) and ready messages in the incoming queue. AdaptiveConsumerLimits makes the AIMD decision.
+ * The container's own min/max scaling is pinned to the chosen count. Only the single-message listener
+ * is driven; batch mode sizes its own batches.
+ */
+@Component
+@ConditionalOnExpression("${order.consumer.adaptive.enabled:false} and !${order.consumer.batch.enabled:false}")
+@Slf4j
+public class AdaptiveConsumerController {
+
+    static final String POOL_WAIT_TIMER = "hikaricp.connections.acquire";
+    static final String STAGE_TIMER = "order.create.stage";
+    static final String DECISION_COUNTER = "order.consumer.adaptive.decisions";
+
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final AmqpAdmin amqpAdmin;
+    private final MeterRegistry meterRegistry;
+    private final String incomingQueue;
+    private final AdaptiveConsumerLimits limits;
+
+    private final IntervalMean poolWait = new IntervalMean();
+    private final IntervalMean saveLatency = new IntervalMean();
+    private final IntervalMean commitLatency = new IntervalMean();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private int appliedConsumers;
+    private int appliedMaxConsumers = -1;
+    private int appliedPrefetch;
+    private boolean missingListenerReported;
+
+    public AdaptiveConsumerController(RabbitListenerEndpointRegistry listenerRegistry,
+                                      AmqpAdmin amqpAdmin,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${order.queue.incoming}") String incomingQueue,
+                                      @Value("${order.consumer.adaptive.min-consumers}") int minConsumers,
+                                      @Value("${order.consumer.adaptive.max-consumers}") int maxConsumers,
+                                      @Value("${order.consumer.adaptive.min-prefetch}") int minPrefetch,
+                                      @Value("${order.consumer.adaptive.max-prefetch}") int maxPrefetch,
+                                      @Value("${order.consumer.adaptive.target-pool-wait}") long targetPoolWait,
+                                      @Value("${order.consumer.adaptive.target-commit-latency}") long targetCommitLatency,
+                                      @Value("${order.consumer.concurrency}") int initialConsumers,
+                                      @Value("${order.consumer.prefetch}") int initialPrefetch) {
+        this.listenerRegistry = listenerRegistry;
+        this.amqpAdmin = amqpAdmin;
+        this.meterRegistry = meterRegistry;
+        this.incomingQueue = incomingQueue;
+        this.limits = new AdaptiveConsumerLimits(minConsumers, maxConsumers, minPrefetch, maxPrefetch,
+                targetPoolWait, targetCommitLatency, initialConsumers, initialPrefetch);
+        this.appliedConsumers = limits.consumers();
+        this.appliedPrefetch = initialPrefetch;
+
+        Gauge.builder("order.consumer.adaptive.consumers", limits, AdaptiveConsumerLimits::consumers)
+                .description("Consumer count chosen for the order listener").register(meterRegistry);
+        Gauge.builder("order.consumer.adaptive.prefetch", limits, AdaptiveConsumerLimits::prefetch)
+                .description("Prefetch chosen for the order listener").register(meterRegistry);
+        Gauge.builder("order.consumer.adaptive.queue-depth", queueDepth, AtomicLong::get)
+                .description("Ready messages in the incoming queue at the last sample").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.consumer.adaptive.interval}",
+            initialDelayString = "${order.consumer.adaptive.interval}")
+    public void adjust() {
+        if (!(listenerRegistry.getListenerContainer(RabbitMQConsumerAdapter.LISTENER_ID)
+                instanceof SimpleMessageListenerContainer container)) {
+            if (!missingListenerReported) {
+                log.warn("Messaging Adapter: Listener {} not found, order consumers are not being adjusted",
+                        RabbitMQConsumerAdapter.LISTENER_ID);
+                missingListenerReported = true;
+            }
+            return;
+        }
+        if (!container.isRunning()) {
+            return;
+        }
+
+        // Inserts are flushed in the save stage, so both stages make up the time spent writing
+        long wait = poolWait.sample(meterRegistry.find(POOL_WAIT_TIMER).timers());
+        long commit = saveLatency.sample(stageTimers("save")) + commitLatency.sample(stageTimers("commit"));
+        long depth = readyMessages();
+        queueDepth.set(depth);
+
+        Decision decision = limits.onSample(wait, commit, depth);
+        apply(container, decision);
+
+        Counter.builder(DECISION_COUNTER)
+                .description("Consumer limit decisions, by action and the signal that drove them")
+                .tag("action", tagValue(decision.action()))
+                .tag("signal", tagValue(decision.signal()))
+                .register(meterRegistry)
+                .increment();
+
+        if (decision.action() != Action.HOLD) {
+            log.info("Messaging Adapter: {} order consumers to {}, prefetch to {} ({}: pool wait {} ms, save and commit {} ms, {} ready)",
+                    decision.action(), decision.consumers(), decision.prefetch(), decision.signal(),
+                    TimeUnit.NANOSECONDS.toMillis(wait), TimeUnit.NANOSECONDS.toMillis(commit), depth);
+        }
+    }
+
+    /**
+     * Max is raised before and lowered after the consumer count, which must never exceed it.
+     * The first call also pins max to the count, taking scaling away from the container.
+     * The container hands its prefetch only to consumers it starts, so a new prefetch is set before
+     * the count changes and reaches the consumers that change starts.
+     */
+    private void apply(SimpleMessageListenerContainer container, Decision decision) {
+        if (decision.prefetch() != appliedPrefetch) {
+            container.setPrefetchCount(decision.prefetch());
+            appliedPrefetch = decision.prefetch();
+        }
+
+        int consumers = decision.consumers();
+        if (consumers > appliedConsumers) {
+            container.setMaxConcurrentConsumers(consumers);
+            container.setConcurrentConsumers(consumers);
+        } else if (consumers < appliedConsumers || consumers != appliedMaxConsumers) {
+            container.setConcurrentConsumers(consumers);
+            container.setMaxConcurrentConsumers(consumers);
+        }
+        appliedConsumers = consumers;
+        appliedMaxConsumers = consumers;
+    }
+
+    private Collection<Timer> stageTimers(String stage) {
+        return meterRegistry.find(STAGE_TIMER).tag("stage", stage).tag("channel", "amqp").timers();
+    }
+
+    private long readyMessages() {
+        try {
+            QueueInformation queue = amqpAdmin.getQueueInfo(incomingQueue);
+            return queue != null ? queue.getMessageCount() : 0;
+        } catch (AmqpException e) {
+            log.debug("Messaging Adapter: Could not read depth of {}: {}", incomingQueue, e.getMessage());
+            return 0;
+        }
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Mean of a set of cumulative timers over the time since the previous sample
+     */
+    static final class IntervalMean {
+
+        private long lastCount;
+        private double lastTotalNanos;
+
+        long sample(Collection<Timer> timers) {
+            long count = 0;
+            double totalNanos = 0;
+            for (Timer timer : timers) {
+                count += timer.count();
+                totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+            }
+            long intervalCount = count - lastCount;
+            double intervalNanos = totalNanos - lastTotalNanos;
+            lastCount = count;
+            lastTotalNanos = totalNanos;
+            return intervalCount > 0 ? (long) (intervalNanos / intervalCount) : 0;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ambev.order.adapter.in.messaging;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIMD controller for the consumer count and prefetch of the order listener.
+ * Both limits are halved as soon as the database shows saturation (connection pool wait or write
+ * latency over target), grown by one step while messages are waiting in the queue and the database
+ * keeps up, and held otherwise.
+ */
+public class AdaptiveConsumerLimits {
+
+    public enum Action { INCREASE, DECREASE, HOLD }
+
+    /**
+     * The signal that drove a decision
+     */
+    public enum Signal { POOL_WAIT, COMMIT_LATENCY, BACKLOG, NONE }
+
+    public record Decision(int consumers, int prefetch, Action action, Signal signal) {
+    }
+
+    private final int minConsumers;
+    private final int maxConsumers;
+    private final int minPrefetch;
+    private final int maxPrefetch;
+    private final int prefetchStep;
+    private final long targetPoolWaitNanos;
+    private final long targetCommitLatencyNanos;
+
+    private volatile int consumers;
+    private volatile int prefetch;
+
+    public AdaptiveConsumerLimits(int minConsumers, int maxConsumers, int minPrefetch, int maxPrefetch,
+                                  long targetPoolWaitMillis, long targetCommitLatencyMillis,
+                                  int initialConsumers, int initialPrefetch) {
+        if (minConsumers < 1 || maxConsumers < minConsumers) {
+            throw new IllegalArgumentException("Invalid consumer bounds: min=" + minConsumers + ", max=" + maxConsumers);
+        }
+        if (minPrefetch < 1 || maxPrefetch < minPrefetch) {
+            throw new IllegalArgumentException("Invalid prefetch bounds: min=" + minPrefetch + ", max=" + maxPrefetch);
+        }
+        this.minConsumers = minConsumers;
+        this.maxConsumers = maxConsumers;
+        this.minPrefetch = minPrefetch;
+        this.maxPrefetch = maxPrefetch;
+        this.prefetchStep = minPrefetch;
+        this.targetPoolWaitNanos = TimeUnit.MILLISECONDS.toNanos(targetPoolWaitMillis);
+        this.targetCommitLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetCommitLatencyMillis);
+        this.consumers = clamp(initialConsumers, minConsumers, maxConsumers);
+        this.prefetch = clamp(initialPrefetch, minPrefetch, maxPrefetch);
+    }
+
+    public int consumers() {
+        return consumers;
+    }
+
+    public int prefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Records one sampling interval and returns the limits to use next.
+     *
+     * @param poolWaitNanos      mean connection acquire time over the interval
+     * @param commitLatencyNanos mean flush plus commit time of consumed orders over the interval
+     * @param queueDepth         messages ready in the incoming queue
+     */
+    public Decision onSample(long poolWaitNanos, long commitLatencyNanos, long queueDepth) {
+        if (poolWaitNanos > targetPoolWaitNanos) {
+            return decrease(Signal.POOL_WAIT);
+        }
+        if (commitLatencyNanos > targetCommitLatencyNanos) {
+            return decrease(Signal.COMMIT_LATENCY);
+        }
+        if (queueDepth > consumers && (consumers < maxConsumers || prefetch < maxPrefetch)) {
+            consumers = Math.min(maxConsumers, consumers + 1);
+            prefetch = Math.min(maxPrefetch, prefetch + prefetchStep);
+            return new Decision(consumers, prefetch, Action.INCREASE, Signal.BACKLOG);
+        }
+        return new Decision(consumers, prefetch, Action.HOLD, Signal.NONE);
+    }
+
+    private Decision decrease(Signal signal) {
+        consumers = Math.max(minConsumers, consumers / 2);
+        prefetch = Math.max(minPrefetch, prefetch / 2);
+        return new Decision(consumers, prefetch, Action.DECREASE, signal);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
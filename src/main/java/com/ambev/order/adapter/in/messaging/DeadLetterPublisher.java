@@ -0,0 +1,120 @@
+package com.ambev.order.adapter.in.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Parks messages that can never be processed (unreadable or invalid), or that failed on every allowed
+ * delivery (see DeliveryAttempts), on order.queue.dead-letter. The original
+ * body is republished through the default exchange straight to the DLQ (one hop, no retry loop on the incoming
+ * queue) with headers describing the failure. park returns only once the broker has confirmed the copy, so the
+ * caller can then ack the original delivery; a failed, nacked or unconfirmed publish throws AmqpException and
+ * the delivery is requeued rather than lost.
+ */
+@Component
+@Slf4j
+public class DeadLetterPublisher {
+
+    public static final String REASON_HEADER = "x-order-failure-reason";
+    public static final String EXCEPTION_HEADER = "x-exception-class";
+    public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+    public static final String ORIGINAL_QUEUE_HEADER = "x-original-queue";
+    public static final String FAILED_AT_HEADER = "x-failed-at";
+
+    private static final int MAX_EXCEPTION_MESSAGE_LENGTH = 1000;
+
+    public enum Reason {
+        /**
+         * Not a JSON OrderRequestDTO
+         */
+        UNREADABLE,
+        /**
+         * Readable but rejected by validation, by Money overflow or by a database constraint;
+         * redelivering it can never succeed
+         */
+        INVALID,
+        /**
+         * Failed for another reason on each of order.consumer.max-deliveries deliveries
+         */
+        RETRIES_EXHAUSTED
+    }
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String deadLetterQueue;
+    private final long confirmTimeout;
+    private final Map<Reason, Counter> parked = new EnumMap<>(Reason.class);
+
+    public DeadLetterPublisher(RabbitTemplate rabbitTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${order.queue.dead-letter}") String deadLetterQueue,
+                               @Value("${order.publisher.confirm-timeout}") long confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.deadLetterQueue = deadLetterQueue;
+        this.confirmTimeout = confirmTimeout;
+        for (Reason reason : Reason.values()) {
+            parked.put(reason, Counter.builder("order.messages.dead-lettered")
+                    .tag("reason", reason.name().toLowerCase())
+                    .description("Incoming order messages parked on the dead-letter queue")
+                    .register(meterRegistry));
+        }
+    }
+
+    public void park(Message message, Reason reason, Throwable cause) {
+        var properties = message.getMessageProperties();
+        log.warn("Messaging Adapter: Parking delivery {} on {} ({}): {}",
+                properties.getDeliveryTag(), deadLetterQueue, reason, cause.getMessage());
+
+        Message deadLetter = MessageBuilder.withBody(message.getBody())
+                .copyProperties(properties)
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setHeader(REASON_HEADER, reason.name())
+                .setHeader(EXCEPTION_HEADER, cause.getClass().getName())
+                .setHeader(EXCEPTION_MESSAGE_HEADER, truncate(cause.getMessage()))
+                .setHeader(ORIGINAL_QUEUE_HEADER, properties.getConsumerQueue())
+                .setHeader(FAILED_AT_HEADER, Instant.now().toString())
+                .build();
+
+        CorrelationData correlationData = new CorrelationData();
+        rabbitTemplate.send("", deadLetterQueue, deadLetter, correlationData);
+        awaitConfirm(correlationData);
+        parked.get(reason).increment();
+    }
+
+    private void awaitConfirm(CorrelationData correlationData) {
+        CorrelationData.Confirm confirm;
+        try {
+            confirm = correlationData.getFuture().get(confirmTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            throw new AmqpException("Dead letter not confirmed by broker", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted waiting for dead letter confirm", e);
+        }
+        if (!confirm.isAck()) {
+            throw new AmqpException("Dead letter nacked by broker: " + confirm.getReason());
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_EXCEPTION_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
+    }
+}
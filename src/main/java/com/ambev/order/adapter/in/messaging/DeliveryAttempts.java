@@ -0,0 +1,62 @@
+package com.ambev.order.adapter.in.messaging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Counts the failed deliveries of incoming messages, so one that keeps failing is parked after
+ * order.consumer.max-deliveries attempts instead of being requeued forever. Quorum queues report the
+ * count in x-delivery-count; classic queues only set the redelivered flag, so there the failures are
+ * counted on this node, keyed by message ID (or body hash when the publisher sets none).
+ */
+@Component
+public class DeliveryAttempts {
+
+    static final String DELIVERY_COUNT_HEADER = "x-delivery-count";
+
+    private final int maxDeliveries;
+    private final Cache<String, Integer> failures = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public DeliveryAttempts(@Value("${order.consumer.max-deliveries}") int maxDeliveries) {
+        this.maxDeliveries = maxDeliveries;
+    }
+
+    /**
+     * Records a failed delivery; true once the message has failed max-deliveries times
+     */
+    public boolean recordFailure(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        if (properties.getHeader(DELIVERY_COUNT_HEADER) instanceof Number previousDeliveries) {
+            return previousDeliveries.longValue() + 1 >= maxDeliveries;
+        }
+
+        String key = key(message);
+        int attempts = Boolean.TRUE.equals(properties.getRedelivered())
+                ? failures.asMap().merge(key, 1, Integer::sum)
+                : 1;
+        if (attempts >= maxDeliveries) {
+            failures.invalidate(key);
+            return true;
+        }
+        if (attempts == 1) {
+            failures.put(key, 1);
+        }
+        return false;
+    }
+
+    private static String key(Message message) {
+        String messageId = message.getMessageProperties().getMessageId();
+        return messageId != null ? messageId
+                : "body:" + message.getBody().length + ":" + Arrays.hashCode(message.getBody());
+    }
+}
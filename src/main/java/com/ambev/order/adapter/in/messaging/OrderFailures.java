@@ -0,0 +1,24 @@
+package com.ambev.order.adapter.in.messaging;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+/**
+ * Tells failures that the same message hits on every delivery (it can only be parked) from the ones
+ * a redelivery may get past (database, Redis or pool outages)
+ */
+final class OrderFailures {
+
+    private OrderFailures() {
+    }
+
+    /**
+     * Validation errors, amounts that overflow Money, and rows the database rejects for a reason other
+     * than a duplicate key (e.g. a total that does not fit DECIMAL(10,2))
+     */
+    static boolean isInvalidOrder(Throwable failure) {
+        return failure instanceof IllegalArgumentException
+                || failure instanceof ArithmeticException
+                || failure instanceof DataIntegrityViolationException && !(failure instanceof DuplicateKeyException);
+    }
+}
@@ -0,0 +1,62 @@
+package com.ambev.order.adapter.in.messaging;
+
+import com.ambev.order.adapter.in.messaging.DeadLetterPublisher.Reason;
+import com.ambev.order.application.dto.OrderRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.Getter;
+import org.springframework.amqp.core.Message;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Reads an OrderRequestDTO straight from the AMQP body bytes with a reader built once, then applies the
+ * same bean validation the REST endpoints get through @Valid
+ */
+@Component
+public class OrderMessageDecoder {
+
+    private final ObjectReader orderReader;
+    private final Validator validator;
+
+    public OrderMessageDecoder(ObjectMapper objectMapper, Validator validator) {
+        this.orderReader = objectMapper.readerFor(OrderRequestDTO.class);
+        this.validator = validator;
+    }
+
+    public OrderRequestDTO decode(Message message) throws UndecodableMessageException {
+        OrderRequestDTO orderRequest;
+        try {
+            orderRequest = orderReader.readValue(message.getBody());
+        } catch (IOException e) {
+            throw new UndecodableMessageException(Reason.UNREADABLE, e);
+        }
+        if (orderRequest == null) {
+            throw new UndecodableMessageException(Reason.UNREADABLE,
+                    new IllegalArgumentException("Order message body is JSON null"));
+        }
+
+        var violations = validator.validate(orderRequest);
+        if (!violations.isEmpty()) {
+            throw new UndecodableMessageException(Reason.INVALID, new ConstraintViolationException(violations));
+        }
+        return orderRequest;
+    }
+
+    /**
+     * The message can never be processed; the cause says why
+     */
+    @Getter
+    public static class UndecodableMessageException extends Exception {
+
+        private final Reason reason;
+
+        UndecodableMessageException(Reason reason, Exception cause) {
+            super(cause.getMessage(), cause);
+            this.reason = reason;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.ambev.order.adapter.in.messaging;
+
+import com.ambev.order.adapter.in.messaging.DeadLetterPublisher.Reason;
+import com.ambev.order.adapter.in.messaging.OrderMessageDecoder.UndecodableMessageException;
+import com.ambev.order.application.exception.DuplicateOrderException;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.model.OrderCreationOutcome;
+import com.ambev.order.domain.model.OrderCreationResult;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.port.in.CreateOrderUseCase;
+import com.rabbitmq.client.Channel;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Messaging Adapter - Receives batches of messages from RabbitMQ and persists them in one transaction.
+ * Messages are acknowledged manually: unreadable and invalid ones (see OrderFailures) are parked on the
+ * dead-letter queue and the whole batch is settled with a single multiple-ack. Orders that fail for any other
+ * reason (database, Redis or pool outages) are nacked for requeue until DeliveryAttempts reports they have
+ * failed too often, and then parked; a delivery that could not be parked is requeued as well.
+ */
+@Component
+@ConditionalOnProperty(name = "order.consumer.batch.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class RabbitMQBatchConsumerAdapter {
+
+    static final String LISTENER_ID = "orderBatchListener";
+
+    private final CreateOrderUseCase createOrderUseCase;
+    private final OrderMessageDecoder decoder;
+    private final OrderMapper orderMapper;
+    private final DeadLetterPublisher deadLetters;
+    private final DeliveryAttempts deliveryAttempts;
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+
+    @Value("${order.consumer.batch.min-size}")
+    private int minBatchSize;
+
+    @Value("${order.consumer.batch.max-size}")
+    private int maxBatchSize;
+
+    @Value("${order.consumer.batch.target-commit-latency}")
+    private long targetCommitLatency;
+
+    private AdaptiveBatchSizer batchSizer;
+
+    @PostConstruct
+    void init() {
+        batchSizer = new AdaptiveBatchSizer(minBatchSize, maxBatchSize, targetCommitLatency);
+    }
+
+    @RabbitListener(id = LISTENER_ID, queues = "${order.queue.incoming}",
+            containerFactory = "batchRabbitListenerContainerFactory")
+    public void consumeOrdersFromExternalSystem(List<Message> messages, Channel channel) throws IOException {
+        log.info("Messaging Adapter: Received batch of {} orders from external system A", messages.size());
+
+        List<OrderDomain> orders = new ArrayList<>(messages.size());
+        List<Message> orderMessages = new ArrayList<>(messages.size());
+        long lastAckTag = -1;
+
+        for (Message message : messages) {
+            try {
+                orders.add(orderMapper.toDomain(decoder.decode(message)));
+                orderMessages.add(message);
+            } catch (UndecodableMessageException e) {
+                lastAckTag = Math.max(lastAckTag, park(message, e.getReason(), e.getCause(), channel));
+            } catch (RuntimeException e) {
+                // Mapping is deterministic (e.g. an amount Money cannot hold): it would fail on every delivery
+                lastAckTag = Math.max(lastAckTag, park(message, Reason.INVALID, e, channel));
+            }
+        }
+
+        if (!orders.isEmpty()) {
+            long start = System.nanoTime();
+            try {
+                List<OrderCreationResult> results = createOrderUseCase.createOrders(orders, IngestChannel.AMQP);
+                resize(batchSizer.onCommit(messages.size(), System.nanoTime() - start));
+
+                for (int i = 0; i < results.size(); i++) {
+                    Message message = orderMessages.get(i);
+                    if (results.get(i).getOutcome() == OrderCreationOutcome.INVALID) {
+                        lastAckTag = Math.max(lastAckTag, park(message, Reason.INVALID,
+                                new IllegalArgumentException(results.get(i).getMessage()), channel));
+                    } else {
+                        lastAckTag = Math.max(lastAckTag, message.getMessageProperties().getDeliveryTag());
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Messaging Adapter: Batch transaction failed, falling back to one transaction per order", e);
+                resize(batchSizer.onFailure());
+                lastAckTag = Math.max(lastAckTag, processIndividually(orders, orderMessages, channel));
+            }
+        }
+
+        if (lastAckTag >= 0) {
+            channel.basicAck(lastAckTag, true);
+        }
+
+        log.info("Messaging Adapter: Batch processed from queue, next batch size: {}", batchSizer.currentSize());
+    }
+
+    private long processIndividually(List<OrderDomain> orders, List<Message> orderMessages, Channel channel) throws IOException {
+        long lastAckTag = -1;
+        for (int i = 0; i < orders.size(); i++) {
+            Message message = orderMessages.get(i);
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            try {
+                createOrderUseCase.createOrder(orders.get(i), IngestChannel.AMQP);
+                lastAckTag = deliveryTag;
+            } catch (DuplicateOrderException e) {
+                log.warn("Messaging Adapter: Duplicate order in delivery {}: {}", deliveryTag, e.getMessage());
+                lastAckTag = deliveryTag;
+            } catch (Exception e) {
+                if (OrderFailures.isInvalidOrder(e)) {
+                    lastAckTag = Math.max(lastAckTag, park(message, Reason.INVALID, e, channel));
+                } else if (deliveryAttempts.recordFailure(message)) {
+                    log.error("Messaging Adapter: Order in delivery {} failed on every delivery, parking it", deliveryTag, e);
+                    lastAckTag = Math.max(lastAckTag, park(message, Reason.RETRIES_EXHAUSTED, e, channel));
+                } else {
+                    log.error("Messaging Adapter: Error processing order in delivery {}, requeueing it", deliveryTag, e);
+                    channel.basicNack(deliveryTag, false, true);
+                }
+            }
+        }
+        return lastAckTag;
+    }
+
+    /**
+     * Returns the delivery tag to include in the batch ack, or -1 when the delivery was nacked for requeue
+     * because the dead-letter publish failed
+     */
+    private long park(Message message, Reason reason, Throwable cause, Channel channel) throws IOException {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        try {
+            deadLetters.park(message, reason, cause);
+            return deliveryTag;
+        } catch (AmqpException e) {
+            log.error("Messaging Adapter: Could not park delivery {}, requeueing it", deliveryTag, e);
+            channel.basicNack(deliveryTag, false, true);
+            return -1;
+        }
+    }
+
+    private void resize(int batchSize) {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        if (container instanceof SimpleMessageListenerContainer simpleContainer) {
+            simpleContainer.setBatchSize(batchSize);
+        }
+    }
+}
@@ -1,41 +1,67 @@
 package com.ambev.order.adapter.in.messaging;
 
-import com.ambev.order.domain.port.in.CreateOrderUseCase;
+import com.ambev.order.adapter.in.messaging.DeadLetterPublisher.Reason;
+import com.ambev.order.adapter.in.messaging.OrderMessageDecoder.UndecodableMessageException;
 import com.ambev.order.application.dto.OrderRequestDTO;
+import com.ambev.order.application.exception.DuplicateOrderException;
 import com.ambev.order.application.mapper.OrderMapper;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.port.in.CreateOrderUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
- * Messaging Adapter - Receives messages from RabbitMQ and delegates to domain use cases
+ * Messaging Adapter - Receives messages from RabbitMQ and delegates to domain use cases.
+ * Messages that cannot be decoded or are invalid (see OrderFailures) are parked on the dead-letter queue and
+ * acked, so a poison message is never redelivered to this consumer. Any other failure (database, Redis or pool
+ * outage) propagates and the container requeues the delivery, until DeliveryAttempts reports the message has
+ * failed too often; it is then parked as well.
  */
 @Component
+@ConditionalOnProperty(name = "order.consumer.batch.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class RabbitMQConsumerAdapter {
 
+    static final String LISTENER_ID = "orderListener";
+
     private final CreateOrderUseCase createOrderUseCase;
-    private final ObjectMapper objectMapper;
+    private final OrderMessageDecoder decoder;
     private final OrderMapper orderMapper;
+    private final DeadLetterPublisher deadLetters;
+    private final DeliveryAttempts deliveryAttempts;
 
-    @RabbitListener(queues = "${order.queue.incoming}")
-    public void consumeOrderFromExternalSystem(String message) {
-        try {
-            log.info("Messaging Adapter: Received order from external system A");
-
-            OrderRequestDTO orderRequest = objectMapper.readValue(message, OrderRequestDTO.class);
-            var orderDomain = orderMapper.toDomain(orderRequest);
+    @RabbitListener(id = LISTENER_ID, queues = "${order.queue.incoming}")
+    public void consumeOrderFromExternalSystem(Message message) {
+        log.info("Messaging Adapter: Received order from external system A");
 
-            createOrderUseCase.createOrder(orderDomain);
+        OrderRequestDTO orderRequest;
+        try {
+            orderRequest = decoder.decode(message);
+        } catch (UndecodableMessageException e) {
+            deadLetters.park(message, e.getReason(), e.getCause());
+            return;
+        }
 
+        try {
+            createOrderUseCase.createOrder(orderMapper.toDomain(orderRequest), IngestChannel.AMQP);
             log.info("Messaging Adapter: Order processed successfully from queue");
-        } catch (Exception e) {
-            log.error("Messaging Adapter: Error processing order from queue", e);
-            // Here you could implement DLQ (Dead Letter Queue) logic
+        } catch (DuplicateOrderException e) {
+            log.warn("Messaging Adapter: Duplicate order {} ignored", orderRequest.getExternalId());
+        } catch (RuntimeException e) {
+            if (OrderFailures.isInvalidOrder(e)) {
+                deadLetters.park(message, Reason.INVALID, e);
+            } else if (deliveryAttempts.recordFailure(message)) {
+                log.error("Messaging Adapter: Order {} failed on every delivery, parking it", orderRequest.getExternalId(), e);
+                deadLetters.park(message, Reason.RETRIES_EXHAUSTED, e);
+            } else {
+                log.error("Messaging Adapter: Error processing order {} from queue, requeueing it", orderRequest.getExternalId(), e);
+                throw e;
+            }
         }
     }
 }
-
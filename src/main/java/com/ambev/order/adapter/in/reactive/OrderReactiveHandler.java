@@ -0,0 +1,136 @@
+package com.ambev.order.adapter.in.reactive;
+
+import com.ambev.order.application.cache.RenderedOrderCache;
+import com.ambev.order.application.cache.RenderedOrderCache.RenderedOrder;
+import com.ambev.order.application.exception.ErrorResponse;
+import com.ambev.order.application.exception.InvalidCursorException;
+import com.ambev.order.application.exception.OrderNotFoundException;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.ambev.order.domain.port.in.ReactiveQueryOrderUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reactive REST Adapter - System B read endpoints served from event-loop threads by OrderReactiveServer.
+ * Same paths and JSON as the matching OrderRestAdapter endpoints; every handler is non-blocking
+ * end to end (ReactiveQueryOrderUseCase over R2DBC).
+ */
+@Component
+@ConditionalOnProperty(name = "order.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderReactiveHandler {
+
+    private static final int MAX_SLICE_SIZE = 100;
+    private static final int DEFAULT_SLICE_SIZE = 20;
+
+    private final ReactiveQueryOrderUseCase queryOrderUseCase;
+    private final OrderMapper orderMapper;
+    private final RenderedOrderCache renderedOrderCache;
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .path("/api/v1/orders", orders -> orders
+                        .GET("/keyset", this::getAllOrdersByCursor)
+                        .GET("/status/{status}/keyset", this::getOrdersByStatusAndCursor)
+                        .GET("/external/{externalId}", this::getOrderByExternalId)
+                        .GET("/{id}", this::getOrderById))
+                .onError(OrderNotFoundException.class, (e, request) -> error(HttpStatus.NOT_FOUND, "Not Found", e, request))
+                .onError(InvalidCursorException.class, (e, request) -> error(HttpStatus.BAD_REQUEST, "Bad Request", e, request))
+                .onError(IllegalArgumentException.class, (e, request) -> error(HttpStatus.BAD_REQUEST, "Bad Request", e, request))
+                .onError(Exception.class, this::unexpectedError)
+                .build();
+    }
+
+    Mono<ServerResponse> getOrderById(ServerRequest request) {
+        return Mono.defer(() -> {
+            UUID id = UUID.fromString(request.pathVariable("id"));
+            log.debug("REST Adapter: Fetching order by ID (reactive): {}", id);
+            RenderedOrder cached = renderedOrderCache.findById(id);
+            return cached != null ? Mono.just(cached) : queryOrderUseCase.findById(id).map(renderedOrderCache::render);
+        }).flatMap(rendered -> ok(rendered, request));
+    }
+
+    Mono<ServerResponse> getOrderByExternalId(ServerRequest request) {
+        return Mono.defer(() -> {
+            String externalId = request.pathVariable("externalId");
+            log.debug("REST Adapter: Fetching order by external ID (reactive): {}", externalId);
+            RenderedOrder cached = renderedOrderCache.findByExternalId(externalId);
+            return cached != null ? Mono.just(cached) : queryOrderUseCase.findByExternalId(externalId).map(renderedOrderCache::render);
+        }).flatMap(rendered -> ok(rendered, request));
+    }
+
+    Mono<ServerResponse> getAllOrdersByCursor(ServerRequest request) {
+        return Mono.defer(() -> {
+            log.debug("REST Adapter: Fetching orders after cursor (reactive)");
+            return queryOrderUseCase.findAllAfter(orderMapper.decodeCursor(cursor(request)), sliceSize(request));
+        }).flatMap(slice -> ok(orderMapper.toSliceResponseDTO(slice)));
+    }
+
+    Mono<ServerResponse> getOrdersByStatusAndCursor(ServerRequest request) {
+        return Mono.defer(() -> {
+            OrderStatusDomain status = OrderStatusDomain.valueOf(request.pathVariable("status"));
+            log.debug("REST Adapter: Fetching orders by status: {} after cursor (reactive)", status);
+            return queryOrderUseCase.findByStatusAfter(status, orderMapper.decodeCursor(cursor(request)), sliceSize(request));
+        }).flatMap(slice -> ok(orderMapper.toSliceResponseDTO(slice)));
+    }
+
+    private String cursor(ServerRequest request) {
+        return request.queryParam("cursor").orElse(null);
+    }
+
+    private int sliceSize(ServerRequest request) {
+        int size = request.queryParam("size").map(Integer::parseInt).orElse(DEFAULT_SLICE_SIZE);
+        return Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+    }
+
+    private Mono<ServerResponse> ok(Object body) {
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+
+    /**
+     * Pre-rendered bytes go out as they are, same negotiation as OrderRestAdapter
+     */
+    private Mono<ServerResponse> ok(RenderedOrder rendered, ServerRequest request) {
+        var response = ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (rendered.hasGzip() && RenderedOrderCache.acceptsGzip(request.headers().firstHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").bodyValue(rendered.gzip());
+        }
+        return response.bodyValue(rendered.json());
+    }
+
+    private Mono<ServerResponse> unexpectedError(Throwable e, ServerRequest request) {
+        log.error("Unexpected error: ", e);
+        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErrorResponse(LocalDateTime.now(), HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                        "Internal Server Error", "An unexpected error occurred", request.path()));
+    }
+
+    /**
+     * Same ErrorResponse body GlobalExceptionHandler returns on the servlet side
+     */
+    private Mono<ServerResponse> error(HttpStatus status, String error, Throwable e, ServerRequest request) {
+        log.error("{}: {}", error, e.getMessage());
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErrorResponse(LocalDateTime.now(), status.value(), error, e.getMessage(), request.path()));
+    }
+}
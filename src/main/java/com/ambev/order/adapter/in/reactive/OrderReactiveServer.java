@@ -0,0 +1,60 @@
+package com.ambev.order.adapter.in.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+/**
+ * Runs the reactive read endpoints on their own Reactor Netty server (order.reactive.port), next to
+ * Tomcat: the application stays a servlet app for the blocking write path, while System B polls are
+ * multiplexed over a handful of event-loop threads (one per core by default, reactor.netty.ioWorkerCount).
+ */
+@Component
+@ConditionalOnProperty(name = "order.reactive.enabled", havingValue = "true")
+@Slf4j
+public class OrderReactiveServer implements SmartLifecycle {
+
+    private final WebServer webServer;
+    private volatile boolean running;
+
+    public OrderReactiveServer(OrderReactiveHandler handler,
+                               ObjectMapper objectMapper,
+                               @Value("${order.reactive.port}") int port) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(handler.routes(), strategies);
+        this.webServer = new NettyReactiveWebServerFactory(port).getWebServer(httpHandler);
+    }
+
+    @Override
+    public void start() {
+        webServer.start();
+        running = true;
+        log.info("REST Adapter: Reactive read endpoints listening on port {}", webServer.getPort());
+    }
+
+    @Override
+    public void stop() {
+        webServer.stop();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
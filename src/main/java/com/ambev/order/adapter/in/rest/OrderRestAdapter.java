@@ -1,11 +1,25 @@
 package com.ambev.order.adapter.in.rest;
 
+import com.ambev.order.application.cache.RenderedOrderCache;
+import com.ambev.order.application.cache.RenderedOrderCache.RenderedOrder;
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.model.OrderExportFilter;
+import com.ambev.order.domain.model.OrderStatsGranularity;
 import com.ambev.order.domain.model.OrderStatusDomain;
 import com.ambev.order.domain.port.in.CreateOrderUseCase;
+import com.ambev.order.domain.port.in.OrderStatsUseCase;
 import com.ambev.order.domain.port.in.QueryOrderUseCase;
+import com.ambev.order.application.dto.OrderBatchRequestDTO;
+import com.ambev.order.application.dto.OrderBatchResponseDTO;
 import com.ambev.order.application.dto.OrderRequestDTO;
 import com.ambev.order.application.dto.OrderResponseDTO;
+import com.ambev.order.application.dto.OrderSliceResponseDTO;
+import com.ambev.order.application.dto.OrderStatsResponseDTO;
 import com.ambev.order.application.mapper.OrderMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,10 +34,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -38,7 +60,13 @@ public class OrderRestAdapter {
 
     private final CreateOrderUseCase createOrderUseCase;
     private final QueryOrderUseCase queryOrderUseCase;
+    private final OrderStatsUseCase orderStatsUseCase;
     private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+    private final RenderedOrderCache renderedOrderCache;
+
+    private static final int MAX_SLICE_SIZE = 100;
+    private static final String NDJSON = "application/x-ndjson";
 
     @PostMapping
     @Operation(summary = "Create a new order",
@@ -49,14 +77,37 @@ public class OrderRestAdapter {
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
             @ApiResponse(responseCode = "409", description = "Duplicate order detected")
     })
-    public ResponseEntity<OrderResponseDTO> createOrder(@Valid @RequestBody OrderRequestDTO requestDTO) {
+    public ResponseEntity<byte[]> createOrder(@Valid @RequestBody OrderRequestDTO requestDTO) {
         log.info("REST Adapter: Creating order with external ID: {}", requestDTO.getExternalId());
 
         var orderDomain = orderMapper.toDomain(requestDTO);
-        var createdOrder = createOrderUseCase.createOrder(orderDomain);
-        var response = orderMapper.toResponseDTO(createdOrder);
+        var createdOrder = createOrderUseCase.createOrder(orderDomain, IngestChannel.REST);
+        // Rendered once at completion: the same bytes answer this request and the GETs that follow
+        var rendered = renderedOrderCache.render(createdOrder);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(rendered.json());
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create orders in batch",
+            description = "Receives up to " + OrderBatchRequestDTO.MAX_BATCH_SIZE + " orders from External System A " +
+                    "and persists them in a single transaction. Returns one result per order " +
+                    "(CREATED, DUPLICATE or INVALID), in request order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed",
+                    content = @Content(schema = @Schema(implementation = OrderBatchResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    })
+    public ResponseEntity<OrderBatchResponseDTO> createOrders(@Valid @RequestBody OrderBatchRequestDTO requestDTO) {
+        log.info("REST Adapter: Creating batch of {} orders", requestDTO.getOrders().size());
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        var orderDomains = orderMapper.toDomainList(requestDTO);
+        var results = createOrderUseCase.createOrders(orderDomains, IngestChannel.REST);
+        var response = orderMapper.toBatchResponseDTO(results);
+
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
@@ -67,14 +118,17 @@ public class OrderRestAdapter {
                     content = @Content(schema = @Schema(implementation = OrderResponseDTO.class))),
             @ApiResponse(responseCode = "404", description = "Order not found")
     })
-    public ResponseEntity<OrderResponseDTO> getOrderById(
-            @Parameter(description = "Order UUID") @PathVariable UUID id) {
+    public ResponseEntity<byte[]> getOrderById(
+            @Parameter(description = "Order UUID") @PathVariable UUID id,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("REST Adapter: Fetching order by ID: {}", id);
 
-        var orderDomain = queryOrderUseCase.findById(id);
-        var response = orderMapper.toResponseDTO(orderDomain);
+        var rendered = renderedOrderCache.findById(id);
+        if (rendered == null) {
+            rendered = renderedOrderCache.render(queryOrderUseCase.findById(id));
+        }
 
-        return ResponseEntity.ok(response);
+        return respond(rendered, acceptEncoding);
     }
 
     @GetMapping("/external/{externalId}")
@@ -85,14 +139,31 @@ public class OrderRestAdapter {
                     content = @Content(schema = @Schema(implementation = OrderResponseDTO.class))),
             @ApiResponse(responseCode = "404", description = "Order not found")
     })
-    public ResponseEntity<OrderResponseDTO> getOrderByExternalId(
-            @Parameter(description = "External order ID from System A") @PathVariable String externalId) {
+    public ResponseEntity<byte[]> getOrderByExternalId(
+            @Parameter(description = "External order ID from System A") @PathVariable String externalId,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("REST Adapter: Fetching order by external ID: {}", externalId);
 
-        var orderDomain = queryOrderUseCase.findByExternalId(externalId);
-        var response = orderMapper.toResponseDTO(orderDomain);
+        var rendered = renderedOrderCache.findByExternalId(externalId);
+        if (rendered == null) {
+            rendered = renderedOrderCache.render(queryOrderUseCase.findByExternalId(externalId));
+        }
 
-        return ResponseEntity.ok(response);
+        return respond(rendered, acceptEncoding);
+    }
+
+    /**
+     * Writes the pre-rendered bytes as they are, gzip-compressed when both the entry and the client allow it
+     */
+    private ResponseEntity<byte[]> respond(RenderedOrder rendered, String acceptEncoding) {
+        var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (rendered.hasGzip() && RenderedOrderCache.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rendered.gzip());
+        }
+        return response.body(rendered.json());
     }
 
     @GetMapping
@@ -132,5 +203,121 @@ public class OrderRestAdapter {
 
         return ResponseEntity.ok(response);
     }
-}
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Get all orders (cursor pagination)",
+            description = "Retrieves orders newest first using keyset pagination for External System B. " +
+                    "Pass the returned nextCursor to get the next slice; no total count is computed, " +
+                    "so latency does not grow with depth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<OrderSliceResponseDTO> getAllOrdersByCursor(
+            @Parameter(description = "Cursor returned by the previous slice") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Slice size (max 100)") @RequestParam(defaultValue = "20") int size) {
+        log.info("REST Adapter: Fetching orders after cursor");
+
+        var slice = queryOrderUseCase.findAllAfter(orderMapper.decodeCursor(cursor), sliceSize(size));
+
+        return ResponseEntity.ok(orderMapper.toSliceResponseDTO(slice));
+    }
+
+    @GetMapping("/status/{status}/keyset")
+    @Operation(summary = "Get orders by status (cursor pagination)",
+            description = "Retrieves orders with the given status newest first using keyset pagination. " +
+                    "Pass the returned nextCursor to get the next slice")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<OrderSliceResponseDTO> getOrdersByStatusAndCursor(
+            @Parameter(description = "Order status (RECEIVED, PROCESSING, COMPLETED, FAILED)")
+            @PathVariable OrderStatusDomain status,
+            @Parameter(description = "Cursor returned by the previous slice") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Slice size (max 100)") @RequestParam(defaultValue = "20") int size) {
+        log.info("REST Adapter: Fetching orders by status: {} after cursor", status);
+
+        var slice = queryOrderUseCase.findByStatusAfter(status, orderMapper.decodeCursor(cursor), sliceSize(size));
+
+        return ResponseEntity.ok(orderMapper.toSliceResponseDTO(slice));
+    }
+
+    private int sliceSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get order statistics",
+            description = "Current number of orders per status, plus the orders that entered each status " +
+                    "per MINUTE or HOUR bucket with their revenue. Served from incrementally maintained " +
+                    "counters; defaults to today by HOUR, or the last hour by MINUTE")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid range")
+    })
+    public ResponseEntity<OrderStatsResponseDTO> getStats(
+            @Parameter(description = "Bucket width (MINUTE, HOUR)")
+            @RequestParam(required = false) OrderStatsGranularity granularity,
+            @Parameter(description = "Range start, inclusive (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Range end, exclusive (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("REST Adapter: Fetching order stats by {} from {} to {}", granularity, from, to);
+
+        var stats = orderStatsUseCase.getStats(granularity, from, to);
+
+        return ResponseEntity.ok(orderMapper.toStatsResponseDTO(stats));
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    @Operation(summary = "Export orders as NDJSON",
+            description = "Streams every matching order with its items, one JSON document per line, oldest first. " +
+                    "Memory use does not depend on the number of exported orders")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders streamed successfully")
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "Order status (RECEIVED, PROCESSING, COMPLETED, FAILED)")
+            @RequestParam(required = false) OrderStatusDomain status,
+            @Parameter(description = "Created at or after (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Created before (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        log.info("REST Adapter: Exporting orders with status: {}, from: {}, to: {}", status, createdFrom, createdTo);
+
+        var filter = OrderExportFilter.builder()
+                .status(status)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
+
+        StreamingResponseBody body = outputStream -> writeNdjson(filter, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    /**
+     * One generator for the whole response: its buffer is flushed to the socket as it fills,
+     * not once per order
+     */
+    private void writeNdjson(OrderExportFilter filter, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(OrderResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            queryOrderUseCase.exportOrders(filter, order -> {
+                try {
+                    writer.writeValue(generator, orderMapper.toResponseDTO(order));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ambev.order.adapter.out.cache;
+
+import com.ambev.order.domain.model.OrderDomain;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter - "id:version" payload broadcast on order.cache.invalidation-channel when an order changes.
+ * A payload without a version invalidates whatever version is cached.
+ */
+@Slf4j
+record CacheInvalidation(UUID id, long version) {
+
+    private static final char SEPARATOR = ':';
+
+    static String format(OrderDomain order) {
+        return order.getVersion() != null ? order.getId().toString() + SEPARATOR + order.getVersion() : order.getId().toString();
+    }
+
+    /**
+     * Malformed payloads are logged and ignored rather than thrown on the Redis listener thread
+     */
+    static Optional<CacheInvalidation> parse(byte[] body) {
+        String payload = new String(body, StandardCharsets.UTF_8);
+        int separator = payload.indexOf(SEPARATOR);
+        try {
+            if (separator < 0) {
+                return Optional.of(new CacheInvalidation(UUID.fromString(payload), Long.MAX_VALUE));
+            }
+            return Optional.of(new CacheInvalidation(UUID.fromString(payload.substring(0, separator)),
+                    Long.parseLong(payload.substring(separator + 1))));
+        } catch (IllegalArgumentException e) {
+            log.warn("Adapter: Ignoring malformed cache invalidation '{}': {}", payload, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
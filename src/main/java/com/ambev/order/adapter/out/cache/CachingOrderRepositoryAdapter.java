@@ -0,0 +1,328 @@
+package com.ambev.order.adapter.out.cache;
+
+import com.ambev.order.adapter.out.persistence.OrderPersistenceAdapter;
+import com.ambev.order.domain.model.OrderCursor;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderExportFilter;
+import com.ambev.order.domain.model.OrderSlice;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.ambev.order.domain.port.out.OrderRepositoryPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter - Read-through cache in front of OrderPersistenceAdapter.
+ * Lookups by id and external ID go to a bounded in-process Caffeine cache (L1), then to Redis (L2),
+ * then to Postgres. Updates to an existing order evict both levels and broadcast "id:version" over
+ * Redis pub/sub once the transaction commits, so every node drops L1 entries older than that version
+ * and no reader can reload the pre-update row after the eviction. Writes, pages and the
+ * duplicate checks are delegated untouched.
+ * Loads run on the calling thread outside any cache lock (concurrent callers for the same key wait on
+ * the pending future), so Redis and JDBC I/O never pin a virtual thread's carrier.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "order.cache.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CachingOrderRepositoryAdapter implements OrderRepositoryPort, MessageListener {
+
+    private static final String ORDER_KEY_PREFIX = "order:entity:";
+    private static final String EXTERNAL_ID_KEY_PREFIX = "order:external:";
+
+    private final OrderPersistenceAdapter delegate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader orderReader;
+    private final ChannelTopic invalidationTopic;
+    private final Duration l2Ttl;
+
+    private final AsyncCache<UUID, OrderDomain> ordersById;
+    private final AsyncCache<String, UUID> idsByExternalId;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public CachingOrderRepositoryAdapter(OrderPersistenceAdapter delegate,
+                                         RedisTemplate<String, String> redisTemplate,
+                                         RedisMessageListenerContainer listenerContainer,
+                                         ObjectMapper objectMapper,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${order.cache.l1.maximum-size}") long maximumSize,
+                                         @Value("${order.cache.l1.expire-after-write}") Duration l1Ttl,
+                                         @Value("${order.cache.l2.ttl}") Duration l2Ttl,
+                                         @Value("${order.cache.invalidation-channel}") String invalidationChannel) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.orderReader = objectMapper.readerFor(OrderDomain.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.invalidationTopic = new ChannelTopic(invalidationChannel);
+        this.l2Ttl = l2Ttl;
+
+        this.ordersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(l1Ttl)
+                .recordStats()
+                .buildAsync();
+        this.idsByExternalId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(l1Ttl)
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, ordersById, "orders.l1");
+        this.l2Hits = Counter.builder("order.cache.l2.requests").tag("result", "hit")
+                .description("Order lookups answered by Redis").register(meterRegistry);
+        this.l2Misses = Counter.builder("order.cache.l2.requests").tag("result", "miss")
+                .description("Order lookups that fell through to the database").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, invalidationTopic);
+    }
+
+    @Override
+    public Optional<OrderDomain> findById(UUID id) {
+        return Optional.ofNullable(getOrLoad(ordersById, id, this::loadById));
+    }
+
+    @Override
+    public Optional<OrderDomain> findByExternalId(String externalId) {
+        UUID id = getOrLoad(idsByExternalId, externalId, this::loadIdByExternalId);
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    @Override
+    public OrderDomain save(OrderDomain order) {
+        boolean update = order.getId() != null;
+        OrderDomain saved = delegate.save(order);
+        if (update) {
+            invalidate(List.of(saved));
+        }
+        return saved;
+    }
+
+    @Override
+    public List<OrderDomain> saveAll(List<OrderDomain> orders) {
+        Set<UUID> updatedIds = orders.stream()
+                .map(OrderDomain::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        List<OrderDomain> saved = delegate.saveAll(orders);
+        if (!updatedIds.isEmpty()) {
+            invalidate(saved.stream().filter(order -> updatedIds.contains(order.getId())).toList());
+        }
+        return saved;
+    }
+
+    @Override
+    public boolean existsByExternalId(String externalId) {
+        return delegate.existsByExternalId(externalId);
+    }
+
+    @Override
+    public Set<String> findExistingExternalIds(Collection<String> externalIds) {
+        return delegate.findExistingExternalIds(externalIds);
+    }
+
+    @Override
+    public void forEachExternalId(Consumer<String> consumer) {
+        delegate.forEachExternalId(consumer);
+    }
+
+    @Override
+    public Page<OrderDomain> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public List<OrderDomain> findByStatus(OrderStatusDomain status, Pageable pageable) {
+        return delegate.findByStatus(status, pageable);
+    }
+
+    @Override
+    public OrderSlice findAllAfter(OrderCursor cursor, int limit) {
+        return delegate.findAllAfter(cursor, limit);
+    }
+
+    @Override
+    public OrderSlice findByStatusAfter(OrderStatusDomain status, OrderCursor cursor, int limit) {
+        return delegate.findByStatusAfter(status, cursor, limit);
+    }
+
+    @Override
+    public void forEachOrder(OrderExportFilter filter, Consumer<OrderDomain> consumer) {
+        delegate.forEachOrder(filter, consumer);
+    }
+
+    /**
+     * Invalidation message from any node: drop the L1 entry unless it is already at that version
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation.parse(message.getBody()).ifPresent(invalidation -> {
+            ordersById.asMap().computeIfPresent(invalidation.id(), (key, future) -> {
+                OrderDomain cached = future.getNow(null);
+                return cached != null && cached.getVersion() != null && cached.getVersion() >= invalidation.version()
+                        ? future : null;
+            });
+            log.debug("Adapter: Order {} invalidated in L1 cache (version {})", invalidation.id(), invalidation.version());
+        });
+    }
+
+    /**
+     * The cache only installs an empty future under its lock; the caller that installed it runs the
+     * loader and completes it. Null or failed results are dropped from the cache by Caffeine.
+     */
+    private <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> pending = cache.get(key, (k, executor) -> created);
+        if (pending != created) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            V value = loader.apply(key);
+            created.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private OrderDomain loadById(UUID id) {
+        String key = ORDER_KEY_PREFIX + id;
+        OrderDomain cached = readL2(key);
+        if (cached != null) {
+            l2Hits.increment();
+            return cached;
+        }
+
+        l2Misses.increment();
+        OrderDomain order = delegate.findById(id).orElse(null);
+        if (order != null) {
+            writeL2(order);
+        }
+        return order;
+    }
+
+    private UUID loadIdByExternalId(String externalId) {
+        String id = readL2Value(EXTERNAL_ID_KEY_PREFIX + externalId);
+        if (id != null) {
+            return UUID.fromString(id);
+        }
+
+        OrderDomain order = delegate.findByExternalId(externalId).orElse(null);
+        if (order == null) {
+            return null;
+        }
+        writeL2(order);
+        ordersById.put(order.getId(), CompletableFuture.completedFuture(order));
+        return order.getId();
+    }
+
+    private OrderDomain readL2(String key) {
+        String json = readL2Value(key);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return orderReader.readValue(json);
+        } catch (JsonProcessingException e) {
+            log.warn("Adapter: Discarding unreadable cache entry {}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * Redis is an optimization here: when it is unavailable lookups fall back to the database
+     */
+    private String readL2Value(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (DataAccessException e) {
+            log.warn("Adapter: L2 cache unavailable, reading from database: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeL2(OrderDomain order) {
+        try {
+            redisTemplate.opsForValue().set(ORDER_KEY_PREFIX + order.getId(), objectMapper.writeValueAsString(order), l2Ttl);
+            redisTemplate.opsForValue().set(EXTERNAL_ID_KEY_PREFIX + order.getExternalId(), order.getId().toString(), l2Ttl);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Adapter: Could not write order {} to L2 cache: {}", order.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Runs after commit; the saved orders carry the version written by the flush in the delegate
+     */
+    private void invalidate(List<OrderDomain> orders) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(orders);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(orders);
+            }
+        });
+    }
+
+    private void evict(List<OrderDomain> orders) {
+        for (OrderDomain order : orders) {
+            ordersById.synchronous().invalidate(order.getId());
+            try {
+                redisTemplate.delete(ORDER_KEY_PREFIX + order.getId());
+                redisTemplate.convertAndSend(invalidationTopic.getTopic(), CacheInvalidation.format(order));
+            } catch (DataAccessException e) {
+                log.warn("Adapter: Could not broadcast invalidation for order {}: {}", order.getId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package com.ambev.order.adapter.out.cache;
 
+import com.ambev.order.domain.model.ReservationState;
 import com.ambev.order.domain.port.out.OrderCachePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -16,6 +29,41 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class RedisCacheAdapter implements OrderCachePort {
 
+    private static final Duration RELEASED_TTL = Duration.ofMinutes(1);
+
+    /**
+     * SET NX semantics extended with states: a RELEASED key can be reserved again.
+     * A PENDING key holds "PENDING:<owner>" (ARGV[2]) so only its owner can commit or release it.
+     */
+    private static final String TRY_RESERVE_SCRIPT =
+            "local state = redis.call('GET', KEYS[1]) " +
+            "if state == false or state == '" + ReservationState.RELEASED + "' then " +
+            "  redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0";
+
+    /**
+     * Leaves a key PENDING for another owner alone; anything else means the order is ours and durable.
+     */
+    private static final String COMMIT_SCRIPT =
+            "local state = redis.call('GET', KEYS[1]) " +
+            "if state == false or state == ARGV[2] or state == '" + ReservationState.RELEASED + "' " +
+            "    or state == '" + ReservationState.COMMITTED + "' then " +
+            "  redis.call('SET', KEYS[1], '" + ReservationState.COMMITTED + "', 'PX', ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0";
+
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[2] then " +
+            "  redis.call('SET', KEYS[1], '" + ReservationState.RELEASED + "', 'PX', ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0";
+
+    private static final RedisScript<Long> TRY_RESERVE = new DefaultRedisScript<>(TRY_RESERVE_SCRIPT, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     @Override
@@ -42,5 +90,63 @@ public class RedisCacheAdapter implements OrderCachePort {
         log.debug("Adapter: Deleting from cache - key: {}", key);
         redisTemplate.delete(key);
     }
-}
 
+    @Override
+    public boolean tryReserve(String key, String owner, Duration ttl) {
+        log.debug("Adapter: Reserving key: {}, TTL: {}", key, ttl);
+        Long acquired = redisTemplate.execute(TRY_RESERVE, List.of(key), String.valueOf(ttl.toMillis()), pending(owner));
+        return Long.valueOf(1L).equals(acquired);
+    }
+
+    @Override
+    public Set<String> tryReserveAll(Collection<String> keys, String owner, Duration ttl) {
+        log.debug("Adapter: Reserving {} keys, TTL: {}", keys.size(), ttl);
+        Set<String> acquired = new HashSet<>();
+        if (keys.isEmpty()) {
+            return acquired;
+        }
+
+        List<String> orderedKeys = new ArrayList<>(keys);
+        List<Object> results = evalPipelined(TRY_RESERVE_SCRIPT, orderedKeys, ttl, owner);
+        for (int i = 0; i < orderedKeys.size(); i++) {
+            if (Long.valueOf(1L).equals(results.get(i))) {
+                acquired.add(orderedKeys.get(i));
+            }
+        }
+        return acquired;
+    }
+
+    @Override
+    public void commitReservations(Collection<String> keys, String owner, Duration ttl) {
+        log.debug("Adapter: Committing {} reservations, TTL: {}", keys.size(), ttl);
+        if (keys.isEmpty()) {
+            return;
+        }
+        evalPipelined(COMMIT_SCRIPT, new ArrayList<>(keys), ttl, owner);
+    }
+
+    @Override
+    public void releaseReservations(Collection<String> keys, String owner) {
+        log.debug("Adapter: Releasing {} reservations", keys.size());
+        if (keys.isEmpty()) {
+            return;
+        }
+        evalPipelined(RELEASE_SCRIPT, new ArrayList<>(keys), RELEASED_TTL, owner);
+    }
+
+    private List<Object> evalPipelined(String script, List<String> keys, Duration ttl, String owner) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] rawScript = script.getBytes(StandardCharsets.UTF_8);
+        byte[] rawTtl = serializer.serialize(String.valueOf(ttl.toMillis()));
+        byte[] rawPending = serializer.serialize(pending(owner));
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.scriptingCommands()
+                    .eval(rawScript, ReturnType.INTEGER, 1, serializer.serialize(key), rawTtl, rawPending));
+            return null;
+        });
+    }
+
+    private static String pending(String owner) {
+        return ReservationState.PENDING + ":" + owner;
+    }
+}
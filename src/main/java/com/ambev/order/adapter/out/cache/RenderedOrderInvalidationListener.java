@@ -0,0 +1,47 @@
+package com.ambev.order.adapter.out.cache;
+
+import com.ambev.order.application.cache.RenderedOrderCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adapter - Applies the "id:version" invalidations broadcast by CachingOrderRepositoryAdapter
+ * to the rendered response cache of this node.
+ */
+@Component
+@ConditionalOnProperty(name = "order.rendered-cache.enabled", havingValue = "true")
+@Slf4j
+public class RenderedOrderInvalidationListener implements MessageListener {
+
+    private final RenderedOrderCache renderedOrderCache;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic invalidationTopic;
+
+    public RenderedOrderInvalidationListener(RenderedOrderCache renderedOrderCache,
+                                             RedisMessageListenerContainer listenerContainer,
+                                             @Value("${order.cache.invalidation-channel}") String invalidationChannel) {
+        this.renderedOrderCache = renderedOrderCache;
+        this.listenerContainer = listenerContainer;
+        this.invalidationTopic = new ChannelTopic(invalidationChannel);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, invalidationTopic);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation.parse(message.getBody()).ifPresent(invalidation -> {
+            renderedOrderCache.invalidate(invalidation.id(), invalidation.version());
+            log.debug("Adapter: Rendered order {} invalidated (version {})", invalidation.id(), invalidation.version());
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.ambev.order.adapter.out.filter;
+
+import com.ambev.order.domain.port.out.ExternalIdFilterPort;
+import com.ambev.order.domain.port.out.OrderRepositoryPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adapter - In-process Bloom filter implementation of ExternalIdFilterPort.
+ * Seeded from orders.external_id in the background once the application is ready; until the
+ * seeding finishes every lookup answers "might contain" so no duplicate check is ever skipped.
+ * After seeding it only learns IDs committed by this node, so "definitely new" is authoritative for
+ * this node only; the external_id registry remains the final check.
+ */
+@Component
+@Slf4j
+public class BloomFilterAdapter implements ExternalIdFilterPort {
+
+    private final OrderRepositoryPort repositoryPort;
+    private final ScalableBloomFilter filter;
+    private final boolean enabled;
+
+    private volatile boolean ready;
+
+    public BloomFilterAdapter(OrderRepositoryPort repositoryPort,
+                              MeterRegistry meterRegistry,
+                              @Value("${order.dedupe.filter.enabled}") boolean enabled,
+                              @Value("${order.dedupe.filter.expected-insertions}") long expectedInsertions,
+                              @Value("${order.dedupe.filter.fpp}") double falsePositiveRate) {
+        this.repositoryPort = repositoryPort;
+        this.enabled = enabled;
+        this.filter = new ScalableBloomFilter(expectedInsertions, falsePositiveRate);
+
+        Gauge.builder("order.dedupe.filter.fpp", filter, ScalableBloomFilter::expectedFalsePositiveRate)
+                .description("Estimated false-positive rate of the external ID Bloom filter")
+                .register(meterRegistry);
+        Gauge.builder("order.dedupe.filter.memory", filter, ScalableBloomFilter::memoryBytes)
+                .description("Memory used by the external ID Bloom filter bit sets")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("order.dedupe.filter.insertions", filter, ScalableBloomFilter::insertions)
+                .description("External IDs added to the Bloom filter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean mightContain(String externalId) {
+        return !ready || filter.mightContain(externalId);
+    }
+
+    @Override
+    public void put(String externalId) {
+        if (enabled) {
+            filter.put(externalId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (!enabled) {
+            log.info("Adapter: External ID Bloom filter disabled");
+            return;
+        }
+
+        Thread seeder = new Thread(() -> {
+            long start = System.currentTimeMillis();
+            try {
+                repositoryPort.forEachExternalId(filter::put);
+                ready = true;
+                log.info("Adapter: External ID Bloom filter seeded with {} IDs in {} ms ({} bytes, {} layers)",
+                        filter.insertions(), System.currentTimeMillis() - start, filter.memoryBytes(), filter.layerCount());
+            } catch (RuntimeException e) {
+                log.error("Adapter: Failed to seed external ID Bloom filter, duplicate checks stay on the database", e);
+            }
+        }, "external-id-filter-seed");
+        seeder.setDaemon(true);
+        seeder.start();
+    }
+}
@@ -0,0 +1,176 @@
+package com.ambev.order.adapter.out.filter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Scalable Bloom filter (Almeida et al.) for strings.
+ * When the newest layer reaches its capacity a new one is added with twice the capacity and half
+ * the false-positive rate, so the compound rate stays below twice the configured one however much
+ * the set grows. Puts and lookups are lock-free; only growth takes a lock.
+ */
+public class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final List<Layer> layers = new CopyOnWriteArrayList<>();
+    private final ReentrantLock growthLock = new ReentrantLock();
+
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        if (initialCapacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter settings: capacity=" + initialCapacity
+                    + ", fpp=" + falsePositiveRate);
+        }
+        layers.add(new Layer(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO)));
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (Layer layer : layers) {
+            if (layer.mightContain(hash1, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (Layer layer : layers) {
+            if (layer.mightContain(hash1, hash2)) {
+                return;
+            }
+        }
+        currentLayer().put(hash1, hash2);
+    }
+
+    /**
+     * Compound false-positive rate estimated from the insertions of each layer.
+     */
+    public double expectedFalsePositiveRate() {
+        double allNegative = 1.0;
+        for (Layer layer : layers) {
+            allNegative *= 1.0 - layer.expectedFalsePositiveRate();
+        }
+        return 1.0 - allNegative;
+    }
+
+    public long memoryBytes() {
+        long bytes = 0;
+        for (Layer layer : layers) {
+            bytes += layer.memoryBytes();
+        }
+        return bytes;
+    }
+
+    public long insertions() {
+        long insertions = 0;
+        for (Layer layer : layers) {
+            insertions += layer.insertions.get();
+        }
+        return insertions;
+    }
+
+    public int layerCount() {
+        return layers.size();
+    }
+
+    private Layer currentLayer() {
+        Layer current = layers.get(layers.size() - 1);
+        if (current.insertions.get() < current.capacity) {
+            return current;
+        }
+
+        growthLock.lock();
+        try {
+            current = layers.get(layers.size() - 1);
+            if (current.insertions.get() >= current.capacity) {
+                current = new Layer(current.capacity * GROWTH_FACTOR, current.falsePositiveRate * TIGHTENING_RATIO);
+                layers.add(current);
+            }
+            return current;
+        } finally {
+            growthLock.unlock();
+        }
+    }
+
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static final class Layer {
+
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray bits;
+        private final AtomicLong insertions = new AtomicLong();
+
+        private Layer(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new AtomicLongArray(Math.toIntExact((optimalBits + 63) / 64));
+            this.bitCount = (long) bits.length() * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        }
+
+        private boolean mightContain(long hash1, long hash2) {
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = (combined & Long.MAX_VALUE) % bitCount;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += hash2;
+            }
+            return true;
+        }
+
+        private void put(long hash1, long hash2) {
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = (combined & Long.MAX_VALUE) % bitCount;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+                combined += hash2;
+            }
+            insertions.incrementAndGet();
+        }
+
+        private double expectedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-(double) hashCount * insertions.get() / bitCount), hashCount);
+        }
+
+        private long memoryBytes() {
+            return bitCount / 8;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.ambev.order.adapter.out.messaging;
+
+import com.ambev.order.adapter.out.persistence.OrderOutboxJpaRepository;
+import com.ambev.order.adapter.out.persistence.entity.OrderOutboxEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains order_outbox in batches: locks the oldest rows with FOR UPDATE SKIP LOCKED, publishes them
+ * with publisher confirms and deletes the confirmed ones in the same transaction. Rows that are not
+ * confirmed stay in the outbox and are retried on the next run. Several nodes can relay concurrently.
+ * Runs in both publisher modes: in direct mode it delivers the orders the broker did not confirm.
+ */
+@Component
+@Slf4j
+public class OrderOutboxRelay {
+
+    private final OrderOutboxJpaRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter unconfirmed;
+
+    @Value("${order.exchange}")
+    private String exchange;
+
+    @Value("${order.queue.outgoing}")
+    private String outgoingQueue;
+
+    @Value("${order.outbox.relay.batch-size}")
+    private int batchSize;
+
+    @Value("${order.outbox.relay.confirm-timeout}")
+    private long confirmTimeout;
+
+    public OrderOutboxRelay(OrderOutboxJpaRepository outboxRepository,
+                            RabbitTemplate rabbitTemplate,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.unconfirmed = Counter.builder("order.outbox.relay.unconfirmed")
+                .description("Outbox entries the broker nacked or did not confirm in time")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay.interval}")
+    public void relay() {
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed == batchSize);
+        } catch (AmqpException e) {
+            log.error("Adapter: Outbox relay could not reach the broker, will retry", e);
+        }
+    }
+
+    /**
+     * Returns the number of entries relayed, or 0 when any of them was not confirmed,
+     * so the caller backs off until the next run instead of spinning on the same rows.
+     */
+    int relayBatch() {
+        List<OrderOutboxEntity> batch = outboxRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, CorrelationData> pending = new LinkedHashMap<>();
+        for (OrderOutboxEntity entry : batch) {
+            CorrelationData correlationData = new CorrelationData(entry.getId().toString());
+            rabbitTemplate.send(exchange, outgoingQueue, toMessage(entry), correlationData);
+            pending.put(entry.getId(), correlationData);
+        }
+
+        List<UUID> confirmed = new ArrayList<>(pending.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeout);
+        for (Map.Entry<UUID, CorrelationData> entry : pending.entrySet()) {
+            try {
+                var confirm = entry.getValue().getFuture()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (confirm.isAck()) {
+                    confirmed.add(entry.getKey());
+                } else {
+                    log.warn("Adapter: Outbox entry {} nacked by broker: {}", entry.getKey(), confirm.getReason());
+                }
+            } catch (TimeoutException | ExecutionException e) {
+                log.warn("Adapter: Outbox entry {} not confirmed: {}", entry.getKey(), e.toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        unconfirmed.increment(batch.size() - confirmed.size());
+        outboxRepository.deleteAllByIdInBatch(confirmed);
+        log.debug("Adapter: Relayed {} of {} outbox entries", confirmed.size(), batch.size());
+
+        return confirmed.size() == batch.size() ? batch.size() : 0;
+    }
+
+    private Message toMessage(OrderOutboxEntity entry) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setMessageId(entry.getId().toString());
+        return new Message(entry.getPayload(), properties);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ambev.order.adapter.out.messaging;
+
+import com.ambev.order.adapter.out.persistence.OrderOutboxJpaRepository;
+import com.ambev.order.adapter.out.persistence.entity.OrderOutboxEntity;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.port.out.OrderPublisherPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Adapter - Transactional outbox implementation of OrderPublisherPort.
+ * The order is written to order_outbox in the caller's transaction; OrderOutboxRelay publishes it
+ * after commit, so the broker is never on the ingest path and no committed order is lost.
+ */
+@Component
+@ConditionalOnProperty(name = "order.publisher.mode", havingValue = "outbox", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxPublisherAdapter implements OrderPublisherPort {
+
+    private final OrderOutboxJpaRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final OrderMapper orderMapper;
+
+    @Override
+    public void publishOrder(OrderDomain order) {
+        try {
+            log.debug("Adapter: Writing order to outbox: {}", order.getId());
+
+            byte[] payload = objectMapper.writeValueAsBytes(orderMapper.toResponseDTO(order));
+            outboxRepository.save(OrderOutboxEntity.builder()
+                    .orderId(order.getId())
+                    .payload(payload)
+                    .build());
+        } catch (JsonProcessingException e) {
+            log.error("Adapter: Error writing order to outbox: {}", order.getId(), e);
+            throw new RuntimeException("Failed to publish order", e);
+        }
+    }
+
+    /**
+     * The outbox row is the delivery guarantee, so the future completes once it is written
+     */
+    @Override
+    public CompletableFuture<Void> publishOrderAsync(OrderDomain order) {
+        publishOrder(order);
+        return CompletableFuture.completedFuture(null);
+    }
+}
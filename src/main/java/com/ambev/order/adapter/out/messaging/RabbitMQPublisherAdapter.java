@@ -1,28 +1,48 @@
 package com.ambev.order.adapter.out.messaging;
 
+import com.ambev.order.adapter.out.persistence.OrderOutboxJpaRepository;
+import com.ambev.order.adapter.out.persistence.entity.OrderOutboxEntity;
 import com.ambev.order.domain.model.OrderDomain;
 import com.ambev.order.domain.port.out.OrderPublisherPort;
 import com.ambev.order.application.dto.OrderResponseDTO;
 import com.ambev.order.application.mapper.OrderMapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Adapter - RabbitMQ implementation of OrderPublisherPort
+ * Adapter - RabbitMQ implementation of OrderPublisherPort.
+ * Publishes with correlated publisher confirms, keeping at most order.publisher.max-in-flight
+ * unconfirmed messages; callers never wait for a permit.
+ * An order the broker does not confirm (nack, timeout, send failure or full window) is written to
+ * order_outbox before the failure is reported, from where OrderOutboxRelay retries it, so a committed
+ * order still reaches System B after a crash.
  */
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.publisher.mode", havingValue = "direct")
 @Slf4j
 public class RabbitMQPublisherAdapter implements OrderPublisherPort {
 
     private final RabbitTemplate rabbitTemplate;
     private final ObjectMapper objectMapper;
     private final OrderMapper orderMapper;
+    private final OrderOutboxJpaRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${order.exchange}")
     private String exchange;
@@ -30,21 +50,117 @@ public class RabbitMQPublisherAdapter implements OrderPublisherPort {
     @Value("${order.queue.outgoing}")
     private String outgoingQueue;
 
+    @Value("${order.publisher.max-in-flight}")
+    private int maxInFlight;
+
+    @Value("${order.publisher.confirm-timeout}")
+    private long confirmTimeout;
+
+    private Semaphore inFlight;
+
+    public RabbitMQPublisherAdapter(RabbitTemplate rabbitTemplate,
+                                    ObjectMapper objectMapper,
+                                    OrderMapper orderMapper,
+                                    OrderOutboxJpaRepository outboxRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.orderMapper = orderMapper;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void init() {
+        inFlight = new Semaphore(maxInFlight);
+    }
+
     @Override
     public void publishOrder(OrderDomain order) {
+        publishOrderAsync(order);
+    }
+
+    @Override
+    public CompletableFuture<Void> publishOrderAsync(OrderDomain order) {
+        byte[] payload;
         try {
-            log.info("Adapter: Publishing order to external system: {}", order.getId());
+            log.debug("Adapter: Publishing order to external system: {}", order.getId());
 
-            // Convert domain to DTO for external communication
+            // Serialized once, straight to bytes, bypassing the template's message converter
             OrderResponseDTO responseDTO = orderMapper.toResponseDTO(order);
-            String message = objectMapper.writeValueAsString(responseDTO);
-
-            rabbitTemplate.convertAndSend(exchange, outgoingQueue, message);
-            log.info("Adapter: Order published successfully: {}", order.getId());
+            payload = objectMapper.writeValueAsBytes(responseDTO);
         } catch (JsonProcessingException e) {
             log.error("Adapter: Error publishing order: {}", order.getId(), e);
             throw new RuntimeException("Failed to publish order", e);
         }
+
+        if (!inFlight.tryAcquire()) {
+            // Runs on the caller, so the outbox row joins its transaction and commits with the order
+            AmqpException error = new AmqpException("Publisher window full, order not published: " + order.getId());
+            handOver(order, payload, error);
+            return CompletableFuture.failedFuture(error);
+        }
+
+        CompletableFuture<Void> published = new CompletableFuture<>();
+        try {
+            CorrelationData correlationData = new CorrelationData(order.getId().toString());
+            correlationData.getFuture().whenComplete((confirm, error) -> {
+                if (error != null) {
+                    published.completeExceptionally(error);
+                } else if (confirm.isAck()) {
+                    published.complete(null);
+                } else {
+                    published.completeExceptionally(new AmqpException(
+                            "Order " + order.getId() + " nacked by broker: " + confirm.getReason()));
+                }
+            });
+            rabbitTemplate.send(exchange, outgoingQueue, toMessage(order, payload), correlationData);
+        } catch (RuntimeException e) {
+            // Any failure before the confirm callback is wired must still reach the release below
+            published.completeExceptionally(e);
+        }
+
+        return published
+                .orTimeout(confirmTimeout, TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, error) -> {
+                    inFlight.release();
+                    if (error != null) {
+                        handOverFromCallback(order, payload, error);
+                    }
+                });
+    }
+
+    /**
+     * Writes the order to order_outbox before its failure is reported. On the confirm or timeout thread
+     * there is no transaction, so the row commits in its own short one; an order that can be neither
+     * confirmed nor written is only logged, since the callback has nobody to rethrow to.
+     */
+    private void handOver(OrderDomain order, byte[] payload, Throwable error) {
+        if (order.getId() == null) {
+            log.error("Adapter: Order without ID not published", error);
+            return;
+        }
+        log.warn("Adapter: Order {} not confirmed by broker, handing it to the outbox relay: {}", order.getId(), error.toString());
+        OrderOutboxEntity entry = OrderOutboxEntity.builder()
+                .orderId(order.getId())
+                .payload(payload)
+                .build();
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.save(entry));
     }
-}
 
+    private void handOverFromCallback(OrderDomain order, byte[] payload, Throwable error) {
+        try {
+            handOver(order, payload, error);
+        } catch (RuntimeException e) {
+            log.error("Adapter: Order {} neither confirmed nor written to the outbox, it will not reach System B",
+                    order.getId(), e);
+        }
+    }
+
+    private Message toMessage(OrderDomain order, byte[] payload) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setMessageId(order.getId().toString());
+        return new Message(payload, properties);
+    }
+}
@@ -0,0 +1,118 @@
+package com.ambev.order.adapter.out.metrics;
+
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.model.OrderCreationOutcome;
+import com.ambev.order.domain.model.OrderPipelineStage;
+import com.ambev.order.domain.port.out.OrderMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapter - Micrometer implementation of OrderMetricsPort.
+ * Every timer and counter is registered up front and looked up by enum ordinal, so recording is an
+ * array access plus the meter update. When order.metrics.pipeline.enabled is false nothing is
+ * registered and start() does not even read the clock.
+ */
+@Component
+@Slf4j
+public class MicrometerOrderMetricsAdapter implements OrderMetricsPort {
+
+    static final String STAGE_TIMER = "order.create.stage";
+    static final String OUTCOME_COUNTER = "order.create.outcomes";
+    static final String PUBLISH_FAILURE_COUNTER = "order.publish.failures";
+
+    private static final int CHANNELS = IngestChannel.values().length;
+    private static final Duration MAXIMUM_EXPECTED = Duration.ofSeconds(30);
+
+    private final boolean enabled;
+    private final Timer[] stageTimers;
+    private final Counter[] outcomeCounters;
+    private final Counter[] publishFailureCounters;
+
+    public MicrometerOrderMetricsAdapter(MeterRegistry meterRegistry,
+                                         @Value("${order.metrics.pipeline.enabled}") boolean enabled,
+                                         @Value("${order.metrics.pipeline.slo}") Duration[] slo) {
+        this.enabled = enabled;
+        this.stageTimers = new Timer[OrderPipelineStage.values().length * CHANNELS * 2];
+        this.outcomeCounters = new Counter[OrderCreationOutcome.values().length * CHANNELS];
+        this.publishFailureCounters = new Counter[CHANNELS];
+
+        if (!enabled) {
+            log.info("Adapter: Order pipeline metrics disabled");
+            return;
+        }
+
+        for (IngestChannel channel : IngestChannel.values()) {
+            for (OrderPipelineStage stage : OrderPipelineStage.values()) {
+                for (boolean batch : new boolean[]{false, true}) {
+                    stageTimers[stageIndex(stage, channel, batch)] = Timer.builder(STAGE_TIMER)
+                            .description("Time spent in each stage of order creation")
+                            .tag("stage", tagValue(stage))
+                            .tag("channel", tagValue(channel))
+                            .tag("mode", batch ? "batch" : "single")
+                            .publishPercentileHistogram()
+                            .serviceLevelObjectives(slo)
+                            .maximumExpectedValue(MAXIMUM_EXPECTED)
+                            .register(meterRegistry);
+                }
+            }
+            for (OrderCreationOutcome outcome : OrderCreationOutcome.values()) {
+                outcomeCounters[outcomeIndex(outcome, channel)] = Counter.builder(OUTCOME_COUNTER)
+                        .description("Orders received, by creation outcome")
+                        .tag("outcome", tagValue(outcome))
+                        .tag("channel", tagValue(channel))
+                        .register(meterRegistry);
+            }
+            publishFailureCounters[channel.ordinal()] = Counter.builder(PUBLISH_FAILURE_COUNTER)
+                    .description("Created orders that could not be handed to the publisher")
+                    .tag("channel", tagValue(channel))
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    @Override
+    public void recordStage(OrderPipelineStage stage, IngestChannel channel, boolean batch, long start) {
+        if (enabled) {
+            stageTimers[stageIndex(stage, channel, batch)].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordOutcomes(OrderCreationOutcome outcome, IngestChannel channel, int count) {
+        if (enabled && count > 0) {
+            outcomeCounters[outcomeIndex(outcome, channel)].increment(count);
+        }
+    }
+
+    @Override
+    public void recordPublishFailure(IngestChannel channel) {
+        if (enabled) {
+            publishFailureCounters[channel.ordinal()].increment();
+        }
+    }
+
+    private static int stageIndex(OrderPipelineStage stage, IngestChannel channel, boolean batch) {
+        return (stage.ordinal() * CHANNELS + channel.ordinal()) * 2 + (batch ? 1 : 0);
+    }
+
+    private static int outcomeIndex(OrderCreationOutcome outcome, IngestChannel channel) {
+        return outcome.ordinal() * CHANNELS + channel.ordinal();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
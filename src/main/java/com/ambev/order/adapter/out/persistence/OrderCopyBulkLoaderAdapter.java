@@ -0,0 +1,185 @@
+package com.ambev.order.adapter.out.persistence;
+
+import com.ambev.order.adapter.out.persistence.id.UuidV7;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderStatusChangeDomain;
+import com.ambev.order.domain.port.out.OrderBulkLoaderPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Adapter - PostgreSQL COPY implementation of OrderBulkLoaderPort.
+ * Each chunk is COPYed into session-local staging tables and merged in two statements: the external
+ * IDs are claimed in order_external_ids with ON CONFLICT DO NOTHING, then only the claimed orders are
+ * inserted, followed by their items and status history.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderCopyBulkLoaderAdapter implements OrderBulkLoaderPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String CREATE_STAGING_TABLES = """
+            CREATE TEMP TABLE IF NOT EXISTS import_orders
+                (LIKE orders INCLUDING DEFAULTS) ON COMMIT DELETE ROWS;
+            CREATE TEMP TABLE IF NOT EXISTS import_order_items
+                (LIKE order_items INCLUDING DEFAULTS) ON COMMIT DELETE ROWS;
+            CREATE TEMP TABLE IF NOT EXISTS import_order_status_history
+                (LIKE order_status_history INCLUDING DEFAULTS) ON COMMIT DELETE ROWS
+            """;
+
+    private static final String COPY_ORDERS =
+            "COPY import_orders (id, external_id, status, total_amount, created_at, updated_at, version) " +
+            "FROM STDIN (FORMAT csv)";
+
+    private static final String COPY_ITEMS =
+            "COPY import_order_items (id, order_id, order_created_at, product_code, quantity, unit_price, total_price) " +
+            "FROM STDIN (FORMAT csv)";
+
+    private static final String COPY_STATUS_HISTORY =
+            "COPY import_order_status_history (id, order_id, from_status, to_status, changed_at) " +
+            "FROM STDIN (FORMAT csv)";
+
+    /**
+     * The partitioned orders table cannot carry a unique index on external_id alone, so the
+     * registry is the conflict target (see V6)
+     */
+    private static final String CLAIM_EXTERNAL_IDS = """
+            INSERT INTO order_external_ids (external_id, order_id, order_created_at)
+            SELECT external_id, id, created_at FROM import_orders
+            ON CONFLICT (external_id) DO NOTHING
+            """;
+
+    private static final String MERGE = """
+            WITH inserted AS (
+                INSERT INTO orders (id, external_id, status, total_amount, created_at, updated_at, version)
+                SELECT s.id, s.external_id, s.status, s.total_amount, s.created_at, s.updated_at, s.version
+                FROM import_orders s
+                JOIN order_external_ids e ON e.external_id = s.external_id AND e.order_id = s.id
+                RETURNING id, external_id
+            ), items AS (
+                INSERT INTO order_items (id, order_id, order_created_at, product_code, quantity, unit_price, total_price)
+                SELECT i.id, i.order_id, i.order_created_at, i.product_code, i.quantity, i.unit_price, i.total_price
+                FROM import_order_items i JOIN inserted o ON o.id = i.order_id
+            ), history AS (
+                INSERT INTO order_status_history (id, order_id, from_status, to_status, changed_at)
+                SELECT h.id, h.order_id, h.from_status, h.to_status, h.changed_at
+                FROM import_order_status_history h JOIN inserted o ON o.id = h.order_id
+            )
+            SELECT external_id FROM inserted
+            """;
+
+    @Override
+    @Transactional
+    public Set<String> insertNew(List<OrderDomain> orders) {
+        log.debug("Adapter: Bulk loading {} orders", orders.size());
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_TABLES);
+            }
+
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            copy(copyManager, COPY_ORDERS, ordersCsv(orders));
+            copy(copyManager, COPY_ITEMS, itemsCsv(orders));
+            copy(copyManager, COPY_STATUS_HISTORY, statusHistoryCsv(orders));
+
+            return merge(connection);
+        });
+    }
+
+    private Set<String> merge(Connection connection) throws SQLException {
+        Set<String> inserted = new HashSet<>();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(CLAIM_EXTERNAL_IDS);
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(MERGE)) {
+            while (resultSet.next()) {
+                inserted.add(resultSet.getString(1));
+            }
+        }
+        return inserted;
+    }
+
+    private void copy(CopyManager copyManager, String sql, CharSequence csv) throws SQLException {
+        try {
+            copyManager.copyIn(sql, new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * IDs are assigned here since these rows never go through Hibernate
+     */
+    private CharSequence ordersCsv(List<OrderDomain> orders) {
+        StringBuilder csv = new StringBuilder(orders.size() * 128);
+        for (OrderDomain order : orders) {
+            order.setId(UuidV7.next());
+            order.setVersion(0L);
+            csv.append(order.getId()).append(',');
+            quoted(csv, order.getExternalId()).append(',');
+            csv.append(order.getStatus()).append(',');
+            order.getTotalAmount().appendTo(csv).append(',');
+            csv.append(order.getCreatedAt()).append(',');
+            csv.append(order.getUpdatedAt()).append(',');
+            csv.append(order.getVersion()).append('\n');
+        }
+        return csv;
+    }
+
+    private CharSequence itemsCsv(List<OrderDomain> orders) {
+        StringBuilder csv = new StringBuilder(orders.size() * 256);
+        for (OrderDomain order : orders) {
+            for (OrderItemDomain item : order.getItems()) {
+                item.setId(UuidV7.next());
+                csv.append(item.getId()).append(',');
+                csv.append(order.getId()).append(',');
+                csv.append(order.getCreatedAt()).append(',');
+                quoted(csv, item.getProductCode()).append(',');
+                csv.append(item.getQuantity()).append(',');
+                item.getUnitPrice().appendTo(csv).append(',');
+                item.getTotalPrice().appendTo(csv).append('\n');
+            }
+        }
+        return csv;
+    }
+
+    private CharSequence statusHistoryCsv(List<OrderDomain> orders) {
+        StringBuilder csv = new StringBuilder(orders.size() * 256);
+        for (OrderDomain order : orders) {
+            for (OrderStatusChangeDomain change : order.getStatusHistory()) {
+                csv.append(UuidV7.next()).append(',');
+                csv.append(order.getId()).append(',');
+                // An unquoted empty field is NULL in COPY csv
+                csv.append(change.getFromStatus() != null ? change.getFromStatus().name() : "").append(',');
+                csv.append(change.getToStatus()).append(',');
+                csv.append(change.getChangedAt()).append('\n');
+            }
+        }
+        return csv;
+    }
+
+    private StringBuilder quoted(StringBuilder csv, String value) {
+        return csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
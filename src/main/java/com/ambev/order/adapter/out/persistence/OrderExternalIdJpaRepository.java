@@ -0,0 +1,30 @@
+package com.ambev.order.adapter.out.persistence;
+
+import com.ambev.order.adapter.out.persistence.entity.OrderExternalIdEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * JPA Repository for the external_id registry.
+ * Duplicate checks go through its primary key instead of probing every orders partition.
+ */
+@Repository
+public interface OrderExternalIdJpaRepository extends JpaRepository<OrderExternalIdEntity, String> {
+
+    @Query("SELECT e.externalId FROM OrderExternalIdEntity e WHERE e.externalId IN :externalIds")
+    Set<String> findExistingExternalIds(Collection<String> externalIds);
+
+    @Query("SELECT e.externalId FROM OrderExternalIdEntity e")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "10000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<String> streamAllExternalIds();
+}
@@ -0,0 +1,28 @@
+package com.ambev.order.adapter.out.persistence;
+
+import com.ambev.order.adapter.out.persistence.entity.OrderItemEntity;
+import com.ambev.order.adapter.out.persistence.projection.OrderItemRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA Repository for Order Item Entity
+ */
+@Repository
+public interface OrderItemJpaRepository extends JpaRepository<OrderItemEntity, UUID> {
+
+    /**
+     * Loads the items of a whole page of orders in one round trip. The created_at range of the page
+     * bounds the partition key, so only the order_items partitions of that range are scanned.
+     */
+    @Query("SELECT new com.ambev.order.adapter.out.persistence.projection.OrderItemRow(" +
+            "i.order.id, i.id, i.productCode, i.quantity, i.unitPrice, i.totalPrice) FROM OrderItemEntity i " +
+            "WHERE i.order.id IN :orderIds AND i.orderCreatedAt BETWEEN :createdFrom AND :createdTo")
+    List<OrderItemRow> findRowsByOrderIdIn(Collection<UUID> orderIds, LocalDateTime createdFrom, LocalDateTime createdTo);
+}
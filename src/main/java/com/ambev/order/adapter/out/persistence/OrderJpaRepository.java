@@ -2,14 +2,22 @@ package com.ambev.order.adapter.out.persistence;
 
 import com.ambev.order.adapter.out.persistence.entity.OrderEntity;
 import com.ambev.order.adapter.out.persistence.entity.OrderStatusEntity;
+import com.ambev.order.adapter.out.persistence.projection.OrderRow;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * JPA Repository for Order Entity
@@ -18,16 +26,52 @@ import java.util.UUID;
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
 
-    Optional<OrderEntity> findByExternalId(String externalId);
+    /*
+     * Reads project into OrderRow: no managed entity, no dirty-checking snapshot, nothing left in the
+     * persistence context. Items are loaded separately as OrderItemRow (OrderItemJpaRepository).
+     */
+    String SELECT_ORDER_ROW = "SELECT new com.ambev.order.adapter.out.persistence.projection.OrderRow(" +
+            "o.id, o.externalId, o.status, o.totalAmount, o.createdAt, o.updatedAt, o.version) FROM OrderEntity o ";
 
-    boolean existsByExternalId(String externalId);
+    @Query(value = SELECT_ORDER_ROW, countQuery = "SELECT count(o) FROM OrderEntity o")
+    Page<OrderRow> findAllRows(Pageable pageable);
 
-    Page<OrderEntity> findByStatus(OrderStatusEntity status, Pageable pageable);
+    /**
+     * No count query: status pages take their total from the order statistics
+     */
+    @Query(SELECT_ORDER_ROW + "WHERE o.status = :status")
+    List<OrderRow> findRowsByStatus(OrderStatusEntity status, Pageable pageable);
 
-    @Query("SELECT o FROM OrderEntity o LEFT JOIN FETCH o.items WHERE o.id = :id")
-    Optional<OrderEntity> findByIdWithItems(UUID id);
+    /*
+     * Keyset slices: named native queries on OrderEntity (SQL in OrderSql), mapped to OrderRow
+     * through OrderEntity.ORDER_ROW_MAPPING
+     */
+    List<OrderRow> findFirstSlice(int limit);
 
-    @Query("SELECT o FROM OrderEntity o LEFT JOIN FETCH o.items WHERE o.externalId = :externalId")
-    Optional<OrderEntity> findByExternalIdWithItems(String externalId);
-}
+    List<OrderRow> findSliceAfter(LocalDateTime createdAt, UUID id, int limit);
+
+    List<OrderRow> findFirstSliceByStatus(String status, int limit);
+
+    List<OrderRow> findSliceByStatusAfter(String status, LocalDateTime createdAt, UUID id, int limit);
 
+    /**
+     * The created_at bounds are always bound (never NULL-guarded) so generic plans still prune partitions
+     */
+    @Query(SELECT_ORDER_ROW +
+            "WHERE (:status IS NULL OR o.status = :status) " +
+            "AND o.createdAt >= :createdFrom AND o.createdAt < :createdTo " +
+            "ORDER BY o.createdAt, o.id")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<OrderRow> streamRowsForExport(OrderStatusEntity status, LocalDateTime createdFrom, LocalDateTime createdTo);
+
+    @Query(SELECT_ORDER_ROW + "WHERE o.id = :id")
+    Optional<OrderRow> findRowById(UUID id);
+
+    /**
+     * Resolves (id, created_at) through the external_id registry, so only one partition is read
+     */
+    @Query(SELECT_ORDER_ROW +
+            "WHERE o.id = (SELECT e.orderId FROM OrderExternalIdEntity e WHERE e.externalId = :externalId) " +
+            "AND o.createdAt = (SELECT e.orderCreatedAt FROM OrderExternalIdEntity e WHERE e.externalId = :externalId)")
+    Optional<OrderRow> findRowByExternalId(String externalId);
+}
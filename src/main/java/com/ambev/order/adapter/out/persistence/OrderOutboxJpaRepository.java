@@ -0,0 +1,23 @@
+package com.ambev.order.adapter.out.persistence;
+
+import com.ambev.order.adapter.out.persistence.entity.OrderOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA Repository for the order outbox
+ */
+@Repository
+public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutboxEntity, UUID> {
+
+    /**
+     * Locks the oldest entries, skipping rows already locked by relays on other nodes
+     */
+    @Query(value = "SELECT * FROM order_outbox ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OrderOutboxEntity> lockNextBatch(int limit);
+}
@@ -0,0 +1,268 @@
+package com.ambev.order.adapter.out.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the range partitions of orders/order_items (see V6) ahead of the clock and applies retention:
+ * creates the partitions of the next periods and detaches or drops the ones past the retention window,
+ * order_items first since its foreign key references the orders partition of the same period.
+ * Runs on startup and on a cron; an advisory lock keeps concurrent nodes from racing on the DDL.
+ * Under the same lock, order_status_totals is periodically recomputed from orders.
+ */
+@Component
+@ConditionalOnProperty(name = "order.partitions.maintenance.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OrderPartitionMaintenanceJob {
+
+    public enum RetentionAction { DETACH, DROP }
+
+    /**
+     * Period length of new partitions. Partitions are named orders_p{suffix} / order_items_p{suffix}.
+     */
+    public enum PartitionInterval {
+        DAILY("yyyyMMdd"),
+        MONTHLY("yyyyMM");
+
+        private final DateTimeFormatter suffixFormat;
+
+        PartitionInterval(String suffixPattern) {
+            this.suffixFormat = DateTimeFormatter.ofPattern(suffixPattern);
+        }
+
+        LocalDate periodStart(LocalDate date) {
+            return this == DAILY ? date : date.withDayOfMonth(1);
+        }
+
+        LocalDate plus(LocalDate periodStart, long periods) {
+            return this == DAILY ? periodStart.plusDays(periods) : periodStart.plusMonths(periods);
+        }
+
+        String suffix(LocalDate periodStart) {
+            return suffixFormat.format(periodStart);
+        }
+    }
+
+    /**
+     * A partition of orders, parsed back from its name so partitions created under a previous
+     * interval setting are still recognised
+     */
+    record Partition(String suffix, LocalDate start, LocalDate end) {
+
+        private static final Pattern NAME = Pattern.compile("orders_p(\\d{8}|\\d{6})");
+
+        static Partition parse(String tableName) {
+            Matcher matcher = NAME.matcher(tableName);
+            if (!matcher.matches()) {
+                return null;
+            }
+            String suffix = matcher.group(1);
+            PartitionInterval interval = suffix.length() == 8 ? PartitionInterval.DAILY : PartitionInterval.MONTHLY;
+            LocalDate start = interval == PartitionInterval.DAILY
+                    ? LocalDate.parse(suffix, interval.suffixFormat)
+                    : LocalDate.parse(suffix + "01", PartitionInterval.DAILY.suffixFormat);
+            return new Partition(suffix, start, interval.plus(start, 1));
+        }
+    }
+
+    private static final long ADVISORY_LOCK_KEY = 0x6F72646572735F70L;
+    private static final int EXTERNAL_ID_DELETE_BATCH = 10_000;
+
+    private static final String CREATE_PARTITION = "SELECT create_order_partition(?, ?, ?)";
+    private static final String LIST_PARTITIONS =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = 'orders'::regclass";
+    private static final String DELETE_EXPIRED_EXTERNAL_IDS =
+            "DELETE FROM order_external_ids WHERE external_id IN " +
+            "(SELECT external_id FROM order_external_ids WHERE order_created_at < ? LIMIT " + EXTERNAL_ID_DELETE_BATCH + ")";
+    private static final String SUBTRACT_STATUS_TOTAL =
+            "UPDATE order_status_totals SET order_count = order_count - ? WHERE status = ?";
+    private static final String RECONCILE_STATUS_TOTALS = """
+            WITH actual AS (SELECT status, count(*) AS order_count FROM orders GROUP BY status)
+            INSERT INTO order_status_totals (status, order_count)
+            SELECT coalesce(a.status, t.status), coalesce(a.order_count, 0)
+            FROM actual a FULL JOIN order_status_totals t ON t.status = a.status
+            ON CONFLICT (status) DO UPDATE SET order_count = EXCLUDED.order_count
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${order.partitions.interval:MONTHLY}")
+    private PartitionInterval interval;
+
+    @Value("${order.partitions.premake:3}")
+    private int premake;
+
+    @Value("${order.partitions.retention:0}")
+    private int retention;
+
+    @Value("${order.partitions.retention-action:DETACH}")
+    private RetentionAction retentionAction;
+
+    public OrderPartitionMaintenanceJob(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${order.partitions.maintenance.cron:0 0 3 * * *}")
+    public void maintain() {
+        LocalDate today = LocalDate.now();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!tryLock(connection)) {
+                log.info("Adapter: Partition maintenance already running on another node");
+                return null;
+            }
+            try {
+                createAhead(connection, today);
+                if (retention > 0) {
+                    expire(connection, interval.plus(interval.periodStart(today), -retention));
+                }
+            } finally {
+                unlock(connection);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Recomputes order_status_totals from the orders table, correcting the counts lost when a node
+     * crashes before flushing its stats deltas. Deltas still in memory on any node at that moment are
+     * added again when flushed, so the totals may stay off by up to one flush interval until the next run.
+     */
+    @Scheduled(cron = "${order.stats.reconcile-cron:0 37 * * * *}")
+    public void reconcileStatusTotals() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!tryLock(connection)) {
+                log.info("Adapter: Partition maintenance running on another node, skipping stats reconciliation");
+                return null;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(RECONCILE_STATUS_TOTALS);
+                log.info("Adapter: Order status totals reconciled");
+            } finally {
+                unlock(connection);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Creates the current period and the next {@code premake} ones; existing partitions are left as they are
+     */
+    void createAhead(Connection connection, LocalDate today) throws SQLException {
+        LocalDate current = interval.periodStart(today);
+        for (int i = 0; i <= premake; i++) {
+            LocalDate start = interval.plus(current, i);
+            try (PreparedStatement statement = connection.prepareStatement(CREATE_PARTITION)) {
+                statement.setTimestamp(1, Timestamp.valueOf(start.atStartOfDay()));
+                statement.setTimestamp(2, Timestamp.valueOf(interval.plus(start, 1).atStartOfDay()));
+                statement.setString(3, interval.suffix(start));
+                statement.execute();
+            } catch (SQLException e) {
+                // e.g. a DAILY period inside a MONTHLY partition created before the interval was changed
+                log.warn("Adapter: Could not create partition {} of orders: {}", interval.suffix(start), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Detaches or drops every partition that ends on or before the cutoff, taking its orders out of
+     * order_status_totals, then forgets the external IDs of those orders so the registry does not
+     * outgrow the retained data
+     */
+    void expire(Connection connection, LocalDate cutoff) throws SQLException {
+        List<Partition> expired = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LIST_PARTITIONS)) {
+            while (resultSet.next()) {
+                Partition partition = Partition.parse(resultSet.getString(1));
+                if (partition != null && !partition.end().isAfter(cutoff)) {
+                    expired.add(partition);
+                }
+            }
+        }
+
+        for (Partition partition : expired) {
+            String items = "order_items_p" + partition.suffix();
+            String orders = "orders_p" + partition.suffix();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE order_items DETACH PARTITION " + items);
+                // The detached table keeps its own copy of the foreign key, which would block detaching orders
+                statement.execute("ALTER TABLE " + items + " DROP CONSTRAINT IF EXISTS fk_order_items_order");
+                statement.execute("ALTER TABLE orders DETACH PARTITION " + orders);
+                subtractStatusTotals(connection, orders);
+                if (retentionAction == RetentionAction.DROP) {
+                    statement.execute("DROP TABLE " + items);
+                    statement.execute("DROP TABLE " + orders);
+                }
+            }
+            log.info("Adapter: Partition {} of orders expired ({})", partition.suffix(), retentionAction);
+        }
+
+        if (!expired.isEmpty()) {
+            deleteExpiredExternalIds(connection, cutoff);
+        }
+    }
+
+    private void subtractStatusTotals(Connection connection, String table) throws SQLException {
+        try (Statement count = connection.createStatement();
+             ResultSet resultSet = count.executeQuery("SELECT status, count(*) FROM " + table + " GROUP BY status");
+             PreparedStatement subtract = connection.prepareStatement(SUBTRACT_STATUS_TOTAL)) {
+            while (resultSet.next()) {
+                subtract.setLong(1, resultSet.getLong(2));
+                subtract.setString(2, resultSet.getString(1));
+                subtract.addBatch();
+            }
+            subtract.executeBatch();
+        }
+    }
+
+    private void deleteExpiredExternalIds(Connection connection, LocalDate cutoff) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_EXPIRED_EXTERNAL_IDS)) {
+            statement.setTimestamp(1, Timestamp.valueOf(cutoff.atStartOfDay()));
+            long deleted = 0;
+            int batch;
+            do {
+                batch = statement.executeUpdate();
+                deleted += batch;
+            } while (batch == EXTERNAL_ID_DELETE_BATCH);
+            log.info("Adapter: Removed {} expired external IDs", deleted);
+        }
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            statement.execute();
+        }
+    }
+}
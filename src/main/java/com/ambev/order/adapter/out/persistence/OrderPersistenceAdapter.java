@@ -1,16 +1,37 @@
 package com.ambev.order.adapter.out.persistence;
 
+import com.ambev.order.adapter.out.persistence.entity.OrderStatusHistoryEntity;
+import com.ambev.order.adapter.out.persistence.projection.OrderItemRow;
+import com.ambev.order.adapter.out.persistence.projection.OrderRow;
+import com.ambev.order.application.exception.DuplicateOrderException;
+import com.ambev.order.domain.model.OrderCursor;
 import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderExportFilter;
+import com.ambev.order.domain.model.OrderSlice;
 import com.ambev.order.domain.model.OrderStatusDomain;
 import com.ambev.order.domain.port.out.OrderRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Adapter - Implementation of OrderRepositoryPort
@@ -22,49 +43,195 @@ import java.util.UUID;
 public class OrderPersistenceAdapter implements OrderRepositoryPort {
 
     private final OrderJpaRepository jpaRepository;
+    private final OrderItemJpaRepository itemRepository;
+    private final OrderExternalIdJpaRepository externalIdRepository;
+    private final OrderStatusHistoryJpaRepository statusHistoryRepository;
     private final OrderPersistenceMapper mapper;
 
+    private static final String EXTERNAL_ID_CONSTRAINT = "order_external_ids_pkey";
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final LocalDateTime EXPORT_MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime EXPORT_MAX_CREATED_AT = LocalDateTime.of(9999, 1, 1, 0, 0);
+
     @Override
     public OrderDomain save(OrderDomain order) {
         log.debug("Adapter: Saving order to database");
         var entity = mapper.toEntity(order);
         var savedEntity = jpaRepository.save(entity);
+        statusHistoryRepository.saveAll(mapper.toStatusHistoryEntities(savedEntity.getId(), order.getStatusHistory()));
+        flush("Order with external ID " + order.getExternalId() + " already exists");
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<OrderDomain> saveAll(List<OrderDomain> orders) {
+        log.debug("Adapter: Saving batch of {} orders to database", orders.size());
+        var entities = orders.stream()
+                .map(mapper::toEntity)
+                .toList();
+        var savedEntities = jpaRepository.saveAll(entities);
+
+        List<OrderStatusHistoryEntity> statusHistory = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            statusHistory.addAll(mapper.toStatusHistoryEntities(
+                    savedEntities.get(i).getId(), orders.get(i).getStatusHistory()));
+        }
+        statusHistoryRepository.saveAll(statusHistory);
+
+        // Flush here so the inserts go out as JDBC batches inside the caller's transaction
+        flush("Batch contains an external ID that already exists");
+        return savedEntities.stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * Flushes inside the caller's transaction so an external_id already registered (by another node or
+     * by the bulk import) fails here as a DuplicateOrderException instead of at commit
+     */
+    private void flush(String duplicateMessage) {
+        try {
+            jpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (cause != null && cause.contains(EXTERNAL_ID_CONSTRAINT)) {
+                throw new DuplicateOrderException(duplicateMessage);
+            }
+            throw e;
+        }
+    }
+
     @Override
     public Optional<OrderDomain> findById(UUID id) {
         log.debug("Adapter: Finding order by ID: {}", id);
-        return jpaRepository.findByIdWithItems(id)
-                .map(mapper::toDomain);
+        return jpaRepository.findRowById(id)
+                .map(this::hydrate);
     }
 
     @Override
     public Optional<OrderDomain> findByExternalId(String externalId) {
         log.debug("Adapter: Finding order by external ID: {}", externalId);
-        return jpaRepository.findByExternalIdWithItems(externalId)
-                .map(mapper::toDomain);
+        return jpaRepository.findRowByExternalId(externalId)
+                .map(this::hydrate);
     }
 
     @Override
     public boolean existsByExternalId(String externalId) {
         log.debug("Adapter: Checking if order exists by external ID: {}", externalId);
-        return jpaRepository.existsByExternalId(externalId);
+        return externalIdRepository.existsById(externalId);
+    }
+
+    @Override
+    public Set<String> findExistingExternalIds(Collection<String> externalIds) {
+        log.debug("Adapter: Checking {} external IDs against database", externalIds.size());
+        if (externalIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        return externalIdRepository.findExistingExternalIds(externalIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachExternalId(Consumer<String> consumer) {
+        log.debug("Adapter: Streaming all external IDs");
+        try (var externalIds = externalIdRepository.streamAllExternalIds()) {
+            externalIds.forEach(consumer);
+        }
     }
 
     @Override
     public Page<OrderDomain> findAll(Pageable pageable) {
         log.debug("Adapter: Finding all orders with pagination");
-        return jpaRepository.findAll(pageable)
-                .map(mapper::toDomain);
+        return hydrate(jpaRepository.findAllRows(pageable));
     }
 
     @Override
-    public Page<OrderDomain> findByStatus(OrderStatusDomain status, Pageable pageable) {
+    public List<OrderDomain> findByStatus(OrderStatusDomain status, Pageable pageable) {
         log.debug("Adapter: Finding orders by status: {}", status);
         var entityStatus = mapper.toEntityStatus(status);
-        return jpaRepository.findByStatus(entityStatus, pageable)
-                .map(mapper::toDomain);
+        return hydrate(jpaRepository.findRowsByStatus(entityStatus, pageable));
+    }
+
+    @Override
+    public OrderSlice findAllAfter(OrderCursor cursor, int limit) {
+        log.debug("Adapter: Finding {} orders after cursor: {}", limit, cursor);
+        var rows = cursor == null
+                ? jpaRepository.findFirstSlice(limit + 1)
+                : jpaRepository.findSliceAfter(cursor.getCreatedAt(), cursor.getId(), limit + 1);
+        return OrderSlice.of(hydrate(rows), limit);
+    }
+
+    @Override
+    public OrderSlice findByStatusAfter(OrderStatusDomain status, OrderCursor cursor, int limit) {
+        log.debug("Adapter: Finding {} orders by status: {} after cursor: {}", limit, status, cursor);
+        var entityStatus = mapper.toEntityStatus(status).name();
+        var rows = cursor == null
+                ? jpaRepository.findFirstSliceByStatus(entityStatus, limit + 1)
+                : jpaRepository.findSliceByStatusAfter(entityStatus, cursor.getCreatedAt(), cursor.getId(), limit + 1);
+        return OrderSlice.of(hydrate(rows), limit);
+    }
+
+    /**
+     * Scrolls the matching order rows with a server-side cursor and hydrates items one chunk at a time.
+     * Rows are projections, not managed entities, so nothing accumulates in the persistence context
+     * and memory stays flat for any export size.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachOrder(OrderExportFilter filter, Consumer<OrderDomain> consumer) {
+        log.debug("Adapter: Streaming orders for export: {}", filter);
+        List<OrderRow> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        var createdFrom = filter.getCreatedFrom() != null ? filter.getCreatedFrom() : EXPORT_MIN_CREATED_AT;
+        var createdTo = filter.getCreatedTo() != null ? filter.getCreatedTo() : EXPORT_MAX_CREATED_AT;
+        try (var orders = jpaRepository.streamRowsForExport(mapper.toEntityStatus(filter.getStatus()), createdFrom, createdTo)) {
+            orders.forEach(order -> {
+                chunk.add(order);
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    flushChunk(chunk, consumer);
+                }
+            });
+        }
+        flushChunk(chunk, consumer);
+    }
+
+    private void flushChunk(List<OrderRow> chunk, Consumer<OrderDomain> consumer) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        hydrate(chunk).forEach(consumer);
+        chunk.clear();
     }
-}
 
+    /**
+     * Single order: its items live in the one order_items partition of its created_at
+     */
+    private OrderDomain hydrate(OrderRow order) {
+        var items = itemRepository.findRowsByOrderIdIn(List.of(order.id()), order.createdAt(), order.createdAt());
+        return mapper.toDomain(order, items);
+    }
+
+    private Page<OrderDomain> hydrate(Page<OrderRow> page) {
+        return new PageImpl<>(hydrate(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * Loads the items of all listed orders with a single IN query and stitches them in memory,
+     * instead of one items query per order.
+     * The page's created_at range keeps the IN query on the matching order_items partitions.
+     */
+    private List<OrderDomain> hydrate(List<OrderRow> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> orderIds = orders.stream().map(OrderRow::id).toList();
+        LocalDateTime createdFrom = orders.stream().map(OrderRow::createdAt).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime createdTo = orders.stream().map(OrderRow::createdAt).max(Comparator.naturalOrder()).orElseThrow();
+        Map<UUID, List<OrderItemRow>> itemsByOrder = itemRepository.findRowsByOrderIdIn(orderIds, createdFrom, createdTo).stream()
+                .collect(Collectors.groupingBy(OrderItemRow::orderId));
+
+        return orders.stream()
+                .map(order -> mapper.toDomain(order, itemsByOrder.getOrDefault(order.id(), List.of())))
+                .toList();
+    }
+}
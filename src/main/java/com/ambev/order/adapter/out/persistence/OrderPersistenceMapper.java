@@ -3,11 +3,21 @@ package com.ambev.order.adapter.out.persistence;
 import com.ambev.order.adapter.out.persistence.entity.OrderEntity;
 import com.ambev.order.adapter.out.persistence.entity.OrderItemEntity;
 import com.ambev.order.adapter.out.persistence.entity.OrderStatusEntity;
+import com.ambev.order.adapter.out.persistence.entity.OrderStatusHistoryEntity;
+import com.ambev.order.adapter.out.persistence.projection.OrderItemRow;
+import com.ambev.order.adapter.out.persistence.projection.OrderRow;
+import com.ambev.order.domain.model.Money;
 import com.ambev.order.domain.model.OrderDomain;
 import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderStatusChangeDomain;
 import com.ambev.order.domain.model.OrderStatusDomain;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -25,7 +35,7 @@ public class OrderPersistenceMapper {
                 .id(domain.getId())
                 .externalId(domain.getExternalId())
                 .status(toEntityStatus(domain.getStatus()))
-                .totalAmount(domain.getTotalAmount())
+                .totalAmount(toDecimal(domain.getTotalAmount()))
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
                 .version(domain.getVersion())
@@ -45,19 +55,29 @@ public class OrderPersistenceMapper {
         if (entity == null) {
             return null;
         }
+        return toDomain(entity, entity.getItems());
+    }
+
+    /**
+     * Maps the order with items loaded separately, without touching the lazy items collection
+     */
+    public OrderDomain toDomain(OrderEntity entity, List<OrderItemEntity> itemEntities) {
+        if (entity == null) {
+            return null;
+        }
 
         OrderDomain domain = OrderDomain.builder()
                 .id(entity.getId())
                 .externalId(entity.getExternalId())
                 .status(toDomainStatus(entity.getStatus()))
-                .totalAmount(entity.getTotalAmount())
+                .totalAmount(Money.ofNullable(entity.getTotalAmount()))
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .version(entity.getVersion())
                 .build();
 
-        if (entity.getItems() != null) {
-            var items = entity.getItems().stream()
+        if (itemEntities != null) {
+            var items = itemEntities.stream()
                     .map(this::toItemDomain)
                     .collect(Collectors.toList());
             domain.setItems(items);
@@ -66,6 +86,41 @@ public class OrderPersistenceMapper {
         return domain;
     }
 
+    /**
+     * Maps a read projection; the items are the rows loaded for this order
+     */
+    public OrderDomain toDomain(OrderRow row, List<OrderItemRow> itemRows) {
+        if (row == null) {
+            return null;
+        }
+
+        List<OrderItemDomain> items = new ArrayList<>(itemRows.size());
+        for (OrderItemRow itemRow : itemRows) {
+            items.add(toItemDomain(itemRow));
+        }
+
+        return OrderDomain.builder()
+                .id(row.id())
+                .externalId(row.externalId())
+                .status(toDomainStatus(row.status()))
+                .totalAmount(Money.ofNullable(row.totalAmount()))
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .version(row.version())
+                .items(items)
+                .build();
+    }
+
+    public OrderItemDomain toItemDomain(OrderItemRow row) {
+        return OrderItemDomain.builder()
+                .id(row.id())
+                .productCode(row.productCode())
+                .quantity(row.quantity())
+                .unitPrice(Money.ofNullable(row.unitPrice()))
+                .totalPrice(Money.ofNullable(row.totalPrice()))
+                .build();
+    }
+
     public OrderItemEntity toItemEntity(OrderItemDomain domain, OrderEntity order) {
         if (domain == null) {
             return null;
@@ -74,10 +129,11 @@ public class OrderPersistenceMapper {
         return OrderItemEntity.builder()
                 .id(domain.getId())
                 .order(order)
+                .orderCreatedAt(order.getCreatedAt())
                 .productCode(domain.getProductCode())
                 .quantity(domain.getQuantity())
-                .unitPrice(domain.getUnitPrice())
-                .totalPrice(domain.getTotalPrice())
+                .unitPrice(toDecimal(domain.getUnitPrice()))
+                .totalPrice(toDecimal(domain.getTotalPrice()))
                 .build();
     }
 
@@ -90,11 +146,26 @@ public class OrderPersistenceMapper {
                 .id(entity.getId())
                 .productCode(entity.getProductCode())
                 .quantity(entity.getQuantity())
-                .unitPrice(entity.getUnitPrice())
-                .totalPrice(entity.getTotalPrice())
+                .unitPrice(Money.ofNullable(entity.getUnitPrice()))
+                .totalPrice(Money.ofNullable(entity.getTotalPrice()))
                 .build();
     }
 
+    public List<OrderStatusHistoryEntity> toStatusHistoryEntities(UUID orderId, List<OrderStatusChangeDomain> changes) {
+        if (changes == null) {
+            return Collections.emptyList();
+        }
+
+        return changes.stream()
+                .map(change -> OrderStatusHistoryEntity.builder()
+                        .orderId(orderId)
+                        .fromStatus(toEntityStatus(change.getFromStatus()))
+                        .toStatus(toEntityStatus(change.getToStatus()))
+                        .changedAt(change.getChangedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     public OrderStatusEntity toEntityStatus(OrderStatusDomain domain) {
         if (domain == null) {
             return null;
@@ -108,5 +179,9 @@ public class OrderPersistenceMapper {
         }
         return OrderStatusDomain.valueOf(entity.name());
     }
+
+    private static BigDecimal toDecimal(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
 }
 
@@ -0,0 +1,148 @@
+package com.ambev.order.adapter.out.persistence;
+
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderCursor;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderSlice;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.ambev.order.domain.port.out.ReactiveOrderRepositoryPort;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter - Non-blocking implementation of ReactiveOrderRepositoryPort over R2DBC.
+ * Runs the same SQL as OrderPersistenceAdapter (keyset slices reuse the OrderSql statements,
+ * so partition pruning behaves identically) and hydrates items with one IN query per slice.
+ * Rows map straight to the domain model; no entities or persistence context are involved.
+ */
+@Component
+@ConditionalOnProperty(name = "order.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderR2dbcAdapter implements ReactiveOrderRepositoryPort {
+
+    private static final String FIND_BY_ID = "SELECT * FROM orders WHERE id = :id";
+
+    private static final String FIND_BY_EXTERNAL_ID = "SELECT o.* FROM order_external_ids e " +
+            "JOIN orders o ON o.id = e.order_id AND o.created_at = e.order_created_at " +
+            "WHERE e.external_id = :externalId";
+
+    private static final String FIND_ITEMS = "SELECT * FROM order_items WHERE order_id IN (:orderIds) " +
+            "AND order_created_at BETWEEN :createdFrom AND :createdTo";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<OrderDomain> findById(UUID id) {
+        log.debug("Adapter: Finding order by ID (R2DBC): {}", id);
+        return databaseClient.sql(FIND_BY_ID)
+                .bind("id", id)
+                .map(this::toOrder)
+                .one()
+                .flatMap(order -> hydrate(List.of(order)).map(orders -> orders.get(0)));
+    }
+
+    @Override
+    public Mono<OrderDomain> findByExternalId(String externalId) {
+        log.debug("Adapter: Finding order by external ID (R2DBC): {}", externalId);
+        return databaseClient.sql(FIND_BY_EXTERNAL_ID)
+                .bind("externalId", externalId)
+                .map(this::toOrder)
+                .one()
+                .flatMap(order -> hydrate(List.of(order)).map(orders -> orders.get(0)));
+    }
+
+    @Override
+    public Mono<OrderSlice> findAllAfter(OrderCursor cursor, int limit) {
+        log.debug("Adapter: Finding {} orders after cursor (R2DBC): {}", limit, cursor);
+        DatabaseClient.GenericExecuteSpec spec = cursor == null
+                ? databaseClient.sql(OrderSql.FIND_FIRST_SLICE)
+                : bindCursor(databaseClient.sql(OrderSql.FIND_SLICE_AFTER), cursor);
+        return slice(spec, limit);
+    }
+
+    @Override
+    public Mono<OrderSlice> findByStatusAfter(OrderStatusDomain status, OrderCursor cursor, int limit) {
+        log.debug("Adapter: Finding {} orders by status: {} after cursor (R2DBC): {}", limit, status, cursor);
+        DatabaseClient.GenericExecuteSpec spec = cursor == null
+                ? databaseClient.sql(OrderSql.FIND_FIRST_SLICE_BY_STATUS)
+                : bindCursor(databaseClient.sql(OrderSql.FIND_SLICE_BY_STATUS_AFTER), cursor);
+        return slice(spec.bind("status", status.name()), limit);
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindCursor(DatabaseClient.GenericExecuteSpec spec, OrderCursor cursor) {
+        return spec.bind("createdAt", cursor.getCreatedAt()).bind("id", cursor.getId());
+    }
+
+    private Mono<OrderSlice> slice(DatabaseClient.GenericExecuteSpec spec, int limit) {
+        return spec.bind("limit", limit + 1)
+                .map(this::toOrder)
+                .all()
+                .collectList()
+                .flatMap(this::hydrate)
+                .map(rows -> OrderSlice.of(rows, limit));
+    }
+
+    /**
+     * Same stitching as OrderPersistenceAdapter: one IN query bounded by the orders' created_at range
+     */
+    private Mono<List<OrderDomain>> hydrate(List<OrderDomain> orders) {
+        if (orders.isEmpty()) {
+            return Mono.just(orders);
+        }
+
+        List<UUID> orderIds = orders.stream().map(OrderDomain::getId).toList();
+        LocalDateTime createdFrom = orders.stream().map(OrderDomain::getCreatedAt).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime createdTo = orders.stream().map(OrderDomain::getCreatedAt).max(Comparator.naturalOrder()).orElseThrow();
+
+        return databaseClient.sql(FIND_ITEMS)
+                .bind("orderIds", orderIds)
+                .bind("createdFrom", createdFrom)
+                .bind("createdTo", createdTo)
+                .map(row -> Map.entry(row.get("order_id", UUID.class), toItem(row)))
+                .all()
+                .collect(Collectors.groupingBy(Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())))
+                .map(itemsByOrder -> {
+                    orders.forEach(order -> order.setItems(itemsByOrder.getOrDefault(order.getId(), new ArrayList<>())));
+                    return orders;
+                });
+    }
+
+    private OrderDomain toOrder(Readable row) {
+        return OrderDomain.builder()
+                .id(row.get("id", UUID.class))
+                .externalId(row.get("external_id", String.class))
+                .status(OrderStatusDomain.valueOf(row.get("status", String.class)))
+                .totalAmount(Money.ofNullable(row.get("total_amount", BigDecimal.class)))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    private OrderItemDomain toItem(Readable row) {
+        return OrderItemDomain.builder()
+                .id(row.get("id", UUID.class))
+                .productCode(row.get("product_code", String.class))
+                .quantity(row.get("quantity", Integer.class))
+                .unitPrice(Money.ofNullable(row.get("unit_price", BigDecimal.class)))
+                .totalPrice(Money.ofNullable(row.get("total_price", BigDecimal.class)))
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.ambev.order.adapter.out.persistence;
+
+/**
+ * Native keyset queries over orders, shared by the named queries on OrderEntity (JPA)
+ * and by OrderR2dbcAdapter.
+ */
+public final class OrderSql {
+
+    /*
+     * Keyset pagination over (created_at DESC, id DESC): the row-value comparison seeks straight into
+     * idx_orders_created_at_id / idx_orders_status_created_at_id, so deep slices cost the same as the first.
+     * Partition pruning does not understand row values, hence the redundant created_at <= :createdAt bound;
+     * the first slice is an ordered Append over the partitions that stops at the newest ones.
+     */
+    public static final String FIND_FIRST_SLICE = "SELECT * FROM orders ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    public static final String FIND_SLICE_AFTER = "SELECT * FROM orders WHERE created_at <= :createdAt AND (created_at, id) < (:createdAt, :id) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    public static final String FIND_FIRST_SLICE_BY_STATUS = "SELECT * FROM orders WHERE status = :status " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    public static final String FIND_SLICE_BY_STATUS_AFTER = "SELECT * FROM orders WHERE status = :status " +
+            "AND created_at <= :createdAt AND (created_at, id) < (:createdAt, :id) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    private OrderSql() {
+    }
+}
@@ -0,0 +1,14 @@
+package com.ambev.order.adapter.out.persistence;
+
+import com.ambev.order.adapter.out.persistence.entity.OrderStatusHistoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * JPA Repository for the append-only order status journal
+ */
+@Repository
+public interface OrderStatusHistoryJpaRepository extends JpaRepository<OrderStatusHistoryEntity, UUID> {
+}
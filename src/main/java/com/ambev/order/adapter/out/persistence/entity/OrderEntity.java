@@ -1,5 +1,8 @@
 package com.ambev.order.adapter.out.persistence.entity;
 
+import com.ambev.order.adapter.out.persistence.OrderSql;
+import com.ambev.order.adapter.out.persistence.id.UuidV7Generator;
+import com.ambev.order.adapter.out.persistence.projection.OrderRow;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,25 +16,50 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * Range-partitioned by created_at (see V6). The database key is (id, created_at); external_id
+ * uniqueness is enforced through the order_external_ids registry.
+ */
 @Entity
 @Table(name = "orders", indexes = {
-    @Index(name = "idx_external_id", columnList = "external_id", unique = true),
-    @Index(name = "idx_status", columnList = "status"),
-    @Index(name = "idx_created_at", columnList = "created_at")
+    @Index(name = "idx_orders_created_at_id", columnList = "created_at DESC, id DESC"),
+    @Index(name = "idx_orders_status_created_at_id", columnList = "status, created_at DESC, id DESC")
 })
+@SqlResultSetMapping(name = OrderEntity.ORDER_ROW_MAPPING, classes = @ConstructorResult(targetClass = OrderRow.class, columns = {
+    @ColumnResult(name = "id", type = UUID.class),
+    @ColumnResult(name = "external_id", type = String.class),
+    @ColumnResult(name = "status", type = String.class),
+    @ColumnResult(name = "total_amount", type = BigDecimal.class),
+    @ColumnResult(name = "created_at", type = LocalDateTime.class),
+    @ColumnResult(name = "updated_at", type = LocalDateTime.class),
+    @ColumnResult(name = "version", type = Long.class)
+}))
+@NamedNativeQuery(name = "OrderEntity.findFirstSlice", query = OrderSql.FIND_FIRST_SLICE,
+        resultSetMapping = OrderEntity.ORDER_ROW_MAPPING)
+@NamedNativeQuery(name = "OrderEntity.findSliceAfter", query = OrderSql.FIND_SLICE_AFTER,
+        resultSetMapping = OrderEntity.ORDER_ROW_MAPPING)
+@NamedNativeQuery(name = "OrderEntity.findFirstSliceByStatus", query = OrderSql.FIND_FIRST_SLICE_BY_STATUS,
+        resultSetMapping = OrderEntity.ORDER_ROW_MAPPING)
+@NamedNativeQuery(name = "OrderEntity.findSliceByStatusAfter", query = OrderSql.FIND_SLICE_BY_STATUS_AFTER,
+        resultSetMapping = OrderEntity.ORDER_ROW_MAPPING)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderEntity {
 
+    /**
+     * Maps the keyset queries in OrderSql (native SQL, kept as is for partition pruning) to OrderRow
+     */
+    public static final String ORDER_ROW_MAPPING = "OrderRow";
+
     @Id
     @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @GenericGenerator(name = "UUID", type = UuidV7Generator.class)
     @Column(updatable = false, nullable = false)
     private UUID id;
 
-    @Column(name = "external_id", nullable = false, unique = true, length = 100)
+    @Column(name = "external_id", nullable = false, length = 100)
     private String externalId;
 
     @Enumerated(EnumType.STRING)
@@ -58,6 +86,8 @@ public class OrderEntity {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        // Items are co-partitioned with their order, so they carry its partition key
+        items.forEach(item -> item.setOrderCreatedAt(createdAt));
         if (status == null) {
             status = OrderStatusEntity.RECEIVED;
         }
@@ -75,11 +105,5 @@ public class OrderEntity {
         items.add(item);
         item.setOrder(this);
     }
-
-    public void calculateTotalAmount() {
-        this.totalAmount = items.stream()
-                .map(OrderItemEntity::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
 }
 
@@ -0,0 +1,41 @@
+package com.ambev.order.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Global external_id registry of the partitioned orders table.
+ * Rows are written by the trigger on orders (see V6), never by the application.
+ */
+@Entity
+@Immutable
+@Table(name = "order_external_ids", indexes = {
+    @Index(name = "idx_order_external_ids_created_at", columnList = "order_created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderExternalIdEntity {
+
+    @Id
+    @Column(name = "external_id", length = 100)
+    private String externalId;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "order_created_at", nullable = false)
+    private LocalDateTime orderCreatedAt;
+}
@@ -1,5 +1,6 @@
 package com.ambev.order.adapter.out.persistence.entity;
 
+import com.ambev.order.adapter.out.persistence.id.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.GenericGenerator;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
@@ -20,7 +22,7 @@ public class OrderItemEntity {
 
     @Id
     @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @GenericGenerator(name = "UUID", type = UuidV7Generator.class)
     @Column(updatable = false, nullable = false)
     private UUID id;
 
@@ -28,6 +30,12 @@ public class OrderItemEntity {
     @JoinColumn(name = "order_id", nullable = false)
     private OrderEntity order;
 
+    /**
+     * Partition key of order_items, copied from the order (see OrderEntity#onCreate)
+     */
+    @Column(name = "order_created_at", nullable = false, updatable = false)
+    private LocalDateTime orderCreatedAt;
+
     @Column(name = "product_code", nullable = false, length = 50)
     private String productCode;
 
@@ -37,15 +45,10 @@ public class OrderItemEntity {
     @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
     private BigDecimal unitPrice;
 
+    /**
+     * Computed once by the domain (OrderItemDomain#calculateTotalPrice) and stored as is
+     */
     @Column(name = "total_price", nullable = false, precision = 10, scale = 2)
     private BigDecimal totalPrice;
-
-    @PrePersist
-    @PreUpdate
-    protected void calculateTotalPrice() {
-        if (quantity != null && unitPrice != null) {
-            this.totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
-        }
-    }
 }
 
@@ -0,0 +1,46 @@
+package com.ambev.order.adapter.out.persistence.entity;
+
+import com.ambev.order.adapter.out.persistence.id.UuidV7Generator;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox entry holding the serialized order to publish to System B
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+    @Index(name = "idx_order_outbox_created_at", columnList = "created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderOutboxEntity {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", type = UuidV7Generator.class)
+    @Column(updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private UUID orderId;
+
+    @Column(nullable = false, updatable = false)
+    private byte[] payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,47 @@
+package com.ambev.order.adapter.out.persistence.entity;
+
+import com.ambev.order.adapter.out.persistence.id.UuidV7Generator;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Append-only journal of order status transitions.
+ * Rows are only ever inserted, so there is no version column and no association to OrderEntity.
+ */
+@Entity
+@Table(name = "order_status_history", indexes = {
+    @Index(name = "idx_order_status_history_order_id", columnList = "order_id, changed_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusHistoryEntity {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", type = UuidV7Generator.class)
+    @Column(updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private UUID orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20, updatable = false)
+    private OrderStatusEntity fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, length = 20, updatable = false)
+    private OrderStatusEntity toStatus;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,43 @@
+package com.ambev.order.adapter.out.persistence.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic UUIDv7 (RFC 9562): 48-bit Unix epoch milliseconds, 12-bit sequence in rand_a, 62 random bits.
+ * IDs generated by this JVM are strictly increasing, even within the same millisecond or when the clock
+ * steps back, so new rows always land at the right edge of the primary-key B-tree.
+ */
+public final class UuidV7 {
+
+    private static final int SEQUENCE_BITS = 12;
+
+    /**
+     * (millis << 12) | sequence of the last generated ID. A sequence overflow carries into the
+     * millisecond field, which keeps the ordering instead of blocking until the next tick.
+     */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long state = LAST.updateAndGet(last -> Math.max(last + 1, now));
+
+        long timestamp = state >>> SEQUENCE_BITS;
+        long sequence = state & ((1L << SEQUENCE_BITS) - 1);
+        long mostSigBits = (timestamp << 16) | 0x7000L | sequence;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Milliseconds since the epoch encoded in a UUIDv7
+     */
+    public static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ambev.order.adapter.out.persistence.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Read-only projection of an order_items row, with the owning order's ID instead of the order association
+ */
+public record OrderItemRow(UUID orderId,
+                           UUID id,
+                           String productCode,
+                           Integer quantity,
+                           BigDecimal unitPrice,
+                           BigDecimal totalPrice) {
+}
@@ -0,0 +1,29 @@
+package com.ambev.order.adapter.out.persistence.projection;
+
+import com.ambev.order.adapter.out.persistence.entity.OrderStatusEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of an orders row. Built straight from the result set by JPQL constructor
+ * expressions (or the OrderRow result set mapping for the native keyset queries), so reads never
+ * create managed entities or their dirty-checking snapshots.
+ */
+public record OrderRow(UUID id,
+                       String externalId,
+                       OrderStatusEntity status,
+                       BigDecimal totalAmount,
+                       LocalDateTime createdAt,
+                       LocalDateTime updatedAt,
+                       Long version) {
+
+    /**
+     * Native queries return the status column as its stored name
+     */
+    public OrderRow(UUID id, String externalId, String status, BigDecimal totalAmount,
+                    LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this(id, externalId, OrderStatusEntity.valueOf(status), totalAmount, createdAt, updatedAt, version);
+    }
+}
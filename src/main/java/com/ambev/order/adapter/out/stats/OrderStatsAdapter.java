@@ -0,0 +1,310 @@
+package com.ambev.order.adapter.out.stats;
+
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderStatsBucket;
+import com.ambev.order.domain.model.OrderStatsGranularity;
+import com.ambev.order.domain.model.OrderStatusChangeDomain;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.ambev.order.domain.port.out.OrderStatsPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Adapter - Incrementally maintained order statistics.
+ * Status transitions are added to in-memory deltas (per status, and per status and MINUTE/HOUR bucket)
+ * and flushed periodically as additive upserts into order_status_totals and order_stats_rollup, so
+ * several nodes can flush concurrently. Reads combine the persisted values, refreshed on every flush,
+ * with this node's deltas not flushed yet, without touching the orders table.
+ */
+@Component
+@Slf4j
+public class OrderStatsAdapter implements OrderStatsPort {
+
+    private static final String UPSERT_ROLLUP = """
+            INSERT INTO order_stats_rollup (granularity, bucket_start, status, order_count, revenue)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (granularity, bucket_start, status) DO UPDATE
+            SET order_count = order_stats_rollup.order_count + EXCLUDED.order_count,
+                revenue = order_stats_rollup.revenue + EXCLUDED.revenue
+            """;
+
+    private static final String UPSERT_TOTAL = """
+            INSERT INTO order_status_totals (status, order_count) VALUES (?, ?)
+            ON CONFLICT (status) DO UPDATE SET order_count = order_status_totals.order_count + EXCLUDED.order_count
+            """;
+
+    private static final String SELECT_TOTALS = "SELECT status, order_count FROM order_status_totals";
+
+    private static final String SELECT_BUCKETS =
+            "SELECT bucket_start, status, order_count, revenue FROM order_stats_rollup " +
+            "WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?";
+
+    private static final String DELETE_EXPIRED_MINUTES =
+            "DELETE FROM order_stats_rollup WHERE granularity = 'MINUTE' AND bucket_start < ?";
+
+    record BucketKey(OrderStatsGranularity granularity, LocalDateTime bucketStart, OrderStatusDomain status) {
+    }
+
+    static final class Delta {
+        final LongAdder count = new LongAdder();
+        final LongAdder revenueCents = new LongAdder();
+    }
+
+    /**
+     * Deltas accumulated between two flushes
+     */
+    static final class Deltas {
+        final Map<OrderStatusDomain, LongAdder> totals = new ConcurrentHashMap<>();
+        final Map<BucketKey, Delta> buckets = new ConcurrentHashMap<>();
+
+        boolean isEmpty() {
+            return totals.isEmpty() && buckets.isEmpty();
+        }
+
+        void addTotal(OrderStatusDomain status, long count) {
+            totals.computeIfAbsent(status, key -> new LongAdder()).add(count);
+        }
+
+        void addBucket(BucketKey key, long count, long revenueCents) {
+            Delta delta = buckets.computeIfAbsent(key, k -> new Delta());
+            delta.count.add(count);
+            delta.revenueCents.add(revenueCents);
+        }
+
+        void addAll(Deltas other) {
+            other.totals.forEach((status, count) -> addTotal(status, count.sum()));
+            other.buckets.forEach((key, delta) -> addBucket(key, delta.count.sum(), delta.revenueCents.sum()));
+        }
+    }
+
+    /**
+     * Persisted totals plus the deltas of a flush in progress; swapped as one so readers never see
+     * flushed deltas twice or not at all
+     */
+    record View(Map<OrderStatusDomain, Long> persistedTotals, Deltas inFlight) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Recording takes the read side (shared); swapping the deltas at flush takes the write side
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Deltas pending = new Deltas();
+    private volatile View view = new View(Map.of(), null);
+
+    @Value("${order.stats.minute-retention:7d}")
+    private Duration minuteRetention;
+
+    public OrderStatsAdapter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void init() {
+        view = new View(loadTotals(), null);
+    }
+
+    @Override
+    public void recordStatusChanges(Collection<OrderDomain> orders) {
+        swapLock.readLock().lock();
+        try {
+            Deltas deltas = pending;
+            for (OrderDomain order : orders) {
+                long revenueCents = order.getTotalAmount() == null ? 0 : order.getTotalAmount().minorUnits();
+                for (OrderStatusChangeDomain change : order.getStatusHistory()) {
+                    if (change.getFromStatus() != null) {
+                        deltas.addTotal(change.getFromStatus(), -1);
+                    }
+                    deltas.addTotal(change.getToStatus(), 1);
+                    for (OrderStatsGranularity granularity : OrderStatsGranularity.values()) {
+                        deltas.addBucket(new BucketKey(granularity, granularity.bucketStart(change.getChangedAt()),
+                                change.getToStatus()), 1, revenueCents);
+                    }
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long countByStatus(OrderStatusDomain status) {
+        return countsByStatus().getOrDefault(status, 0L);
+    }
+
+    @Override
+    public Map<OrderStatusDomain, Long> countsByStatus() {
+        Map<OrderStatusDomain, Long> counts = new EnumMap<>(OrderStatusDomain.class);
+        for (OrderStatusDomain status : OrderStatusDomain.values()) {
+            counts.put(status, 0L);
+        }
+
+        swapLock.readLock().lock();
+        try {
+            View current = view;
+            current.persistedTotals().forEach((status, count) -> counts.merge(status, count, Long::sum));
+            if (current.inFlight() != null) {
+                current.inFlight().totals.forEach((status, count) -> counts.merge(status, count.sum(), Long::sum));
+            }
+            pending.totals.forEach((status, count) -> counts.merge(status, count.sum(), Long::sum));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    @Override
+    public List<OrderStatsBucket> findBuckets(OrderStatsGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        log.debug("Adapter: Loading {} stats buckets from {} to {}", granularity, from, to);
+        Map<BucketKey, OrderStatsBucket> buckets = new TreeMap<>(
+                Comparator.comparing(BucketKey::bucketStart).thenComparing(BucketKey::status));
+
+        jdbcTemplate.query(SELECT_BUCKETS, resultSet -> {
+            OrderStatsBucket bucket = OrderStatsBucket.builder()
+                    .bucketStart(resultSet.getTimestamp("bucket_start").toLocalDateTime())
+                    .status(OrderStatusDomain.valueOf(resultSet.getString("status")))
+                    .count(resultSet.getLong("order_count"))
+                    .revenue(resultSet.getBigDecimal("revenue"))
+                    .build();
+            buckets.put(new BucketKey(granularity, bucket.getBucketStart(), bucket.getStatus()), bucket);
+        }, granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+
+        swapLock.readLock().lock();
+        try {
+            View current = view;
+            if (current.inFlight() != null) {
+                mergeLocal(buckets, current.inFlight(), granularity, from, to);
+            }
+            mergeLocal(buckets, pending, granularity, from, to);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        return new ArrayList<>(buckets.values());
+    }
+
+    private void mergeLocal(Map<BucketKey, OrderStatsBucket> buckets, Deltas deltas,
+                            OrderStatsGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        deltas.buckets.forEach((key, delta) -> {
+            if (key.granularity() != granularity
+                    || key.bucketStart().isBefore(from) || !key.bucketStart().isBefore(to)) {
+                return;
+            }
+            OrderStatsBucket bucket = buckets.computeIfAbsent(key, k -> OrderStatsBucket.builder()
+                    .bucketStart(k.bucketStart())
+                    .status(k.status())
+                    .revenue(BigDecimal.ZERO)
+                    .build());
+            bucket.setCount(bucket.getCount() + delta.count.sum());
+            bucket.setRevenue(bucket.getRevenue().add(fromCents(delta.revenueCents.sum())));
+        });
+    }
+
+    /**
+     * Writes the deltas accumulated since the last flush in one transaction. On failure they are
+     * merged back into the pending deltas and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${order.stats.flush-interval:1000}")
+    public void flush() {
+        Deltas flushing;
+        swapLock.writeLock().lock();
+        try {
+            flushing = pending;
+            pending = new Deltas();
+            view = new View(view.persistedTotals(), flushing);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        try {
+            if (!flushing.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> write(flushing));
+            }
+        } catch (DataAccessException e) {
+            log.error("Adapter: Could not flush order stats, will retry", e);
+            swapLock.readLock().lock();
+            try {
+                pending.addAll(flushing);
+                view = new View(view.persistedTotals(), null);
+            } finally {
+                swapLock.readLock().unlock();
+            }
+            return;
+        }
+
+        try {
+            view = new View(loadTotals(), null);
+        } catch (DataAccessException e) {
+            // The flushed deltas stay in the view until the totals can be reloaded
+            log.warn("Adapter: Could not reload order status totals: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Hour buckets are kept; minute buckets only serve recent, fine-grained questions
+     */
+    @Scheduled(cron = "${order.stats.prune-cron:0 7 * * * *}")
+    public void pruneMinuteBuckets() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_MINUTES, Timestamp.valueOf(LocalDateTime.now().minus(minuteRetention)));
+        log.debug("Adapter: Pruned {} expired minute stats buckets", deleted);
+    }
+
+    private void write(Deltas deltas) {
+        List<Object[]> rollups = new ArrayList<>(deltas.buckets.size());
+        deltas.buckets.forEach((key, delta) -> rollups.add(new Object[]{
+                key.granularity().name(), Timestamp.valueOf(key.bucketStart()), key.status().name(),
+                delta.count.sum(), fromCents(delta.revenueCents.sum())}));
+
+        List<Object[]> totals = new ArrayList<>(deltas.totals.size());
+        deltas.totals.forEach((status, count) -> {
+            long sum = count.sum();
+            if (sum != 0) {
+                totals.add(new Object[]{status.name(), sum});
+            }
+        });
+
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP, rollups);
+        jdbcTemplate.batchUpdate(UPSERT_TOTAL, totals);
+    }
+
+    private Map<OrderStatusDomain, Long> loadTotals() {
+        Map<OrderStatusDomain, Long> totals = new EnumMap<>(OrderStatusDomain.class);
+        jdbcTemplate.query(SELECT_TOTALS, resultSet -> {
+            totals.put(OrderStatusDomain.valueOf(resultSet.getString("status")), resultSet.getLong("order_count"));
+        });
+        return totals;
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
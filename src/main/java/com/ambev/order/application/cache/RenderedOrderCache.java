@@ -0,0 +1,174 @@
+package com.ambev.order.application.cache;
+
+import com.ambev.order.application.dto.OrderResponseDTO;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized OrderResponseDTO bytes of COMPLETED orders, which never change once completed.
+ * GET by id or external ID answers from here without loading, mapping or serializing anything;
+ * bodies of at least order.rendered-cache.gzip.min-size are also kept gzip-compressed for clients
+ * that accept it. Entries remember the order version they were rendered from and are dropped when an
+ * invalidation for a newer version arrives (see RenderedOrderInvalidationListener).
+ * Orders created over REST are rendered at completion, for the 201 response; orders ingested from the
+ * queue are rendered by the first GET, so the consumers never pay for bodies nobody may ask for.
+ */
+@Component
+public class RenderedOrderCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    /**
+     * Response body of one order, plain and (when worth it) gzip-compressed
+     */
+    public record RenderedOrder(long version, byte[] json, byte[] gzip) {
+
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+    }
+
+    private final OrderMapper orderMapper;
+    private final ObjectWriter writer;
+    private final boolean enabled;
+    private final boolean gzipEnabled;
+    private final long gzipMinSize;
+
+    private final Cache<UUID, RenderedOrder> ordersById;
+    private final Cache<String, UUID> idsByExternalId;
+
+    public RenderedOrderCache(ObjectMapper objectMapper,
+                              OrderMapper orderMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${order.rendered-cache.enabled}") boolean enabled,
+                              @Value("${order.rendered-cache.maximum-weight}") DataSize maximumWeight,
+                              @Value("${order.rendered-cache.gzip.enabled}") boolean gzipEnabled,
+                              @Value("${order.rendered-cache.gzip.min-size}") DataSize gzipMinSize) {
+        this.orderMapper = orderMapper;
+        this.writer = objectMapper.writerFor(OrderResponseDTO.class);
+        this.enabled = enabled;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinSize = gzipMinSize.toBytes();
+
+        this.ordersById = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .<UUID, RenderedOrder>weigher((id, rendered) -> weight(rendered))
+                .recordStats()
+                .build();
+        this.idsByExternalId = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes() / 8)
+                .<String, UUID>weigher((externalId, id) -> ENTRY_OVERHEAD_BYTES + externalId.length())
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, ordersById, "orders.rendered");
+    }
+
+    /**
+     * The rendered order, or null when it is not cached
+     */
+    public RenderedOrder findById(UUID id) {
+        return enabled ? ordersById.getIfPresent(id) : null;
+    }
+
+    public RenderedOrder findByExternalId(String externalId) {
+        if (!enabled) {
+            return null;
+        }
+        UUID id = idsByExternalId.getIfPresent(externalId);
+        return id == null ? null : ordersById.getIfPresent(id);
+    }
+
+    /**
+     * Serializes the order's response DTO; COMPLETED orders are kept for the next requests
+     */
+    public RenderedOrder render(OrderDomain order) {
+        byte[] json;
+        try {
+            json = writer.writeValueAsBytes(orderMapper.toResponseDTO(order));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render order " + order.getId(), e);
+        }
+
+        long version = order.getVersion() != null ? order.getVersion() : 0;
+        if (!enabled || order.getId() == null || order.getStatus() != OrderStatusDomain.COMPLETED) {
+            return new RenderedOrder(version, json, null);
+        }
+
+        RenderedOrder rendered = new RenderedOrder(version, json,
+                gzipEnabled && json.length >= gzipMinSize ? gzip(json) : null);
+        ordersById.put(order.getId(), rendered);
+        if (order.getExternalId() != null) {
+            idsByExternalId.put(order.getExternalId(), order.getId());
+        }
+        return rendered;
+    }
+
+    /**
+     * Drops the order if it was rendered from a version older than the given one
+     */
+    public void invalidate(UUID id, long version) {
+        ordersById.asMap().computeIfPresent(id, (key, rendered) -> rendered.version() >= version ? rendered : null);
+    }
+
+    /**
+     * True unless the Accept-Encoding header is absent, lists no gzip, or refuses it with q=0
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                for (int i = 1; i < parameters.length; i++) {
+                    String parameter = parameters[i].trim();
+                    if (parameter.startsWith("q=")) {
+                        return quality(parameter.substring(2)) > 0;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double quality(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static int weight(RenderedOrder rendered) {
+        return ENTRY_OVERHEAD_BYTES + rendered.json().length + (rendered.hasGzip() ? rendered.gzip().length : 0);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ambev.order.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch of orders from External System A")
+public class OrderBatchRequestDTO {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    @NotEmpty(message = "Batch must have at least one order")
+    @Size(max = MAX_BATCH_SIZE, message = "Batch must have at most " + MAX_BATCH_SIZE + " orders")
+    @Schema(description = "Orders to be created. Invalid orders are reported per entry instead of rejecting the batch",
+            required = true)
+    private List<OrderRequestDTO> orders;
+}
@@ -0,0 +1,32 @@
+package com.ambev.order.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch creation summary with one result per submitted order, in request order")
+public class OrderBatchResponseDTO {
+
+    @Schema(description = "Number of orders received in the batch", example = "3")
+    private int received;
+
+    @Schema(description = "Number of orders created", example = "1")
+    private int created;
+
+    @Schema(description = "Number of orders rejected as duplicates", example = "1")
+    private int duplicates;
+
+    @Schema(description = "Number of orders rejected as invalid", example = "1")
+    private int invalid;
+
+    @Schema(description = "Per-order results, in the same order as the request")
+    private List<OrderBatchResultDTO> results;
+}
@@ -0,0 +1,30 @@
+package com.ambev.order.application.dto;
+
+import com.ambev.order.domain.model.OrderCreationOutcome;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Result of a single order inside a batch")
+public class OrderBatchResultDTO {
+
+    @Schema(description = "External order ID from System A", example = "ORDER-12345")
+    private String externalId;
+
+    @Schema(description = "Outcome for this order", example = "CREATED")
+    private OrderCreationOutcome outcome;
+
+    @Schema(description = "Reason when the order was not created", example = "Order with external ID ORDER-12345 already exists")
+    private String message;
+
+    @Schema(description = "Created order, present only when outcome is CREATED")
+    private OrderResponseDTO order;
+}
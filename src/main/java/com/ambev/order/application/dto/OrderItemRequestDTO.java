@@ -2,6 +2,8 @@ package com.ambev.order.application.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -25,11 +27,13 @@ public class OrderItemRequestDTO {
 
     @NotNull(message = "Quantity is required")
     @Min(value = 1, message = "Quantity must be at least 1")
-    @Schema(description = "Quantity of the product", example = "2", required = true, minimum = "1")
+    @Max(value = 100000, message = "Quantity must be at most 100000")
+    @Schema(description = "Quantity of the product", example = "2", required = true, minimum = "1", maximum = "100000")
     private Integer quantity;
 
     @NotNull(message = "Unit price is required")
     @DecimalMin(value = "0.01", message = "Unit price must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Unit price must fit DECIMAL(10,2)")
     @Schema(description = "Unit price of the product", example = "50.00", required = true)
     private BigDecimal unitPrice;
 }
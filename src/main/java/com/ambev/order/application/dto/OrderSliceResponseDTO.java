@@ -0,0 +1,26 @@
+package com.ambev.order.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cursor-paginated list of orders, newest first")
+public class OrderSliceResponseDTO {
+
+    @Schema(description = "Orders in this slice")
+    private List<OrderResponseDTO> content;
+
+    @Schema(description = "Number of orders in this slice", example = "20")
+    private int size;
+
+    @Schema(description = "Opaque cursor for the next slice; absent on the last one")
+    private String nextCursor;
+}
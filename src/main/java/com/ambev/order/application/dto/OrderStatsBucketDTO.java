@@ -0,0 +1,33 @@
+package com.ambev.order.application.dto;
+
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Orders that entered a status, per time bucket or over the whole range")
+public class OrderStatsBucketDTO {
+
+    @Schema(description = "Start of the bucket; absent on range totals", example = "2024-01-15T10:00:00")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "Status the orders entered", example = "COMPLETED")
+    private OrderStatusDomain status;
+
+    @Schema(description = "Number of orders", example = "1520")
+    private long count;
+
+    @Schema(description = "Sum of the orders' total amounts", example = "152340.50")
+    private BigDecimal revenue;
+}
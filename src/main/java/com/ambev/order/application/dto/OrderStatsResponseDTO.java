@@ -0,0 +1,39 @@
+package com.ambev.order.application.dto;
+
+import com.ambev.order.domain.model.OrderStatsGranularity;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Order statistics served from incrementally maintained counters")
+public class OrderStatsResponseDTO {
+
+    @Schema(description = "Bucket width", example = "HOUR")
+    private OrderStatsGranularity granularity;
+
+    @Schema(description = "Range start (inclusive)", example = "2024-01-15T00:00:00")
+    private LocalDateTime from;
+
+    @Schema(description = "Range end (exclusive)", example = "2024-01-15T18:30:00")
+    private LocalDateTime to;
+
+    @Schema(description = "Number of orders currently in each status")
+    private Map<OrderStatusDomain, Long> currentByStatus;
+
+    @Schema(description = "Orders that entered each status within the range")
+    private List<OrderStatsBucketDTO> totals;
+
+    @Schema(description = "Orders that entered each status, per bucket, oldest first")
+    private List<OrderStatsBucketDTO> buckets;
+}
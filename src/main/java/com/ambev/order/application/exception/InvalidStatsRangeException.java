@@ -0,0 +1,7 @@
+package com.ambev.order.application.exception;
+
+public class InvalidStatsRangeException extends RuntimeException {
+    public InvalidStatsRangeException(String message) {
+        super(message);
+    }
+}
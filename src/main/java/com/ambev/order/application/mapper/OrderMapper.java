@@ -1,18 +1,38 @@
 package com.ambev.order.application.mapper;
 
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderCreationOutcome;
+import com.ambev.order.domain.model.OrderCreationResult;
+import com.ambev.order.domain.model.OrderCursor;
 import com.ambev.order.domain.model.OrderDomain;
 import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderSlice;
+import com.ambev.order.domain.model.OrderStats;
 import com.ambev.order.domain.model.OrderStatusDomain;
+import com.ambev.order.application.dto.OrderBatchRequestDTO;
+import com.ambev.order.application.dto.OrderBatchResponseDTO;
+import com.ambev.order.application.dto.OrderBatchResultDTO;
 import com.ambev.order.application.dto.OrderItemRequestDTO;
 import com.ambev.order.application.dto.OrderItemResponseDTO;
 import com.ambev.order.application.dto.OrderRequestDTO;
 import com.ambev.order.application.dto.OrderResponseDTO;
+import com.ambev.order.application.dto.OrderSliceResponseDTO;
+import com.ambev.order.application.dto.OrderStatsBucketDTO;
+import com.ambev.order.application.dto.OrderStatsResponseDTO;
+import com.ambev.order.application.exception.InvalidCursorException;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -26,7 +46,7 @@ public class OrderMapper {
         OrderDomain domain = OrderDomain.builder()
                 .externalId(dto.getExternalId())
                 .status(OrderStatusDomain.RECEIVED)
-                .totalAmount(BigDecimal.ZERO)
+                .totalAmount(Money.ZERO)
                 .items(new ArrayList<>())
                 .build();
 
@@ -40,6 +60,18 @@ public class OrderMapper {
         return domain;
     }
 
+    public List<OrderDomain> toDomainList(OrderBatchRequestDTO dto) {
+        if (dto == null || dto.getOrders() == null) {
+            return Collections.emptyList();
+        }
+        // Null entries are kept on purpose so the results line up with the request
+        List<OrderDomain> orders = new ArrayList<>(dto.getOrders().size());
+        for (OrderRequestDTO order : dto.getOrders()) {
+            orders.add(toDomain(order));
+        }
+        return orders;
+    }
+
     public OrderResponseDTO toResponseDTO(OrderDomain domain) {
         if (domain == null) {
             return null;
@@ -49,7 +81,7 @@ public class OrderMapper {
                 .id(domain.getId())
                 .externalId(domain.getExternalId())
                 .status(domain.getStatus())
-                .totalAmount(domain.getTotalAmount())
+                .totalAmount(toDecimal(domain.getTotalAmount()))
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
                 .items(toItemResponseDTOList(domain.getItems()))
@@ -61,15 +93,11 @@ public class OrderMapper {
             return null;
         }
 
-        BigDecimal totalPrice = dto.getUnitPrice() != null && dto.getQuantity() != null
-                ? dto.getUnitPrice().multiply(BigDecimal.valueOf(dto.getQuantity()))
-                : BigDecimal.ZERO;
-
+        // The total is left to OrderDomain#process, which computes it once for every item
         return OrderItemDomain.builder()
                 .productCode(dto.getProductCode())
                 .quantity(dto.getQuantity())
-                .unitPrice(dto.getUnitPrice())
-                .totalPrice(totalPrice)
+                .unitPrice(Money.ofNullable(dto.getUnitPrice()))
                 .build();
     }
 
@@ -82,8 +110,8 @@ public class OrderMapper {
                 .id(item.getId())
                 .productCode(item.getProductCode())
                 .quantity(item.getQuantity())
-                .unitPrice(item.getUnitPrice())
-                .totalPrice(item.getTotalPrice())
+                .unitPrice(toDecimal(item.getUnitPrice()))
+                .totalPrice(toDecimal(item.getTotalPrice()))
                 .build();
     }
 
@@ -95,4 +123,126 @@ public class OrderMapper {
                 .map(this::toItemResponseDTO)
                 .collect(Collectors.toList());
     }
+
+    public OrderBatchResultDTO toBatchResultDTO(OrderCreationResult result) {
+        if (result == null) {
+            return null;
+        }
+
+        return OrderBatchResultDTO.builder()
+                .externalId(result.getExternalId())
+                .outcome(result.getOutcome())
+                .message(result.getMessage())
+                .order(toResponseDTO(result.getOrder()))
+                .build();
+    }
+
+    public OrderBatchResponseDTO toBatchResponseDTO(List<OrderCreationResult> results) {
+        if (results == null) {
+            return null;
+        }
+
+        List<OrderBatchResultDTO> resultDTOs = new ArrayList<>(results.size());
+        int created = 0;
+        int duplicates = 0;
+        int invalid = 0;
+        for (OrderCreationResult result : results) {
+            resultDTOs.add(toBatchResultDTO(result));
+            if (result.getOutcome() == OrderCreationOutcome.CREATED) {
+                created++;
+            } else if (result.getOutcome() == OrderCreationOutcome.DUPLICATE) {
+                duplicates++;
+            } else {
+                invalid++;
+            }
+        }
+
+        return OrderBatchResponseDTO.builder()
+                .received(results.size())
+                .created(created)
+                .duplicates(duplicates)
+                .invalid(invalid)
+                .results(resultDTOs)
+                .build();
+    }
+
+    public OrderSliceResponseDTO toSliceResponseDTO(OrderSlice slice) {
+        if (slice == null) {
+            return null;
+        }
+
+        List<OrderResponseDTO> content = slice.getOrders().stream()
+                .map(this::toResponseDTO)
+                .collect(Collectors.toList());
+
+        return OrderSliceResponseDTO.builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(encodeCursor(slice.getNextCursor()))
+                .build();
+    }
+
+    public OrderStatsResponseDTO toStatsResponseDTO(OrderStats stats) {
+        if (stats == null) {
+            return null;
+        }
+
+        List<OrderStatsBucketDTO> buckets = stats.getBuckets().stream()
+                .map(bucket -> OrderStatsBucketDTO.builder()
+                        .bucketStart(bucket.getBucketStart())
+                        .status(bucket.getStatus())
+                        .count(bucket.getCount())
+                        .revenue(bucket.getRevenue())
+                        .build())
+                .collect(Collectors.toList());
+
+        Map<OrderStatusDomain, OrderStatsBucketDTO> totals = new EnumMap<>(OrderStatusDomain.class);
+        for (OrderStatsBucketDTO bucket : buckets) {
+            OrderStatsBucketDTO total = totals.computeIfAbsent(bucket.getStatus(), status -> OrderStatsBucketDTO.builder()
+                    .status(status)
+                    .revenue(BigDecimal.ZERO)
+                    .build());
+            total.setCount(total.getCount() + bucket.getCount());
+            total.setRevenue(total.getRevenue().add(bucket.getRevenue()));
+        }
+
+        return OrderStatsResponseDTO.builder()
+                .granularity(stats.getGranularity())
+                .from(stats.getFrom())
+                .to(stats.getTo())
+                .currentByStatus(stats.getCurrentByStatus())
+                .totals(new ArrayList<>(totals.values()))
+                .buckets(buckets)
+                .build();
+    }
+
+    /**
+     * Cursors are opaque to clients: URL-safe Base64 of "createdAt|id"
+     */
+    public String encodeCursor(OrderCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.getCreatedAt() + "|" + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public OrderCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static BigDecimal toDecimal(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
 }
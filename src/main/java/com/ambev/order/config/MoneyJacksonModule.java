@@ -0,0 +1,35 @@
+package com.ambev.order.config;
+
+import com.ambev.order.domain.model.Money;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+
+/**
+ * Writes Money as a plain JSON decimal (130.00), the same shape the BigDecimal amounts had, so
+ * domain objects cached in Redis before the switch to Money still read back
+ */
+public class MoneyJacksonModule extends SimpleModule {
+
+    public MoneyJacksonModule() {
+        super("MoneyJacksonModule");
+        addSerializer(Money.class, new JsonSerializer<>() {
+            @Override
+            public void serialize(Money value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+                gen.writeNumber(value.toString());
+            }
+        });
+        addDeserializer(Money.class, new JsonDeserializer<>() {
+            @Override
+            public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                return Money.of(parser.getDecimalValue());
+            }
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package com.ambev.order.config;
+
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Option;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * R2DBC connection pool for the reactive read path.
+ * The ConnectionFactory is deliberately not a bean: Boot backs off its DataSource (and with it JPA and
+ * Flyway) as soon as one exists, and R2dbcAutoConfiguration is excluded for the same reason.
+ * Only the DatabaseClient is shared.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.reactive.enabled", havingValue = "true")
+@Slf4j
+public class R2dbcConfig implements DisposableBean {
+
+    private static final Option<Integer> MAX_SIZE = Option.valueOf("maxSize");
+    private static final Option<Integer> INITIAL_SIZE = Option.valueOf("initialSize");
+    private static final Option<Duration> MAX_ACQUIRE_TIME = Option.valueOf("maxAcquireTime");
+
+    private final ConnectionFactory connectionFactory;
+
+    public R2dbcConfig(@Value("${order.reactive.r2dbc.url}") String url,
+                       @Value("${order.reactive.r2dbc.username}") String username,
+                       @Value("${order.reactive.r2dbc.password}") String password,
+                       @Value("${order.reactive.r2dbc.pool.initial-size}") int initialSize,
+                       @Value("${order.reactive.r2dbc.pool.max-size}") int maxSize,
+                       @Value("${order.reactive.r2dbc.pool.max-acquire-time}") Duration maxAcquireTime) {
+        this.connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .option(INITIAL_SIZE, initialSize)
+                .option(MAX_SIZE, maxSize)
+                .option(MAX_ACQUIRE_TIME, maxAcquireTime)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof Closeable closeable) {
+            Mono.from(closeable.close()).block(Duration.ofSeconds(10));
+            log.info("Adapter: R2DBC connection pool closed");
+        }
+    }
+}
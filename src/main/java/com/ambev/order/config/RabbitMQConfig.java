@@ -1,6 +1,7 @@
 package com.ambev.order.config;
 
 import org.springframework.amqp.core.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -8,6 +9,7 @@ import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 
 @Configuration
 public class RabbitMQConfig {
@@ -18,9 +20,15 @@ public class RabbitMQConfig {
     @Value("${order.queue.outgoing}")
     private String outgoingQueue;
 
+    @Value("${order.queue.dead-letter}")
+    private String deadLetterQueue;
+
     @Value("${order.exchange}")
     private String exchange;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public Queue incomingQueue() {
         return QueueBuilder.durable(incomingQueue)
@@ -35,6 +43,14 @@ public class RabbitMQConfig {
                 .build();
     }
 
+    /**
+     * Poison messages parked by the consumers (DeadLetterPublisher); no TTL, they wait for inspection or replay
+     */
+    @Bean
+    public Queue deadLetterQueue() {
+        return QueueBuilder.durable(deadLetterQueue).build();
+    }
+
     @Bean
     public TopicExchange exchange() {
         return new TopicExchange(exchange);
@@ -64,13 +80,50 @@ public class RabbitMQConfig {
 
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
-            ConnectionFactory connectionFactory) {
+            ConnectionFactory connectionFactory,
+            @Value("${order.consumer.concurrency}") int concurrency,
+            @Value("${order.consumer.max-concurrency}") int maxConcurrency,
+            @Value("${order.consumer.prefetch}") int prefetch) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
-        factory.setConcurrentConsumers(10);
-        factory.setMaxConcurrentConsumers(20);
-        factory.setPrefetchCount(50);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(maxConcurrency);
+        factory.setPrefetchCount(prefetch);
+        applyTaskExecutor(factory, "order-consumer-");
         return factory;
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "order.consumer.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${order.consumer.batch.min-size}") int minBatchSize,
+            @Value("${order.consumer.batch.max-size}") int maxBatchSize,
+            @Value("${order.consumer.batch.receive-timeout}") long receiveTimeout,
+            @Value("${order.consumer.batch.concurrency}") int concurrency) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(concurrency);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        // The batch size starts small and is tuned at runtime; prefetch covers the largest batch
+        factory.setBatchSize(minBatchSize);
+        factory.setPrefetchCount(maxBatchSize);
+        factory.setReceiveTimeout(receiveTimeout);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        applyTaskExecutor(factory, "order-batch-consumer-");
+        return factory;
+    }
+
+    /**
+     * Boot only applies spring.threads.virtual.enabled to the factory it configures itself,
+     * so the custom factories opt in here: each consumer then blocks on a virtual thread
+     */
+    private void applyTaskExecutor(SimpleRabbitListenerContainerFactory factory, String threadNamePrefix) {
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor(threadNamePrefix));
+        }
+    }
 }
 
@@ -0,0 +1,9 @@
+package com.ambev.order.domain.model;
+
+/**
+ * Domain enum for the channel an order was received through
+ */
+public enum IngestChannel {
+    REST,
+    AMQP
+}
@@ -0,0 +1,80 @@
+package com.ambev.order.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Domain value type for an amount of money, held as a count of minor units (cents).
+ * Arithmetic is plain long arithmetic and throws ArithmeticException on overflow instead of wrapping.
+ * Conversion from and to BigDecimal only happens at the edges (JSON and the DECIMAL(10,2) columns);
+ * incoming amounts are rounded HALF_UP to two decimals, the way Postgres rounds numeric(10,2).
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * Largest amount the DECIMAL(10,2) columns hold (99,999,999.99)
+     */
+    public static final Money MAX_STORED = new Money(9_999_999_999L);
+
+    private static final int MINOR_PER_UNIT = 100;
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Null-tolerant variant for mapping optional columns and fields
+     */
+    public static Money ofNullable(BigDecimal amount) {
+        return amount == null ? null : of(amount);
+    }
+
+    public Money times(int quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Appends the plain decimal form (e.g. "-12.05") without going through BigDecimal
+     */
+    public StringBuilder appendTo(StringBuilder out) {
+        long units = minorUnits / MINOR_PER_UNIT;
+        long cents = Math.abs(minorUnits % MINOR_PER_UNIT);
+        if (minorUnits < 0 && units == 0) {
+            out.append('-');
+        }
+        out.append(units).append('.');
+        if (cents < 10) {
+            out.append('0');
+        }
+        return out.append(cents);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(24)).toString();
+    }
+}
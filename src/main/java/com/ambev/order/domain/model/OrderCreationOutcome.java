@@ -0,0 +1,10 @@
+package com.ambev.order.domain.model;
+
+/**
+ * Domain enum for the outcome of an order creation attempt
+ */
+public enum OrderCreationOutcome {
+    CREATED,
+    DUPLICATE,
+    INVALID
+}
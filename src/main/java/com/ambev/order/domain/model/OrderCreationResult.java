@@ -0,0 +1,45 @@
+package com.ambev.order.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Domain model for the per-order result of a batch creation
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCreationResult {
+
+    private String externalId;
+    private OrderCreationOutcome outcome;
+    private OrderDomain order;
+    private String message;
+
+    public static OrderCreationResult created(OrderDomain order) {
+        return OrderCreationResult.builder()
+                .externalId(order.getExternalId())
+                .outcome(OrderCreationOutcome.CREATED)
+                .order(order)
+                .build();
+    }
+
+    public static OrderCreationResult duplicate(String externalId) {
+        return OrderCreationResult.builder()
+                .externalId(externalId)
+                .outcome(OrderCreationOutcome.DUPLICATE)
+                .message("Order with external ID " + externalId + " already exists")
+                .build();
+    }
+
+    public static OrderCreationResult invalid(String externalId, String message) {
+        return OrderCreationResult.builder()
+                .externalId(externalId)
+                .outcome(OrderCreationOutcome.INVALID)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.ambev.order.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset position in the (createdAt DESC, id DESC) ordering: the last order of the previous slice
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCursor {
+
+    private LocalDateTime createdAt;
+    private UUID id;
+
+    public static OrderCursor after(OrderDomain order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+}
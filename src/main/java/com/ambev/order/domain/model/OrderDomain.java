@@ -5,7 +5,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,7 +22,7 @@ public class OrderDomain {
     private UUID id;
     private String externalId;
     private OrderStatusDomain status;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Long version;
@@ -32,12 +31,20 @@ public class OrderDomain {
     private List<OrderItemDomain> items = new ArrayList<>();
 
     /**
-     * Business rule: Calculate total amount from items
+     * Status transitions not yet written to the status journal
+     */
+    @Builder.Default
+    private List<OrderStatusChangeDomain> statusHistory = new ArrayList<>();
+
+    /**
+     * Business rule: Calculate total amount from items, summed in minor units
      */
     public void calculateTotalAmount() {
-        this.totalAmount = items.stream()
-                .map(OrderItemDomain::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long total = 0;
+        for (OrderItemDomain item : items) {
+            total = Math.addExact(total, item.getTotalPrice().minorUnits());
+        }
+        this.totalAmount = Money.ofMinor(total);
     }
 
     /**
@@ -51,8 +58,10 @@ public class OrderDomain {
      * Business rule: Change order status
      */
     public void changeStatus(OrderStatusDomain newStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        recordStatusChange(this.status, newStatus, now);
         this.status = newStatus;
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = now;
     }
 
     /**
@@ -67,10 +76,36 @@ public class OrderDomain {
      * Business rule: Initialize new order
      */
     public void initializeNewOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        this.statusHistory = new ArrayList<>();
+        recordStatusChange(null, OrderStatusDomain.RECEIVED, now);
         this.status = OrderStatusDomain.RECEIVED;
-        this.totalAmount = BigDecimal.ZERO;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.totalAmount = Money.ZERO;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    /**
+     * Business rule: Run the whole RECEIVED -> PROCESSING -> COMPLETED lifecycle in memory, so the
+     * order is written once in its final state and the transitions go to the status journal
+     */
+    public void process() {
+        initializeNewOrder();
+        changeStatus(OrderStatusDomain.PROCESSING);
+        items.forEach(OrderItemDomain::calculateTotalPrice);
+        calculateTotalAmount();
+        changeStatus(OrderStatusDomain.COMPLETED);
+    }
+
+    private void recordStatusChange(OrderStatusDomain fromStatus, OrderStatusDomain toStatus, LocalDateTime changedAt) {
+        if (statusHistory == null) {
+            statusHistory = new ArrayList<>();
+        }
+        statusHistory.add(OrderStatusChangeDomain.builder()
+                .fromStatus(fromStatus)
+                .toStatus(toStatus)
+                .changedAt(changedAt)
+                .build());
     }
 }
 
@@ -0,0 +1,23 @@
+package com.ambev.order.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for the order export; null fields are not applied.
+ * createdFrom is inclusive and createdTo is exclusive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderExportFilter {
+
+    private OrderStatusDomain status;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+}
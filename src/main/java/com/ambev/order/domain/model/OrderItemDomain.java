@@ -5,7 +5,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 /**
@@ -20,15 +19,15 @@ public class OrderItemDomain {
     private UUID id;
     private String productCode;
     private Integer quantity;
-    private BigDecimal unitPrice;
-    private BigDecimal totalPrice;
+    private Money unitPrice;
+    private Money totalPrice;
 
     /**
      * Business rule: Calculate total price
      */
     public void calculateTotalPrice() {
         if (quantity != null && unitPrice != null) {
-            this.totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            this.totalPrice = unitPrice.times(quantity);
         }
     }
 
@@ -38,7 +37,7 @@ public class OrderItemDomain {
     public boolean isValid() {
         return productCode != null && !productCode.isEmpty()
                 && quantity != null && quantity > 0
-                && unitPrice != null && unitPrice.compareTo(BigDecimal.ZERO) > 0;
+                && unitPrice != null && unitPrice.isPositive();
     }
 }
 
@@ -0,0 +1,13 @@
+package com.ambev.order.domain.model;
+
+/**
+ * Stages of the order creation pipeline, in execution order.
+ * SAVE includes the flush, so the inserts reach the database there; COMMIT only times the commit itself.
+ */
+public enum OrderPipelineStage {
+    RESERVE,
+    DEDUPE,
+    SAVE,
+    PUBLISH,
+    COMMIT
+}
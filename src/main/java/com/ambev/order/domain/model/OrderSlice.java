@@ -0,0 +1,35 @@
+package com.ambev.order.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A keyset page of orders; nextCursor is null on the last slice. No total count is computed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSlice {
+
+    @Builder.Default
+    private List<OrderDomain> orders = new ArrayList<>();
+
+    private OrderCursor nextCursor;
+
+    /**
+     * Builds a slice from up to limit + 1 rows; the extra row only signals that more orders exist
+     */
+    public static OrderSlice of(List<OrderDomain> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new OrderSlice(rows, null);
+        }
+        List<OrderDomain> orders = rows.subList(0, limit);
+        return new OrderSlice(orders, OrderCursor.after(orders.get(limit - 1)));
+    }
+}
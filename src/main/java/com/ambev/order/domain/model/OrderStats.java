@@ -0,0 +1,27 @@
+package com.ambev.order.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Current number of orders per status plus the status transitions of a time range, per bucket.
+ * from is inclusive and to is exclusive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStats {
+
+    private OrderStatsGranularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Map<OrderStatusDomain, Long> currentByStatus;
+    private List<OrderStatsBucket> buckets;
+}
@@ -0,0 +1,24 @@
+package com.ambev.order.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Orders that entered a status within one time bucket, and the sum of their total amounts
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatsBucket {
+
+    private LocalDateTime bucketStart;
+    private OrderStatusDomain status;
+    private long count;
+    private BigDecimal revenue;
+}
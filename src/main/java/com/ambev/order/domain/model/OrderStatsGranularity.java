@@ -0,0 +1,27 @@
+package com.ambev.order.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Width of the time buckets the order statistics are kept in
+ */
+public enum OrderStatsGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS);
+
+    private final ChronoUnit unit;
+
+    OrderStatsGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public Duration bucketSize() {
+        return unit.getDuration();
+    }
+}
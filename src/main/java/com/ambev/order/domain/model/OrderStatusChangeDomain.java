@@ -0,0 +1,22 @@
+package com.ambev.order.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain model for a status transition of an Order - Entry of the append-only status journal
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusChangeDomain {
+
+    private OrderStatusDomain fromStatus;
+    private OrderStatusDomain toStatus;
+    private LocalDateTime changedAt;
+}
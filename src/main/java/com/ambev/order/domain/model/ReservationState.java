@@ -0,0 +1,10 @@
+package com.ambev.order.domain.model;
+
+/**
+ * Domain enum for the state of a duplicate-check reservation
+ */
+public enum ReservationState {
+    PENDING,
+    COMMITTED,
+    RELEASED
+}
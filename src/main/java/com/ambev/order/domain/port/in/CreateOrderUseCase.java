@@ -1,8 +1,12 @@
 package com.ambev.order.domain.port.in;
 
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.model.OrderCreationResult;
 import com.ambev.order.domain.model.OrderDomain;
 
+import java.util.List;
+
 public interface CreateOrderUseCase {
-    OrderDomain createOrder(OrderDomain order);
+    OrderDomain createOrder(OrderDomain order, IngestChannel channel);
+    List<OrderCreationResult> createOrders(List<OrderDomain> orders, IngestChannel channel);
 }
-
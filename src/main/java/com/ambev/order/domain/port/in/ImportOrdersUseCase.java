@@ -0,0 +1,13 @@
+package com.ambev.order.domain.port.in;
+
+import com.ambev.order.domain.model.OrderCreationResult;
+import com.ambev.order.domain.model.OrderDomain;
+
+import java.util.List;
+
+public interface ImportOrdersUseCase {
+    /**
+     * Bulk-loads a chunk of back-filled orders; one result per order, in input order
+     */
+    List<OrderCreationResult> importOrders(List<OrderDomain> orders);
+}
@@ -0,0 +1,10 @@
+package com.ambev.order.domain.port.in;
+
+import com.ambev.order.domain.model.OrderStats;
+import com.ambev.order.domain.model.OrderStatsGranularity;
+
+import java.time.LocalDateTime;
+
+public interface OrderStatsUseCase {
+    OrderStats getStats(OrderStatsGranularity granularity, LocalDateTime from, LocalDateTime to);
+}
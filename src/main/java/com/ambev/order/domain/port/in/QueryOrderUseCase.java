@@ -1,16 +1,23 @@
 package com.ambev.order.domain.port.in;
 
+import com.ambev.order.domain.model.OrderCursor;
 import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderExportFilter;
+import com.ambev.order.domain.model.OrderSlice;
 import com.ambev.order.domain.model.OrderStatusDomain;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface QueryOrderUseCase {
     OrderDomain findById(UUID id);
     OrderDomain findByExternalId(String externalId);
     Page<OrderDomain> findAll(Pageable pageable);
     Page<OrderDomain> findByStatus(OrderStatusDomain status, Pageable pageable);
+    OrderSlice findAllAfter(OrderCursor cursor, int limit);
+    OrderSlice findByStatusAfter(OrderStatusDomain status, OrderCursor cursor, int limit);
+    void exportOrders(OrderExportFilter filter, Consumer<OrderDomain> consumer);
 }
 
@@ -0,0 +1,11 @@
+package com.ambev.order.domain.port.out;
+
+/**
+ * Probabilistic set of known external IDs.
+ * A negative answer is definitive, a positive one still has to be confirmed.
+ * Only IDs put on this node are known: IDs committed by other instances or by the bulk import are not.
+ */
+public interface ExternalIdFilterPort {
+    boolean mightContain(String externalId);
+    void put(String externalId);
+}
@@ -0,0 +1,13 @@
+package com.ambev.order.domain.port.out;
+
+import com.ambev.order.domain.model.OrderDomain;
+
+import java.util.List;
+import java.util.Set;
+
+public interface OrderBulkLoaderPort {
+    /**
+     * Inserts the orders whose external ID is not stored yet and returns those external IDs
+     */
+    Set<String> insertNew(List<OrderDomain> orders);
+}
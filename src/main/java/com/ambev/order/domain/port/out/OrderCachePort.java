@@ -1,9 +1,35 @@
 package com.ambev.order.domain.port.out;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
 public interface OrderCachePort {
     boolean exists(String key);
     void store(String key, String value, long ttl);
     String get(String key);
     void delete(String key);
-}
 
+    /**
+     * Atomically reserves a key as PENDING for the given owner token if it is absent or RELEASED.
+     * Returns false when the key is already PENDING (for any owner) or COMMITTED.
+     */
+    boolean tryReserve(String key, String owner, Duration ttl);
+
+    /**
+     * Reserves several keys in one round trip and returns the ones that were acquired.
+     */
+    Set<String> tryReserveAll(Collection<String> keys, String owner, Duration ttl);
+
+    /**
+     * Marks the owner's PENDING reservations as COMMITTED. Keys whose reservation already expired are
+     * committed too; keys now PENDING for another owner are left to that owner.
+     */
+    void commitReservations(Collection<String> keys, String owner, Duration ttl);
+
+    /**
+     * Marks the owner's PENDING reservations as RELEASED so the keys can be reserved again.
+     * Keys COMMITTED or reserved by another owner are left untouched.
+     */
+    void releaseReservations(Collection<String> keys, String owner);
+}
@@ -0,0 +1,19 @@
+package com.ambev.order.domain.port.out;
+
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.model.OrderCreationOutcome;
+import com.ambev.order.domain.model.OrderPipelineStage;
+
+/**
+ * Instrumentation of the order creation pipeline. Called on the hot path, so implementations
+ * must not allocate per call and should reduce to a field check when disabled.
+ */
+public interface OrderMetricsPort {
+    /**
+     * Start timestamp to pass to recordStage; implementations may return 0 when disabled
+     */
+    long start();
+    void recordStage(OrderPipelineStage stage, IngestChannel channel, boolean batch, long start);
+    void recordOutcomes(OrderCreationOutcome outcome, IngestChannel channel, int count);
+    void recordPublishFailure(IngestChannel channel);
+}
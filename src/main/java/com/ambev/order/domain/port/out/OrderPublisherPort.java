@@ -2,7 +2,13 @@ package com.ambev.order.domain.port.out;
 
 import com.ambev.order.domain.model.OrderDomain;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface OrderPublisherPort {
     void publishOrder(OrderDomain order);
-}
 
+    /**
+     * Publishes without waiting for the broker; the future completes once delivery is confirmed
+     */
+    CompletableFuture<Void> publishOrderAsync(OrderDomain order);
+}
@@ -1,19 +1,34 @@
 package com.ambev.order.domain.port.out;
 
+import com.ambev.order.domain.model.OrderCursor;
 import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderExportFilter;
+import com.ambev.order.domain.model.OrderSlice;
 import com.ambev.order.domain.model.OrderStatusDomain;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface OrderRepositoryPort {
     OrderDomain save(OrderDomain order);
+    List<OrderDomain> saveAll(List<OrderDomain> orders);
     Optional<OrderDomain> findById(UUID id);
     Optional<OrderDomain> findByExternalId(String externalId);
     boolean existsByExternalId(String externalId);
+    Set<String> findExistingExternalIds(Collection<String> externalIds);
+    void forEachExternalId(Consumer<String> consumer);
     Page<OrderDomain> findAll(Pageable pageable);
-    Page<OrderDomain> findByStatus(OrderStatusDomain status, Pageable pageable);
+    /**
+     * Content of one status page only; the total comes from the order statistics, not from a count query
+     */
+    List<OrderDomain> findByStatus(OrderStatusDomain status, Pageable pageable);
+    OrderSlice findAllAfter(OrderCursor cursor, int limit);
+    OrderSlice findByStatusAfter(OrderStatusDomain status, OrderCursor cursor, int limit);
+    void forEachOrder(OrderExportFilter filter, Consumer<OrderDomain> consumer);
 }
-
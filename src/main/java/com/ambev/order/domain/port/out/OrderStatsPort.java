@@ -0,0 +1,21 @@
+package com.ambev.order.domain.port.out;
+
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderStatsBucket;
+import com.ambev.order.domain.model.OrderStatsGranularity;
+import com.ambev.order.domain.model.OrderStatusDomain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface OrderStatsPort {
+    /**
+     * Counts every status transition in the orders' history into the per-status totals and time buckets
+     */
+    void recordStatusChanges(Collection<OrderDomain> orders);
+    long countByStatus(OrderStatusDomain status);
+    Map<OrderStatusDomain, Long> countsByStatus();
+    List<OrderStatsBucket> findBuckets(OrderStatsGranularity granularity, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,19 @@
+package com.ambev.order.domain.port.out;
+
+import com.ambev.order.domain.model.OrderCursor;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderSlice;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking read access to orders; lookups complete empty when the order does not exist
+ */
+public interface ReactiveOrderRepositoryPort {
+    Mono<OrderDomain> findById(UUID id);
+    Mono<OrderDomain> findByExternalId(String externalId);
+    Mono<OrderSlice> findAllAfter(OrderCursor cursor, int limit);
+    Mono<OrderSlice> findByStatusAfter(OrderStatusDomain status, OrderCursor cursor, int limit);
+}
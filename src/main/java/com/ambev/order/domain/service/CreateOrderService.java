@@ -1,16 +1,36 @@
 package com.ambev.order.domain.service;
 
 import com.ambev.order.application.exception.DuplicateOrderException;
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderCreationOutcome;
+import com.ambev.order.domain.model.OrderCreationResult;
 import com.ambev.order.domain.model.OrderDomain;
-import com.ambev.order.domain.model.OrderStatusDomain;
+import com.ambev.order.domain.model.OrderPipelineStage;
 import com.ambev.order.domain.port.in.CreateOrderUseCase;
+import com.ambev.order.domain.port.out.ExternalIdFilterPort;
 import com.ambev.order.domain.port.out.OrderCachePort;
+import com.ambev.order.domain.port.out.OrderMetricsPort;
 import com.ambev.order.domain.port.out.OrderPublisherPort;
 import com.ambev.order.domain.port.out.OrderRepositoryPort;
+import com.ambev.order.domain.port.out.OrderStatsPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -20,56 +40,347 @@ public class CreateOrderService implements CreateOrderUseCase {
     private final OrderRepositoryPort repositoryPort;
     private final OrderCachePort cachePort;
     private final OrderPublisherPort publisherPort;
+    private final ExternalIdFilterPort externalIdFilter;
+    private final OrderStatsPort statsPort;
+    private final OrderMetricsPort metrics;
 
-    private static final String DUPLICATE_CHECK_PREFIX = "order:duplicate:";
-    private static final long DUPLICATE_CHECK_TTL = 24;
+    static final String DUPLICATE_CHECK_PREFIX = "order:duplicate:";
+    static final Duration DUPLICATE_CHECK_TTL = Duration.ofHours(24);
+    private static final Duration RESERVATION_TTL = Duration.ofMinutes(5);
+    private static final String INVALID_ORDER_MESSAGE = "Order cannot be processed: invalid items";
+    private static final String AMOUNT_OUT_OF_RANGE_MESSAGE = "Order cannot be processed: amount out of range";
 
     @Override
     @Transactional
-    public OrderDomain createOrder(OrderDomain order) {
+    public OrderDomain createOrder(OrderDomain order, IngestChannel channel) {
         log.info("Domain: Processing order with external ID: {}", order.getExternalId());
 
-        if (isDuplicate(order.getExternalId())) {
-            log.warn("Domain: Duplicate order detected: {}", order.getExternalId());
-            throw new DuplicateOrderException("Order with external ID " + order.getExternalId() + " already exists");
+        String key = duplicateCheckKey(order.getExternalId());
+        String owner = UUID.randomUUID().toString();
+        long start = metrics.start();
+        boolean reserved = cachePort.tryReserve(key, owner, RESERVATION_TTL);
+        metrics.recordStage(OrderPipelineStage.RESERVE, channel, false, start);
+        if (!reserved) {
+            metrics.recordOutcomes(OrderCreationOutcome.DUPLICATE, channel, 1);
+            throw duplicateOrder(order.getExternalId());
         }
 
-        if (!order.canBeProcessed()) {
-            throw new IllegalArgumentException("Order cannot be processed: invalid items");
-        }
+        OrderDomain savedOrder;
+        try {
+            if (!order.canBeProcessed()) {
+                metrics.recordOutcomes(OrderCreationOutcome.INVALID, channel, 1);
+                throw new IllegalArgumentException(INVALID_ORDER_MESSAGE);
+            }
 
-        order.initializeNewOrder();
-        order.getItems().forEach(item -> item.calculateTotalPrice());
-        order.calculateTotalAmount();
-        order.changeStatus(OrderStatusDomain.PROCESSING);
+            start = metrics.start();
+            boolean persisted = isPersisted(order.getExternalId());
+            metrics.recordStage(OrderPipelineStage.DEDUPE, channel, false, start);
+            if (persisted) {
+                // Already persisted but no longer in Redis: restore the marker for the next deliveries
+                markAsProcessed(List.of(order.getExternalId()), owner);
+                metrics.recordOutcomes(OrderCreationOutcome.DUPLICATE, channel, 1);
+                throw duplicateOrder(order.getExternalId());
+            }
 
-        OrderDomain savedOrder = repositoryPort.save(order);
-        markAsProcessed(order.getExternalId());
+            if (!processWithinLimits(order)) {
+                metrics.recordOutcomes(OrderCreationOutcome.INVALID, channel, 1);
+                throw new IllegalArgumentException(AMOUNT_OUT_OF_RANGE_MESSAGE);
+            }
+            start = metrics.start();
+            savedOrder = save(order, owner, channel);
+            metrics.recordStage(OrderPipelineStage.SAVE, channel, false, start);
+        } catch (DuplicateOrderException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            cachePort.releaseReservations(List.of(key), owner);
+            throw e;
+        }
 
-        savedOrder.changeStatus(OrderStatusDomain.COMPLETED);
-        savedOrder = repositoryPort.save(savedOrder);
+        markAsProcessedOnCommit(List.of(order.getExternalId()), owner);
+        recordStatsOnCommit(List.of(order));
+        recordCommitMetrics(channel, false, 1);
 
         log.info("Domain: Order created successfully: {} with total amount: {}",
                 savedOrder.getId(), savedOrder.getTotalAmount());
 
-        publisherPort.publishOrder(savedOrder);
+        start = metrics.start();
+        publish(savedOrder, channel);
+        metrics.recordStage(OrderPipelineStage.PUBLISH, channel, false, start);
 
         return savedOrder;
     }
 
-    private boolean isDuplicate(String externalId) {
-        String key = DUPLICATE_CHECK_PREFIX + externalId;
+    @Override
+    @Transactional
+    public List<OrderCreationResult> createOrders(List<OrderDomain> orders, IngestChannel channel) {
+        log.info("Domain: Processing batch of {} orders", orders.size());
+
+        OrderCreationResult[] results = new OrderCreationResult[orders.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+
+        for (int i = 0; i < orders.size(); i++) {
+            OrderDomain order = orders.get(i);
+            if (!isProcessable(order)) {
+                results[i] = OrderCreationResult.invalid(order != null ? order.getExternalId() : null, INVALID_ORDER_MESSAGE);
+            } else if (candidates.putIfAbsent(order.getExternalId(), i) != null) {
+                results[i] = OrderCreationResult.duplicate(order.getExternalId());
+            }
+        }
+
+        String owner = UUID.randomUUID().toString();
+        long start = metrics.start();
+        Set<String> reservedKeys = cachePort.tryReserveAll(
+                candidates.keySet().stream().map(this::duplicateCheckKey).toList(), owner, RESERVATION_TTL);
+        metrics.recordStage(OrderPipelineStage.RESERVE, channel, true, start);
+
+        List<OrderDomain> newOrders = new ArrayList<>(candidates.size());
+        List<String> newIds = new ArrayList<>(candidates.size());
+        try {
+            List<String> reservedIds = new ArrayList<>(reservedKeys.size());
+            candidates.forEach((externalId, index) -> {
+                if (reservedKeys.contains(duplicateCheckKey(externalId))) {
+                    reservedIds.add(externalId);
+                } else {
+                    results[index] = OrderCreationResult.duplicate(externalId);
+                }
+            });
+
+            start = metrics.start();
+            Set<String> persistedIds = findPersisted(reservedIds);
+            metrics.recordStage(OrderPipelineStage.DEDUPE, channel, true, start);
+            List<String> persistedAgain = new ArrayList<>(persistedIds.size());
+            List<String> outOfRangeKeys = new ArrayList<>();
+
+            for (String externalId : reservedIds) {
+                int index = candidates.get(externalId);
+                if (persistedIds.contains(externalId)) {
+                    results[index] = OrderCreationResult.duplicate(externalId);
+                    persistedAgain.add(externalId);
+                } else {
+                    OrderDomain order = orders.get(index);
+                    if (processWithinLimits(order)) {
+                        newOrders.add(order);
+                        newIds.add(externalId);
+                    } else {
+                        results[index] = OrderCreationResult.invalid(externalId, AMOUNT_OUT_OF_RANGE_MESSAGE);
+                        outOfRangeKeys.add(duplicateCheckKey(externalId));
+                    }
+                }
+            }
+
+            markAsProcessed(persistedAgain, owner);
+            if (!outOfRangeKeys.isEmpty()) {
+                cachePort.releaseReservations(outOfRangeKeys, owner);
+            }
+
+            if (!newOrders.isEmpty()) {
+                start = metrics.start();
+                List<OrderDomain> savedOrders = repositoryPort.saveAll(newOrders);
+                metrics.recordStage(OrderPipelineStage.SAVE, channel, true, start);
+                for (OrderDomain savedOrder : savedOrders) {
+                    results[candidates.get(savedOrder.getExternalId())] = OrderCreationResult.created(savedOrder);
+                }
+            }
+        } catch (RuntimeException e) {
+            cachePort.releaseReservations(reservedKeys, owner);
+            throw e;
+        }
+
+        markAsProcessedOnCommit(newIds, owner);
+        recordStatsOnCommit(newOrders);
+        recordCommitMetrics(channel, true, newOrders.size());
+        recordRejections(results, channel);
+
+        start = metrics.start();
+        for (OrderCreationResult result : results) {
+            if (result.getOrder() != null) {
+                publish(result.getOrder(), channel);
+            }
+        }
+        metrics.recordStage(OrderPipelineStage.PUBLISH, channel, true, start);
+
+        log.info("Domain: Batch processed - received: {}, created: {}, rejected: {}",
+                orders.size(), newOrders.size(), orders.size() - newOrders.size());
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * The filter only knows the IDs this node has seen, so an ID committed by another node or by the
+     * bulk import can pass as "definitely new"; the external_id registry still rejects it on flush.
+     */
+    private OrderDomain save(OrderDomain order, String owner, IngestChannel channel) {
+        try {
+            return repositoryPort.save(order);
+        } catch (DuplicateOrderException e) {
+            markAsProcessed(List.of(order.getExternalId()), owner);
+            metrics.recordOutcomes(OrderCreationOutcome.DUPLICATE, channel, 1);
+            throw duplicateOrder(order.getExternalId());
+        }
+    }
 
-        if (cachePort.exists(key)) {
-            return true;
+    /**
+     * Counts failures whether they are thrown (e.g. the outbox write) or reported later by the
+     * publish future (nack or confirm timeout in direct mode, where the order still goes to the outbox)
+     */
+    private void publish(OrderDomain order, IngestChannel channel) {
+        try {
+            publisherPort.publishOrderAsync(order).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    metrics.recordPublishFailure(channel);
+                }
+            });
+        } catch (RuntimeException e) {
+            metrics.recordPublishFailure(channel);
+            throw e;
         }
+    }
 
-        return repositoryPort.existsByExternalId(externalId);
+    private void recordRejections(OrderCreationResult[] results, IngestChannel channel) {
+        int duplicates = 0;
+        int invalid = 0;
+        for (OrderCreationResult result : results) {
+            if (result.getOutcome() == OrderCreationOutcome.DUPLICATE) {
+                duplicates++;
+            } else if (result.getOutcome() == OrderCreationOutcome.INVALID) {
+                invalid++;
+            }
+        }
+        metrics.recordOutcomes(OrderCreationOutcome.DUPLICATE, channel, duplicates);
+        metrics.recordOutcomes(OrderCreationOutcome.INVALID, channel, invalid);
     }
 
-    private void markAsProcessed(String externalId) {
-        String key = DUPLICATE_CHECK_PREFIX + externalId;
-        cachePort.store(key, "processed", DUPLICATE_CHECK_TTL);
+    /**
+     * Runs the order lifecycle and reports false when an item price or the total overflows Money or
+     * the DECIMAL(10,2) columns, so the order is rejected as invalid instead of failing on flush
+     */
+    private boolean processWithinLimits(OrderDomain order) {
+        try {
+            order.process();
+        } catch (ArithmeticException e) {
+            return false;
+        }
+        return order.getTotalAmount().compareTo(Money.MAX_STORED) <= 0;
+    }
+
+    private boolean isProcessable(OrderDomain order) {
+        return order != null
+                && order.getExternalId() != null && !order.getExternalId().isBlank()
+                && order.canBeProcessed();
     }
-}
 
+    private String duplicateCheckKey(String externalId) {
+        return DUPLICATE_CHECK_PREFIX + externalId;
+    }
+
+    private DuplicateOrderException duplicateOrder(String externalId) {
+        log.warn("Domain: Duplicate order detected: {}", externalId);
+        return new DuplicateOrderException("Order with external ID " + externalId + " already exists");
+    }
+
+    /**
+     * The Bloom filter answers "definitely new" for almost every incoming order, which skips the
+     * database lookup. It is only authoritative for this node (see save); the Redis reservation is
+     * still taken since it is the concurrency guard.
+     */
+    private boolean isPersisted(String externalId) {
+        return externalIdFilter.mightContain(externalId) && repositoryPort.existsByExternalId(externalId);
+    }
+
+    /**
+     * Batches always ask the database (one IN query): a duplicate the filter let through would only
+     * surface on flush and roll back every order of the batch.
+     */
+    private Set<String> findPersisted(List<String> externalIds) {
+        return externalIds.isEmpty() ? Set.of() : repositoryPort.findExistingExternalIds(externalIds);
+    }
+
+    private void markAsProcessed(Collection<String> externalIds, String owner) {
+        if (externalIds.isEmpty()) {
+            return;
+        }
+        externalIds.forEach(externalIdFilter::put);
+        cachePort.commitReservations(externalIds.stream().map(this::duplicateCheckKey).toList(), owner, DUPLICATE_CHECK_TTL);
+    }
+
+    /**
+     * PENDING reservations become COMMITTED once the transaction commits, and are RELEASED if it
+     * rolls back (e.g. a failure while flushing or publishing), so a retry is not seen as a duplicate.
+     * Both only touch reservations still held by this owner: one that outlived RESERVATION_TTL may have
+     * been taken by another delivery, and releasing it would let a third one in.
+     */
+    private void markAsProcessedOnCommit(Collection<String> externalIds, String owner) {
+        if (externalIds.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markAsProcessed(externalIds, owner);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    markAsProcessed(externalIds, owner);
+                } else {
+                    cachePort.releaseReservations(externalIds.stream().map(CreateOrderService.this::duplicateCheckKey).toList(), owner);
+                }
+            }
+        });
+    }
+
+    /**
+     * Status transitions are counted only once they are durable, so a rollback never skews the stats
+     */
+    private void recordStatsOnCommit(List<OrderDomain> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            statsPort.recordStatusChanges(orders);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                statsPort.recordStatusChanges(orders);
+            }
+        });
+    }
+
+    /**
+     * The inserts are flushed in the save stage; the commit itself (the COMMIT round trip and the
+     * synchronizations) is timed from the first beforeCommit callback to the first afterCommit callback.
+     * Created orders are counted once they are durable.
+     */
+    private void recordCommitMetrics(IngestChannel channel, boolean batch, int created) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            metrics.recordOutcomes(OrderCreationOutcome.CREATED, channel, created);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long start;
+
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                start = metrics.start();
+            }
+
+            @Override
+            public void afterCommit() {
+                metrics.recordStage(OrderPipelineStage.COMMIT, channel, batch, start);
+                metrics.recordOutcomes(OrderCreationOutcome.CREATED, channel, created);
+            }
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package com.ambev.order.domain.service;
+
+import com.ambev.order.domain.model.OrderCreationResult;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.port.in.ImportOrdersUseCase;
+import com.ambev.order.domain.port.out.ExternalIdFilterPort;
+import com.ambev.order.domain.port.out.OrderBulkLoaderPort;
+import com.ambev.order.domain.port.out.OrderCachePort;
+import com.ambev.order.domain.port.out.OrderStatsPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Back-fills and replays from System A. Orders go through the same lifecycle as live ingestion but
+ * are bulk-loaded, deduplicated by the database against the external_id registry instead of Redis
+ * reservations, and are not published to System B. Inserted IDs get the same COMMITTED marker in Redis
+ * that live ingestion writes, so live replays of imported orders are rejected before the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportOrderService implements ImportOrdersUseCase {
+
+    private final OrderBulkLoaderPort bulkLoaderPort;
+    private final ExternalIdFilterPort externalIdFilter;
+    private final OrderCachePort cachePort;
+    private final OrderStatsPort statsPort;
+
+    private static final String INVALID_ORDER_MESSAGE = "Order cannot be processed: invalid items";
+
+    @Override
+    public List<OrderCreationResult> importOrders(List<OrderDomain> orders) {
+        log.debug("Domain: Importing chunk of {} orders", orders.size());
+
+        OrderCreationResult[] results = new OrderCreationResult[orders.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+
+        for (int i = 0; i < orders.size(); i++) {
+            OrderDomain order = orders.get(i);
+            if (!isProcessable(order)) {
+                results[i] = OrderCreationResult.invalid(order != null ? order.getExternalId() : null, INVALID_ORDER_MESSAGE);
+            } else if (candidates.putIfAbsent(order.getExternalId(), i) != null) {
+                results[i] = OrderCreationResult.duplicate(order.getExternalId());
+            }
+        }
+
+        List<OrderDomain> newOrders = new ArrayList<>(candidates.size());
+        candidates.values().forEach(index -> {
+            OrderDomain order = orders.get(index);
+            order.process();
+            newOrders.add(order);
+        });
+
+        Set<String> inserted = newOrders.isEmpty() ? Set.of() : bulkLoaderPort.insertNew(newOrders);
+
+        List<OrderDomain> insertedOrders = new ArrayList<>(inserted.size());
+        candidates.forEach((externalId, index) -> {
+            if (inserted.contains(externalId)) {
+                // Only this process's filter learns the ID; the live nodes' filters never do, and
+                // rely on the Redis marker below and, once it expires, on the registry at flush
+                externalIdFilter.put(externalId);
+                insertedOrders.add(orders.get(index));
+                results[index] = OrderCreationResult.created(orders.get(index));
+            } else {
+                results[index] = OrderCreationResult.duplicate(externalId);
+            }
+        });
+        if (!insertedOrders.isEmpty()) {
+            markAsProcessed(inserted);
+            statsPort.recordStatusChanges(insertedOrders);
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * The rows are already committed, so an unreachable Redis only costs live replays a database check
+     */
+    private void markAsProcessed(Set<String> externalIds) {
+        try {
+            cachePort.commitReservations(
+                    externalIds.stream().map(id -> CreateOrderService.DUPLICATE_CHECK_PREFIX + id).toList(),
+                    UUID.randomUUID().toString(), CreateOrderService.DUPLICATE_CHECK_TTL);
+        } catch (RuntimeException e) {
+            log.warn("Domain: Could not mark {} imported external IDs as processed: {}", externalIds.size(), e.getMessage());
+        }
+    }
+
+    private boolean isProcessable(OrderDomain order) {
+        return order != null
+                && order.getExternalId() != null && !order.getExternalId().isBlank()
+                && order.canBeProcessed();
+    }
+}
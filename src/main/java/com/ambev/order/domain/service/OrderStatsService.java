@@ -0,0 +1,60 @@
+package com.ambev.order.domain.service;
+
+import com.ambev.order.application.exception.InvalidStatsRangeException;
+import com.ambev.order.domain.model.OrderStats;
+import com.ambev.order.domain.model.OrderStatsGranularity;
+import com.ambev.order.domain.port.in.OrderStatsUseCase;
+import com.ambev.order.domain.port.out.OrderStatsPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Answers dashboard questions from the incrementally maintained counters, never from the orders table
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatsService implements OrderStatsUseCase {
+
+    private final OrderStatsPort statsPort;
+
+    private static final int MAX_BUCKETS = 1440;
+
+    /**
+     * Defaults: up to now, from the start of today (HOUR) or from one hour ago (MINUTE)
+     */
+    @Override
+    public OrderStats getStats(OrderStatsGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        OrderStatsGranularity effectiveGranularity = granularity != null ? granularity : OrderStatsGranularity.HOUR;
+        LocalDateTime effectiveTo = to != null ? to : LocalDateTime.now();
+        LocalDateTime effectiveFrom = from != null ? from : defaultFrom(effectiveGranularity, effectiveTo);
+        log.info("Domain: Fetching order stats by {} from {} to {}", effectiveGranularity, effectiveFrom, effectiveTo);
+
+        if (!effectiveFrom.isBefore(effectiveTo)) {
+            throw new InvalidStatsRangeException("Stats range start must be before its end");
+        }
+        Duration range = Duration.between(effectiveFrom, effectiveTo);
+        if (range.compareTo(effectiveGranularity.bucketSize().multipliedBy(MAX_BUCKETS)) > 0) {
+            throw new InvalidStatsRangeException("Stats range spans more than " + MAX_BUCKETS + " "
+                    + effectiveGranularity.name().toLowerCase() + " buckets");
+        }
+
+        return OrderStats.builder()
+                .granularity(effectiveGranularity)
+                .from(effectiveFrom)
+                .to(effectiveTo)
+                .currentByStatus(statsPort.countsByStatus())
+                .buckets(statsPort.findBuckets(effectiveGranularity, effectiveFrom, effectiveTo))
+                .build();
+    }
+
+    private LocalDateTime defaultFrom(OrderStatsGranularity granularity, LocalDateTime to) {
+        return granularity == OrderStatsGranularity.HOUR
+                ? to.toLocalDate().atStartOfDay()
+                : to.minusHours(1);
+    }
+}
@@ -1,18 +1,24 @@
 package com.ambev.order.domain.service;
 
 import com.ambev.order.application.exception.OrderNotFoundException;
+import com.ambev.order.domain.model.OrderCursor;
 import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderExportFilter;
+import com.ambev.order.domain.model.OrderSlice;
 import com.ambev.order.domain.model.OrderStatusDomain;
 import com.ambev.order.domain.port.in.QueryOrderUseCase;
 import com.ambev.order.domain.port.out.OrderRepositoryPort;
+import com.ambev.order.domain.port.out.OrderStatsPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -20,9 +26,12 @@ import java.util.UUID;
 public class QueryOrderService implements QueryOrderUseCase {
 
     private final OrderRepositoryPort repositoryPort;
+    private final OrderStatsPort statsPort;
 
+    /**
+     * Not transactional: hot lookups are served from the order cache without taking a connection
+     */
     @Override
-    @Transactional(readOnly = true)
     public OrderDomain findById(UUID id) {
         log.info("Domain: Fetching order by ID: {}", id);
         return repositoryPort.findById(id)
@@ -30,7 +39,6 @@ public class QueryOrderService implements QueryOrderUseCase {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public OrderDomain findByExternalId(String externalId) {
         log.info("Domain: Fetching order by external ID: {}", externalId);
         return repositoryPort.findByExternalId(externalId)
@@ -44,11 +52,39 @@ public class QueryOrderService implements QueryOrderUseCase {
         return repositoryPort.findAll(pageable);
     }
 
+    /**
+     * totalElements is served by the per-status counter instead of a count(*) over the orders table
+     */
     @Override
     @Transactional(readOnly = true)
     public Page<OrderDomain> findByStatus(OrderStatusDomain status, Pageable pageable) {
         log.info("Domain: Fetching orders by status: {} with pagination: {}", status, pageable);
-        return repositoryPort.findByStatus(status, pageable);
+        return new PageImpl<>(repositoryPort.findByStatus(status, pageable), pageable, statsPort.countByStatus(status));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderSlice findAllAfter(OrderCursor cursor, int limit) {
+        log.info("Domain: Fetching {} orders after cursor: {}", limit, cursor);
+        return repositoryPort.findAllAfter(cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderSlice findByStatusAfter(OrderStatusDomain status, OrderCursor cursor, int limit) {
+        log.info("Domain: Fetching {} orders by status: {} after cursor: {}", limit, status, cursor);
+        return repositoryPort.findByStatusAfter(status, cursor, limit);
+    }
+
+    /**
+     * Streams every matching order to the consumer inside one read-only transaction,
+     * without materializing the result set
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportOrders(OrderExportFilter filter, Consumer<OrderDomain> consumer) {
+        log.info("Domain: Exporting orders with filter: {}", filter);
+        repositoryPort.forEachOrder(filter, consumer);
     }
 }
 
@@ -0,0 +1,55 @@
+package com.ambev.order.domain.service;
+
+import com.ambev.order.application.exception.OrderNotFoundException;
+import com.ambev.order.domain.model.OrderCursor;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderSlice;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.ambev.order.domain.port.in.ReactiveQueryOrderUseCase;
+import com.ambev.order.domain.port.out.ReactiveOrderRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive read path for System B polls. Never blocks: every call returns a Mono assembled
+ * over ReactiveOrderRepositoryPort and runs on the caller's event loop
+ */
+@Service
+@ConditionalOnProperty(name = "order.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveQueryOrderService implements ReactiveQueryOrderUseCase {
+
+    private final ReactiveOrderRepositoryPort repositoryPort;
+
+    @Override
+    public Mono<OrderDomain> findById(UUID id) {
+        log.debug("Domain: Fetching order by ID (reactive): {}", id);
+        return repositoryPort.findById(id)
+                .switchIfEmpty(Mono.error(() -> new OrderNotFoundException("Order not found with ID: " + id)));
+    }
+
+    @Override
+    public Mono<OrderDomain> findByExternalId(String externalId) {
+        log.debug("Domain: Fetching order by external ID (reactive): {}", externalId);
+        return repositoryPort.findByExternalId(externalId)
+                .switchIfEmpty(Mono.error(() -> new OrderNotFoundException("Order not found with external ID: " + externalId)));
+    }
+
+    @Override
+    public Mono<OrderSlice> findAllAfter(OrderCursor cursor, int limit) {
+        log.debug("Domain: Fetching {} orders after cursor (reactive): {}", limit, cursor);
+        return repositoryPort.findAllAfter(cursor, limit);
+    }
+
+    @Override
+    public Mono<OrderSlice> findByStatusAfter(OrderStatusDomain status, OrderCursor cursor, int limit) {
+        log.debug("Domain: Fetching {} orders by status: {} after cursor (reactive): {}", limit, status, cursor);
+        return repositoryPort.findByStatusAfter(status, cursor, limit);
+    }
+}
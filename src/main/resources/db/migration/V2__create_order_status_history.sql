@@ -0,0 +1,11 @@
+-- Append-only journal of order status transitions (RECEIVED -> PROCESSING -> COMPLETED ...).
+-- No foreign key to orders: rows are only inserted, in batches, alongside the order itself.
+CREATE TABLE order_status_history (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    order_id UUID NOT NULL,
+    from_status VARCHAR(20),
+    to_status VARCHAR(20) NOT NULL,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_order_status_history_order_id ON order_status_history(order_id, changed_at);
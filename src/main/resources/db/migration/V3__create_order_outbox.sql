@@ -0,0 +1,10 @@
+-- Transactional outbox: orders to publish to System B, written in the same transaction as the order.
+-- Drained by the relay with FOR UPDATE SKIP LOCKED and deleted once the broker confirms them.
+CREATE TABLE order_outbox (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    order_id UUID NOT NULL,
+    payload BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_order_outbox_created_at ON order_outbox(created_at);
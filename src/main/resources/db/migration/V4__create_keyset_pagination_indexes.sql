@@ -0,0 +1,7 @@
+-- Composite indexes matching the keyset ordering (created_at DESC, id DESC).
+-- They supersede the single-column status and created_at indexes.
+CREATE INDEX idx_orders_created_at_id ON orders(created_at DESC, id DESC);
+CREATE INDEX idx_orders_status_created_at_id ON orders(status, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_status;
+DROP INDEX IF EXISTS idx_created_at;
@@ -0,0 +1,19 @@
+-- Time-ordered UUIDv7 (RFC 9562) defaults. The application assigns UUIDv7 IDs itself (UuidV7Generator);
+-- these defaults keep rows inserted by SQL (imports, manual fixes) on the same append-mostly key order.
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+DECLARE
+    uuid_bytes BYTEA;
+BEGIN
+    uuid_bytes := overlay(uuid_send(gen_random_uuid())
+                          PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                          FROM 1 FOR 6);
+    -- version 7 in the high nibble of byte 6; gen_random_uuid() already set the RFC variant
+    uuid_bytes := set_byte(uuid_bytes, 6, (get_byte(uuid_bytes, 6) & 15) | 112);
+    RETURN encode(uuid_bytes, 'hex')::UUID;
+END
+$$ LANGUAGE plpgsql VOLATILE;
+
+ALTER TABLE orders ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE order_items ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE order_status_history ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE order_outbox ALTER COLUMN id SET DEFAULT uuid_generate_v7();
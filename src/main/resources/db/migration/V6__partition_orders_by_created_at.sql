@@ -0,0 +1,100 @@
+-- Range-partition orders by created_at, with order_items co-partitioned on the order's created_at.
+-- Partitions are monthly here; OrderPartitionMaintenanceJob creates the next ones ahead of time
+-- and detaches or drops the expired ones.
+
+ALTER TABLE order_items RENAME TO order_items_unpartitioned;
+ALTER TABLE orders RENAME TO orders_unpartitioned;
+
+-- The primary key of a partitioned table must include the partition key
+CREATE TABLE orders (
+    id UUID NOT NULL DEFAULT uuid_generate_v7(),
+    external_id VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    total_amount DECIMAL(10, 2) NOT NULL DEFAULT 0.00,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_orders PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE order_items (
+    id UUID NOT NULL DEFAULT uuid_generate_v7(),
+    order_id UUID NOT NULL,
+    order_created_at TIMESTAMP NOT NULL,
+    product_code VARCHAR(50) NOT NULL,
+    quantity INTEGER NOT NULL,
+    unit_price DECIMAL(10, 2) NOT NULL,
+    total_price DECIMAL(10, 2) NOT NULL,
+    CONSTRAINT pk_order_items PRIMARY KEY (id, order_created_at),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id, order_created_at)
+        REFERENCES orders (id, created_at) ON DELETE CASCADE
+) PARTITION BY RANGE (order_created_at);
+
+-- A unique index on a partitioned table must include the partition key, so external_id uniqueness
+-- across partitions is kept in this registry, filled by a trigger on orders.
+CREATE TABLE order_external_ids (
+    external_id VARCHAR(100) PRIMARY KEY,
+    order_id UUID NOT NULL,
+    order_created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_order_external_ids_created_at ON order_external_ids(order_created_at);
+
+-- A row already claimed for the same order (bulk import claims IDs before inserting) is accepted;
+-- any other existing row is a duplicate external_id.
+CREATE OR REPLACE FUNCTION register_order_external_id() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO order_external_ids (external_id, order_id, order_created_at)
+    VALUES (NEW.external_id, NEW.id, NEW.created_at)
+    ON CONFLICT (external_id) DO NOTHING;
+
+    IF NOT FOUND AND NOT EXISTS (SELECT 1 FROM order_external_ids
+                                 WHERE external_id = NEW.external_id AND order_id = NEW.id) THEN
+        RAISE EXCEPTION 'duplicate key value violates unique constraint "order_external_ids_pkey"'
+            USING ERRCODE = 'unique_violation', DETAIL = format('Key (external_id)=(%s) already exists.', NEW.external_id);
+    END IF;
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_orders_register_external_id
+    BEFORE INSERT ON orders
+    FOR EACH ROW EXECUTE FUNCTION register_order_external_id();
+
+-- Creates the orders and order_items partitions of one period; a no-op if they already exist
+CREATE OR REPLACE FUNCTION create_order_partition(p_start TIMESTAMP, p_end TIMESTAMP, p_suffix TEXT) RETURNS VOID AS $$
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+                   'orders_p' || p_suffix, p_start, p_end);
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF order_items FOR VALUES FROM (%L) TO (%L)',
+                   'order_items_p' || p_suffix, p_start, p_end);
+END
+$$ LANGUAGE plpgsql;
+
+-- Monthly partitions covering the existing rows plus the next three months
+DO $$
+DECLARE
+    period TIMESTAMP;
+BEGIN
+    period := date_trunc('month', LEAST(COALESCE((SELECT min(created_at) FROM orders_unpartitioned), now()), now()));
+    WHILE period < date_trunc('month', now()) + INTERVAL '4 months' LOOP
+        PERFORM create_order_partition(period, period + INTERVAL '1 month', to_char(period, 'YYYYMM'));
+        period := period + INTERVAL '1 month';
+    END LOOP;
+END
+$$;
+
+INSERT INTO orders (id, external_id, status, total_amount, created_at, updated_at, version)
+SELECT id, external_id, status, total_amount, created_at, updated_at, version FROM orders_unpartitioned;
+
+INSERT INTO order_items (id, order_id, order_created_at, product_code, quantity, unit_price, total_price)
+SELECT i.id, i.order_id, o.created_at, i.product_code, i.quantity, i.unit_price, i.total_price
+FROM order_items_unpartitioned i JOIN orders_unpartitioned o ON o.id = i.order_id;
+
+DROP TABLE order_items_unpartitioned;
+DROP TABLE orders_unpartitioned;
+
+-- Partitioned indexes: every partition gets its own local copy
+CREATE INDEX idx_orders_created_at_id ON orders(created_at DESC, id DESC);
+CREATE INDEX idx_orders_status_created_at_id ON orders(status, created_at DESC, id DESC);
+CREATE INDEX idx_order_items_order_id ON order_items(order_id);
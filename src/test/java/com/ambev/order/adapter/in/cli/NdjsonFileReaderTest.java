@@ -0,0 +1,73 @@
+package com.ambev.order.adapter.in.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonFileReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldSplitOnLineBoundariesAndReadEveryLineOnce() throws IOException {
+        StringBuilder content = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String line = "{\"externalId\":\"ORDER-" + i + "\"}";
+            expected.add(line);
+            content.append(line).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        content.append("\n");
+        Path file = Files.writeString(tempDir.resolve("orders.ndjson"), content);
+
+        NdjsonFileReader reader = new NdjsonFileReader(1024);
+        List<String> lines = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<NdjsonFileReader.Region> regions = reader.split(channel);
+            assertTrue(regions.size() > 10);
+            assertEquals(0, regions.get(0).start());
+            assertEquals(channel.size(), regions.get(regions.size() - 1).end());
+
+            for (NdjsonFileReader.Region region : regions) {
+                reader.readLines(channel, region, (offset, line, length) -> {
+                    lines.add(new String(line, 0, length, StandardCharsets.UTF_8));
+                    offsets.add(offset);
+                });
+            }
+        }
+
+        assertEquals(expected, lines);
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals('{', bytes[offsets.get(500).intValue()]);
+        assertTrue(offsets.get(500) == 0 || bytes[offsets.get(500).intValue() - 1] == '\n');
+    }
+
+    @Test
+    void shouldReadLastLineWithoutTrailingNewline() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("orders.ndjson"), "{\"a\":1}\n{\"a\":2}");
+        List<String> lines = new ArrayList<>();
+
+        NdjsonFileReader reader = new NdjsonFileReader(1024 * 1024);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (NdjsonFileReader.Region region : reader.split(channel)) {
+                reader.readLines(channel, region, (offset, line, length) ->
+                        lines.add(new String(line, 0, length, StandardCharsets.UTF_8)));
+            }
+        }
+
+        assertEquals(List.of("{\"a\":1}", "{\"a\":2}"), lines);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ambev.order.adapter.in.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveBatchSizerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void shouldGrowAdditivelyWhileCommitsAreFastAndBatchesFull() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 100, 250);
+
+        assertEquals(20, sizer.onCommit(10, FAST));
+        assertEquals(30, sizer.onCommit(20, FAST));
+    }
+
+    @Test
+    void shouldNotGrowWhenBatchWasNotFull() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 100, 250);
+
+        assertEquals(10, sizer.onCommit(3, FAST));
+    }
+
+    @Test
+    void shouldHalveWhenCommitIsSlowAndRespectBounds() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 40, 250);
+        for (int i = 0; i < 10; i++) {
+            sizer.onCommit(sizer.currentSize(), FAST);
+        }
+        assertEquals(40, sizer.currentSize());
+
+        assertEquals(20, sizer.onCommit(40, SLOW));
+        assertEquals(10, sizer.onFailure());
+        assertEquals(10, sizer.onFailure());
+    }
+
+    @Test
+    void shouldRejectInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSizer(0, 10, 250));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSizer(20, 10, 250));
+    }
+}
@@ -0,0 +1,162 @@
+package com.ambev.order.adapter.in.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveConsumerControllerTest {
+
+    private static final String QUEUE = "order.incoming.queue";
+
+    @Mock
+    private RabbitListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    @Mock
+    private SimpleMessageListenerContainer container;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdaptiveConsumerController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new AdaptiveConsumerController(listenerRegistry, amqpAdmin, meterRegistry, QUEUE,
+                1, 20, 10, 250, 20, 50, 10, 50);
+        when(listenerRegistry.getListenerContainer(RabbitMQConsumerAdapter.LISTENER_ID)).thenReturn(container);
+        lenient().when(container.isRunning()).thenReturn(true);
+    }
+
+    @Test
+    void shouldAddConsumerAndPrefetchWhileBacklogGrowsAndDatabaseKeepsUp() {
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 5_000, 10));
+        recordPoolWait(Duration.ofMillis(2));
+        recordCommit(Duration.ofMillis(5));
+
+        controller.adjust();
+
+        InOrder inOrder = inOrder(container);
+        inOrder.verify(container).setPrefetchCount(60);
+        inOrder.verify(container).setMaxConcurrentConsumers(11);
+        inOrder.verify(container).setConcurrentConsumers(11);
+        assertEquals(11, gauge("order.consumer.adaptive.consumers"));
+        assertEquals(60, gauge("order.consumer.adaptive.prefetch"));
+        assertEquals(5_000, gauge("order.consumer.adaptive.queue-depth"));
+        assertEquals(1, decisions("increase", "backlog"));
+    }
+
+    @Test
+    void shouldHalveOnPoolWaitLoweringConsumersBeforeMax() {
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 5_000, 10));
+        recordPoolWait(Duration.ofMillis(200));
+
+        controller.adjust();
+
+        InOrder inOrder = inOrder(container);
+        inOrder.verify(container).setPrefetchCount(25);
+        inOrder.verify(container).setConcurrentConsumers(5);
+        inOrder.verify(container).setMaxConcurrentConsumers(5);
+        assertEquals(25, gauge("order.consumer.adaptive.prefetch"));
+        assertEquals(1, decisions("decrease", "pool_wait"));
+    }
+
+    @Test
+    void shouldOnlyLookAtTheLatestIntervalOfCommitTimes() {
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 0, 10));
+        recordCommit(Duration.ofMillis(400));
+        controller.adjust();
+        assertEquals(1, decisions("decrease", "commit_latency"));
+
+        recordCommit(Duration.ofMillis(5));
+        controller.adjust();
+
+        assertEquals(1, decisions("hold", "none"));
+        verify(container, times(1)).setConcurrentConsumers(5);
+        assertEquals(5, gauge("order.consumer.adaptive.consumers"));
+    }
+
+    @Test
+    void shouldAddFlushTimeToCommitTime() {
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 0, 10));
+        recordStage("save", Duration.ofMillis(30));
+        recordCommit(Duration.ofMillis(30));
+
+        controller.adjust();
+
+        assertEquals(1, decisions("decrease", "commit_latency"));
+    }
+
+    @Test
+    void shouldTreatUnreachableBrokerAsEmptyQueue() {
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenThrow(new AmqpConnectException(new RuntimeException("down")));
+
+        controller.adjust();
+
+        assertEquals(1, decisions("hold", "none"));
+        assertEquals(0, gauge("order.consumer.adaptive.queue-depth"));
+    }
+
+    @Test
+    void shouldSkipWhenListenerIsNotRunning() {
+        when(container.isRunning()).thenReturn(false);
+
+        controller.adjust();
+
+        verifyNoInteractions(amqpAdmin);
+        verify(container, never()).setConcurrentConsumers(anyInt());
+    }
+
+    @Test
+    void shouldSkipWhenListenerIsMissing() {
+        when(listenerRegistry.getListenerContainer(RabbitMQConsumerAdapter.LISTENER_ID)).thenReturn(null);
+
+        controller.adjust();
+        controller.adjust();
+
+        verifyNoInteractions(amqpAdmin, container);
+    }
+
+    private void recordPoolWait(Duration duration) {
+        Timer.builder(AdaptiveConsumerController.POOL_WAIT_TIMER).tag("pool", "HikariPool-1")
+                .register(meterRegistry).record(duration);
+    }
+
+    private void recordCommit(Duration duration) {
+        recordStage("commit", duration);
+    }
+
+    private void recordStage(String stage, Duration duration) {
+        Timer.builder(AdaptiveConsumerController.STAGE_TIMER)
+                .tag("stage", stage).tag("channel", "amqp").tag("mode", "single")
+                .register(meterRegistry).record(duration);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double decisions(String action, String signal) {
+        return meterRegistry.get(AdaptiveConsumerController.DECISION_COUNTER)
+                .tag("action", action).tag("signal", signal).counter().count();
+    }
+}
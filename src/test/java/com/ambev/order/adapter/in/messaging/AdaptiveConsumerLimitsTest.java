@@ -0,0 +1,70 @@
+package com.ambev.order.adapter.in.messaging;
+
+import com.ambev.order.adapter.in.messaging.AdaptiveConsumerLimits.Action;
+import com.ambev.order.adapter.in.messaging.AdaptiveConsumerLimits.Decision;
+import com.ambev.order.adapter.in.messaging.AdaptiveConsumerLimits.Signal;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConsumerLimitsTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private AdaptiveConsumerLimits limits(int initialConsumers, int initialPrefetch) {
+        return new AdaptiveConsumerLimits(1, 20, 10, 100, 20, 50, initialConsumers, initialPrefetch);
+    }
+
+    @Test
+    void shouldGrowOneStepWhileMessagesWaitAndDatabaseKeepsUp() {
+        AdaptiveConsumerLimits limits = limits(4, 40);
+
+        Decision decision = limits.onSample(FAST, FAST, 1_000);
+
+        assertEquals(new Decision(5, 50, Action.INCREASE, Signal.BACKLOG), decision);
+        assertEquals(new Decision(6, 60, Action.INCREASE, Signal.BACKLOG), limits.onSample(FAST, FAST, 1_000));
+    }
+
+    @Test
+    void shouldHoldWhenQueueIsDrained() {
+        AdaptiveConsumerLimits limits = limits(4, 40);
+
+        assertEquals(new Decision(4, 40, Action.HOLD, Signal.NONE), limits.onSample(FAST, FAST, 2));
+    }
+
+    @Test
+    void shouldHalveOnPoolWaitBeforeLookingAtCommitLatency() {
+        AdaptiveConsumerLimits limits = limits(8, 80);
+
+        assertEquals(new Decision(4, 40, Action.DECREASE, Signal.POOL_WAIT), limits.onSample(SLOW, SLOW, 1_000));
+        assertEquals(new Decision(2, 20, Action.DECREASE, Signal.COMMIT_LATENCY), limits.onSample(FAST, SLOW, 1_000));
+    }
+
+    @Test
+    void shouldRespectBounds() {
+        AdaptiveConsumerLimits limits = limits(2, 15);
+
+        limits.onSample(SLOW, FAST, 0);
+        assertEquals(new Decision(1, 10, Action.DECREASE, Signal.POOL_WAIT), limits.onSample(SLOW, FAST, 0));
+
+        for (int i = 0; i < 50; i++) {
+            limits.onSample(FAST, FAST, 1_000);
+        }
+        assertEquals(20, limits.consumers());
+        assertEquals(100, limits.prefetch());
+        assertEquals(Action.HOLD, limits.onSample(FAST, FAST, 1_000).action());
+    }
+
+    @Test
+    void shouldClampInitialLimitsAndRejectInvalidBounds() {
+        AdaptiveConsumerLimits limits = limits(50, 5);
+        assertEquals(20, limits.consumers());
+        assertEquals(10, limits.prefetch());
+
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConsumerLimits(0, 10, 10, 100, 20, 50, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConsumerLimits(1, 10, 100, 10, 20, 50, 1, 10));
+    }
+}
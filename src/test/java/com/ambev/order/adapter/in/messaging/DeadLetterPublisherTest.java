@@ -0,0 +1,96 @@
+package com.ambev.order.adapter.in.messaging;
+
+import com.ambev.order.adapter.in.messaging.DeadLetterPublisher.Reason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DeadLetterPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new DeadLetterPublisher(rabbitTemplate, meterRegistry, "order.incoming.dlq", 100);
+    }
+
+    @Test
+    void shouldRepublishOriginalBodyToDeadLetterQueueWithFailureHeaders() {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue("order.incoming.queue");
+        properties.setHeader("trace-id", "abc");
+        byte[] body = "not-json".getBytes(StandardCharsets.UTF_8);
+        confirmWith(true);
+
+        publisher.park(new Message(body, properties), Reason.UNREADABLE, new IllegalArgumentException("bad payload"));
+
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(""), eq("order.incoming.dlq"), sent.capture(), any(CorrelationData.class));
+        MessageProperties deadLetter = sent.getValue().getMessageProperties();
+        assertArrayEquals(body, sent.getValue().getBody());
+        assertEquals(MessageDeliveryMode.PERSISTENT, deadLetter.getDeliveryMode());
+        assertEquals("UNREADABLE", deadLetter.getHeader(DeadLetterPublisher.REASON_HEADER));
+        assertEquals(IllegalArgumentException.class.getName(), deadLetter.getHeader(DeadLetterPublisher.EXCEPTION_HEADER));
+        assertEquals("bad payload", deadLetter.getHeader(DeadLetterPublisher.EXCEPTION_MESSAGE_HEADER));
+        assertEquals("order.incoming.queue", deadLetter.getHeader(DeadLetterPublisher.ORIGINAL_QUEUE_HEADER));
+        assertNotNull(deadLetter.getHeader(DeadLetterPublisher.FAILED_AT_HEADER));
+        assertEquals("abc", deadLetter.getHeader("trace-id"));
+
+        assertEquals(1.0, meterRegistry.get("order.messages.dead-lettered").tag("reason", "unreadable").counter().count());
+    }
+
+    @Test
+    void shouldFailWhenBrokerNacksTheDeadLetter() {
+        confirmWith(false);
+
+        assertThrows(AmqpException.class, () -> publisher.park(message(), Reason.INVALID, new IllegalArgumentException("bad")));
+        assertEquals(0.0, meterRegistry.get("order.messages.dead-lettered").tag("reason", "invalid").counter().count());
+    }
+
+    @Test
+    void shouldFailWhenDeadLetterIsNeverConfirmed() {
+        assertThrows(AmqpException.class, () -> publisher.park(message(), Reason.INVALID, new IllegalArgumentException("bad")));
+    }
+
+    private void confirmWith(boolean ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "queue full"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private Message message() {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue("order.incoming.queue");
+        return new Message("{}".getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,231 @@
+package com.ambev.order.adapter.in.messaging;
+
+import com.ambev.order.adapter.in.messaging.DeadLetterPublisher.Reason;
+import com.ambev.order.application.dto.OrderItemRequestDTO;
+import com.ambev.order.application.dto.OrderRequestDTO;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.model.OrderCreationResult;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.port.in.CreateOrderUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RabbitMQBatchConsumerAdapterTest {
+
+    @Mock
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Mock
+    private DeadLetterPublisher deadLetters;
+
+    @Mock
+    private RabbitListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private Channel channel;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RabbitMQBatchConsumerAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        OrderMessageDecoder decoder = new OrderMessageDecoder(objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        adapter = new RabbitMQBatchConsumerAdapter(createOrderUseCase, decoder, new OrderMapper(), deadLetters,
+                new DeliveryAttempts(2), listenerRegistry);
+        ReflectionTestUtils.setField(adapter, "minBatchSize", 10);
+        ReflectionTestUtils.setField(adapter, "maxBatchSize", 100);
+        ReflectionTestUtils.setField(adapter, "targetCommitLatency", 250L);
+        adapter.init();
+    }
+
+    private RabbitMQBatchConsumerAdapter adapterWith(OrderMapper orderMapper) {
+        OrderMessageDecoder decoder = new OrderMessageDecoder(objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        RabbitMQBatchConsumerAdapter batchAdapter = new RabbitMQBatchConsumerAdapter(createOrderUseCase, decoder,
+                orderMapper, deadLetters, new DeliveryAttempts(2), listenerRegistry);
+        ReflectionTestUtils.setField(batchAdapter, "minBatchSize", 10);
+        ReflectionTestUtils.setField(batchAdapter, "maxBatchSize", 100);
+        ReflectionTestUtils.setField(batchAdapter, "targetCommitLatency", 250L);
+        batchAdapter.init();
+        return batchAdapter;
+    }
+
+    @Test
+    void shouldAckWholeBatchWithSingleMultipleAck() throws Exception {
+        when(createOrderUseCase.createOrders(anyList(), eq(IngestChannel.AMQP))).thenAnswer(invocation -> {
+            List<OrderDomain> orders = invocation.getArgument(0);
+            return orders.stream().map(OrderCreationResult::created).toList();
+        });
+
+        adapter.consumeOrdersFromExternalSystem(
+                List.of(orderMessage("ORDER-001", 1), orderMessage("ORDER-002", 2), orderMessage("ORDER-003", 3)),
+                channel);
+
+        verify(channel).basicAck(3, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldParkUnreadableAndInvalidMessagesAndAckTheWholeBatch() throws Exception {
+        when(createOrderUseCase.createOrders(anyList(), eq(IngestChannel.AMQP))).thenReturn(List.of(
+                OrderCreationResult.invalid("ORDER-001", "invalid"),
+                OrderCreationResult.duplicate("ORDER-003")));
+        Message invalid = orderMessage("ORDER-001", 1);
+        Message unreadable = message("not-json", 2);
+
+        adapter.consumeOrdersFromExternalSystem(List.of(invalid, unreadable, orderMessage("ORDER-003", 3)), channel);
+
+        verify(deadLetters).park(eq(unreadable), eq(Reason.UNREADABLE), any(IOException.class));
+        verify(deadLetters).park(eq(invalid), eq(Reason.INVALID), any(IllegalArgumentException.class));
+        verify(channel).basicAck(3, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldParkMessagesFailingValidationWithoutCallingTheUseCase() throws Exception {
+        Message missingItems = message("{\"externalId\":\"ORDER-001\",\"items\":[]}", 1);
+
+        adapter.consumeOrdersFromExternalSystem(List.of(missingItems), channel);
+
+        verify(deadLetters).park(eq(missingItems), eq(Reason.INVALID), any(ConstraintViolationException.class));
+        verify(channel).basicAck(1, true);
+        verifyNoInteractions(createOrderUseCase);
+    }
+
+    @Test
+    void shouldRequeueMessageThatCannotBeParked() throws Exception {
+        doThrow(new AmqpIOException(new IOException("channel closed")))
+                .when(deadLetters).park(any(Message.class), eq(Reason.UNREADABLE), any());
+
+        adapter.consumeOrdersFromExternalSystem(List.of(message("not-json", 1)), channel);
+
+        verify(channel).basicNack(1, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void shouldFallBackToOneTransactionPerOrderWhenBatchFails() throws Exception {
+        when(createOrderUseCase.createOrders(anyList(), eq(IngestChannel.AMQP))).thenThrow(new IllegalStateException("commit failed"));
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.AMQP)))
+                .thenReturn(new OrderDomain())
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        adapter.consumeOrdersFromExternalSystem(List.of(orderMessage("ORDER-001", 1), orderMessage("ORDER-002", 2)), channel);
+
+        verify(channel).basicNack(2, false, true);
+        verify(channel).basicAck(1, true);
+        verifyNoInteractions(deadLetters);
+    }
+
+    @Test
+    void shouldRequeueEveryOrderWhenInfrastructureIsDown() throws Exception {
+        when(createOrderUseCase.createOrders(anyList(), eq(IngestChannel.AMQP))).thenThrow(new IllegalStateException("pool exhausted"));
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.AMQP)))
+                .thenThrow(new IllegalStateException("pool exhausted"));
+
+        adapter.consumeOrdersFromExternalSystem(List.of(orderMessage("ORDER-001", 1), orderMessage("ORDER-002", 2)), channel);
+
+        verify(channel).basicNack(1, false, true);
+        verify(channel).basicNack(2, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verifyNoInteractions(deadLetters);
+    }
+
+    @Test
+    void shouldParkMessageThatCannotBeMappedAndProcessTheRest() throws Exception {
+        OrderMapper orderMapper = mock(OrderMapper.class);
+        OrderDomain order = OrderDomain.builder().externalId("ORDER-001").build();
+        when(orderMapper.toDomain(any(OrderRequestDTO.class)))
+                .thenReturn(order)
+                .thenThrow(new ArithmeticException("Overflow"));
+        when(createOrderUseCase.createOrders(List.of(order), IngestChannel.AMQP)).thenReturn(List.of(OrderCreationResult.created(order)));
+        Message overflow = orderMessage("ORDER-002", 2);
+
+        adapterWith(orderMapper).consumeOrdersFromExternalSystem(List.of(orderMessage("ORDER-001", 1), overflow), channel);
+
+        verify(deadLetters).park(eq(overflow), eq(Reason.INVALID), any(ArithmeticException.class));
+        verify(channel).basicAck(2, true);
+    }
+
+    @Test
+    void shouldParkDeterministicFailuresInTheFallback() throws Exception {
+        Message overflow = orderMessage("ORDER-001", 1);
+        Message rejectedByDatabase = orderMessage("ORDER-002", 2);
+        when(createOrderUseCase.createOrders(anyList(), eq(IngestChannel.AMQP))).thenThrow(new ArithmeticException("long overflow"));
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.AMQP)))
+                .thenThrow(new ArithmeticException("long overflow"))
+                .thenThrow(new DataIntegrityViolationException("numeric field overflow"));
+
+        adapter.consumeOrdersFromExternalSystem(List.of(overflow, rejectedByDatabase), channel);
+
+        verify(deadLetters).park(eq(overflow), eq(Reason.INVALID), any(ArithmeticException.class));
+        verify(deadLetters).park(eq(rejectedByDatabase), eq(Reason.INVALID), any(DataIntegrityViolationException.class));
+        verify(channel).basicAck(2, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldParkRedeliveredOrderThatKeepsFailing() throws Exception {
+        Message message = orderMessage("ORDER-001", 1);
+        message.getMessageProperties().setMessageId("msg-1");
+        when(createOrderUseCase.createOrders(anyList(), eq(IngestChannel.AMQP))).thenThrow(new IllegalStateException("pool exhausted"));
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.AMQP)))
+                .thenThrow(new IllegalStateException("pool exhausted"));
+
+        adapter.consumeOrdersFromExternalSystem(List.of(message), channel);
+        verify(channel).basicNack(1, false, true);
+
+        message.getMessageProperties().setRedelivered(true);
+        adapter.consumeOrdersFromExternalSystem(List.of(message), channel);
+
+        verify(deadLetters).park(eq(message), eq(Reason.RETRIES_EXHAUSTED), any(IllegalStateException.class));
+        verify(channel).basicAck(1, true);
+    }
+
+    private Message orderMessage(String externalId, long deliveryTag) throws Exception {
+        OrderRequestDTO request = OrderRequestDTO.builder()
+                .externalId(externalId)
+                .items(List.of(OrderItemRequestDTO.builder()
+                        .productCode("PROD-001")
+                        .quantity(1)
+                        .unitPrice(new BigDecimal("10.00"))
+                        .build()))
+                .build();
+        return message(objectMapper.writeValueAsString(request), deliveryTag);
+    }
+
+    private Message message(String body, long deliveryTag) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,204 @@
+package com.ambev.order.adapter.in.messaging;
+
+import com.ambev.order.adapter.in.messaging.DeadLetterPublisher.Reason;
+import com.ambev.order.application.dto.OrderItemRequestDTO;
+import com.ambev.order.application.dto.OrderRequestDTO;
+import com.ambev.order.application.exception.DuplicateOrderException;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.port.in.CreateOrderUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RabbitMQConsumerAdapterTest {
+
+    @Mock
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Mock
+    private DeadLetterPublisher deadLetters;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RabbitMQConsumerAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        OrderMessageDecoder decoder = new OrderMessageDecoder(objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        adapter = new RabbitMQConsumerAdapter(createOrderUseCase, decoder, new OrderMapper(), deadLetters,
+                new DeliveryAttempts(3));
+    }
+
+    @Test
+    void shouldDecodeBodyAndCreateOrder() throws Exception {
+        adapter.consumeOrderFromExternalSystem(orderMessage("ORDER-001"));
+
+        ArgumentCaptor<OrderDomain> order = ArgumentCaptor.forClass(OrderDomain.class);
+        verify(createOrderUseCase).createOrder(order.capture(), eq(IngestChannel.AMQP));
+        assertEquals("ORDER-001", order.getValue().getExternalId());
+        assertEquals(1, order.getValue().getItems().size());
+        verifyNoInteractions(deadLetters);
+    }
+
+    @Test
+    void shouldParkUnreadableMessage() {
+        Message message = message("not-json");
+
+        adapter.consumeOrderFromExternalSystem(message);
+
+        verify(deadLetters).park(eq(message), eq(Reason.UNREADABLE), any(IOException.class));
+        verifyNoInteractions(createOrderUseCase);
+    }
+
+    @Test
+    void shouldParkJsonNullMessage() {
+        Message message = message("null");
+
+        adapter.consumeOrderFromExternalSystem(message);
+
+        verify(deadLetters).park(eq(message), eq(Reason.UNREADABLE), any(IllegalArgumentException.class));
+        verifyNoInteractions(createOrderUseCase);
+    }
+
+    @Test
+    void shouldParkMessageFailingValidation() {
+        Message message = message("{\"externalId\":\"\",\"items\":[]}");
+
+        adapter.consumeOrderFromExternalSystem(message);
+
+        verify(deadLetters).park(eq(message), eq(Reason.INVALID), any(ConstraintViolationException.class));
+        verifyNoInteractions(createOrderUseCase);
+    }
+
+    @Test
+    void shouldParkOrderRejectedByDomain() throws Exception {
+        Message message = orderMessage("ORDER-001");
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.AMQP)))
+                .thenThrow(new IllegalArgumentException("Order cannot be processed"));
+
+        adapter.consumeOrderFromExternalSystem(message);
+
+        verify(deadLetters).park(eq(message), eq(Reason.INVALID), any(IllegalArgumentException.class));
+    }
+
+    @Test
+    void shouldPropagateInfrastructureFailureSoTheDeliveryIsRequeued() throws Exception {
+        Message message = orderMessage("ORDER-001");
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.AMQP)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, () -> adapter.consumeOrderFromExternalSystem(message));
+
+        verifyNoInteractions(deadLetters);
+    }
+
+    @Test
+    void shouldParkOrderThatFailsTheSameWayOnEveryDelivery() throws Exception {
+        Message overflow = orderMessage("ORDER-001");
+        Message rejectedByDatabase = orderMessage("ORDER-002");
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.AMQP)))
+                .thenThrow(new ArithmeticException("long overflow"))
+                .thenThrow(new DataIntegrityViolationException("numeric field overflow"));
+
+        adapter.consumeOrderFromExternalSystem(overflow);
+        adapter.consumeOrderFromExternalSystem(rejectedByDatabase);
+
+        verify(deadLetters).park(eq(overflow), eq(Reason.INVALID), any(ArithmeticException.class));
+        verify(deadLetters).park(eq(rejectedByDatabase), eq(Reason.INVALID), any(DataIntegrityViolationException.class));
+    }
+
+    @Test
+    void shouldParkMessageOnceItHasFailedOnEveryAllowedDelivery() throws Exception {
+        Message message = orderMessage("ORDER-001");
+        message.getMessageProperties().setMessageId("msg-1");
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.AMQP)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, () -> adapter.consumeOrderFromExternalSystem(message));
+        message.getMessageProperties().setRedelivered(true);
+        assertThrows(IllegalStateException.class, () -> adapter.consumeOrderFromExternalSystem(message));
+        verifyNoInteractions(deadLetters);
+
+        adapter.consumeOrderFromExternalSystem(message);
+
+        verify(deadLetters).park(eq(message), eq(Reason.RETRIES_EXHAUSTED), any(IllegalStateException.class));
+    }
+
+    @Test
+    void shouldUseBrokerDeliveryCountWhenPresent() throws Exception {
+        Message message = orderMessage("ORDER-001");
+        message.getMessageProperties().setHeader(DeliveryAttempts.DELIVERY_COUNT_HEADER, 2L);
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.AMQP)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        adapter.consumeOrderFromExternalSystem(message);
+
+        verify(deadLetters).park(eq(message), eq(Reason.RETRIES_EXHAUSTED), any(IllegalStateException.class));
+    }
+
+    @Test
+    void shouldAckDuplicateWithoutParking() throws Exception {
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.AMQP)))
+                .thenThrow(new DuplicateOrderException("Order with external ID ORDER-001 already exists"));
+
+        adapter.consumeOrderFromExternalSystem(orderMessage("ORDER-001"));
+
+        verifyNoInteractions(deadLetters);
+    }
+
+    @Test
+    void shouldPropagateFailedParkingSoTheDeliveryIsRequeued() {
+        Message message = message("not-json");
+        doThrow(new AmqpIOException(new IOException("channel closed")))
+                .when(deadLetters).park(eq(message), eq(Reason.UNREADABLE), any());
+
+        assertThrows(AmqpIOException.class, () -> adapter.consumeOrderFromExternalSystem(message));
+    }
+
+    private Message orderMessage(String externalId) throws Exception {
+        OrderRequestDTO request = OrderRequestDTO.builder()
+                .externalId(externalId)
+                .items(List.of(OrderItemRequestDTO.builder()
+                        .productCode("PROD-001")
+                        .quantity(1)
+                        .unitPrice(new BigDecimal("10.00"))
+                        .build()))
+                .build();
+        return message(objectMapper.writeValueAsString(request));
+    }
+
+    private Message message(String body) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(1);
+        properties.setConsumerQueue("order.incoming.queue");
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,157 @@
+package com.ambev.order.adapter.in.reactive;
+
+import com.ambev.order.application.cache.RenderedOrderCache;
+import com.ambev.order.application.exception.OrderNotFoundException;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.config.MoneyJacksonModule;
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderCursor;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderSlice;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.ambev.order.domain.port.in.ReactiveQueryOrderUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderReactiveHandlerTest {
+
+    @Mock
+    private ReactiveQueryOrderUseCase queryOrderUseCase;
+
+    private final OrderMapper orderMapper = new OrderMapper();
+
+    private WebTestClient client;
+    private OrderDomain order;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new MoneyJacksonModule());
+        RenderedOrderCache renderedOrderCache = new RenderedOrderCache(objectMapper, orderMapper,
+                new SimpleMeterRegistry(), true, DataSize.ofMegabytes(1), true, DataSize.ofBytes(0));
+        client = WebTestClient.bindToRouterFunction(
+                new OrderReactiveHandler(queryOrderUseCase, orderMapper, renderedOrderCache).routes()).build();
+
+        order = OrderDomain.builder()
+                .id(UUID.randomUUID())
+                .externalId("ORDER-001")
+                .status(OrderStatusDomain.COMPLETED)
+                .totalAmount(Money.ofMinor(10000))
+                .createdAt(LocalDateTime.of(2025, 10, 27, 10, 0))
+                .items(List.of(OrderItemDomain.builder()
+                        .productCode("PROD-001")
+                        .quantity(2)
+                        .unitPrice(Money.ofMinor(5000))
+                        .totalPrice(Money.ofMinor(10000))
+                        .build()))
+                .build();
+    }
+
+    @Test
+    void shouldReturnOrderById() {
+        when(queryOrderUseCase.findById(order.getId())).thenReturn(Mono.just(order));
+
+        client.get().uri("/api/v1/orders/{id}", order.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.externalId").isEqualTo("ORDER-001")
+                .jsonPath("$.items[0].productCode").isEqualTo("PROD-001");
+    }
+
+    @Test
+    void shouldServeCompletedOrderFromRenderedCache() {
+        when(queryOrderUseCase.findByExternalId("ORDER-001")).thenReturn(Mono.just(order));
+
+        client.get().uri("/api/v1/orders/external/ORDER-001")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.externalId").isEqualTo("ORDER-001");
+
+        client.get().uri("/api/v1/orders/{id}", order.getId())
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        verify(queryOrderUseCase).findByExternalId("ORDER-001");
+        verifyNoMoreInteractions(queryOrderUseCase);
+    }
+
+    @Test
+    void shouldReturnNotFoundBodyWhenOrderIsMissing() {
+        when(queryOrderUseCase.findByExternalId("ORDER-404"))
+                .thenReturn(Mono.error(new OrderNotFoundException("Order not found with external ID: ORDER-404")));
+
+        client.get().uri("/api/v1/orders/external/ORDER-404")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.message").isEqualTo("Order not found with external ID: ORDER-404")
+                .jsonPath("$.path").isEqualTo("/api/v1/orders/external/ORDER-404");
+    }
+
+    @Test
+    void shouldReturnSliceWithNextCursor() {
+        OrderSlice slice = new OrderSlice(List.of(order), OrderCursor.after(order));
+        when(queryOrderUseCase.findByStatusAfter(OrderStatusDomain.COMPLETED, null, 1)).thenReturn(Mono.just(slice));
+
+        client.get().uri("/api/v1/orders/status/COMPLETED/keyset?size=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.size").isEqualTo(1)
+                .jsonPath("$.nextCursor").isEqualTo(orderMapper.encodeCursor(OrderCursor.after(order)));
+    }
+
+    @Test
+    void shouldClampSliceSize() {
+        when(queryOrderUseCase.findAllAfter(isNull(), eq(100)))
+                .thenReturn(Mono.just(new OrderSlice(List.of(), null)));
+
+        client.get().uri("/api/v1/orders/keyset?size=1000")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void shouldRejectInvalidCursorAndId() {
+        client.get().uri("/api/v1/orders/keyset?cursor=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Bad Request");
+
+        client.get().uri("/api/v1/orders/not-a-uuid")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(queryOrderUseCase);
+    }
+}
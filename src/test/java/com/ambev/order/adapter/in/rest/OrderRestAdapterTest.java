@@ -1,13 +1,32 @@
 package com.ambev.order.adapter.in.rest;
 
+import com.ambev.order.application.cache.RenderedOrderCache;
+import com.ambev.order.application.cache.RenderedOrderCache.RenderedOrder;
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderCreationOutcome;
+import com.ambev.order.domain.model.OrderCreationResult;
+import com.ambev.order.domain.model.OrderCursor;
 import com.ambev.order.domain.model.OrderDomain;
 import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderSlice;
+import com.ambev.order.domain.model.OrderStats;
+import com.ambev.order.domain.model.OrderStatsGranularity;
 import com.ambev.order.domain.model.OrderStatusDomain;
 import com.ambev.order.domain.port.in.CreateOrderUseCase;
+import com.ambev.order.domain.port.in.OrderStatsUseCase;
 import com.ambev.order.domain.port.in.QueryOrderUseCase;
+import com.ambev.order.application.dto.OrderBatchRequestDTO;
+import com.ambev.order.application.dto.OrderBatchResponseDTO;
+import com.ambev.order.application.dto.OrderBatchResultDTO;
 import com.ambev.order.application.dto.OrderItemRequestDTO;
 import com.ambev.order.application.dto.OrderRequestDTO;
 import com.ambev.order.application.dto.OrderResponseDTO;
+import com.ambev.order.application.dto.OrderSliceResponseDTO;
+import com.ambev.order.application.dto.OrderStatsBucketDTO;
+import com.ambev.order.application.dto.OrderStatsResponseDTO;
+import com.ambev.order.application.exception.InvalidCursorException;
+import com.ambev.order.application.exception.InvalidStatsRangeException;
 import com.ambev.order.application.mapper.OrderMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,17 +37,29 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -48,9 +79,15 @@ class OrderRestAdapterTest {
     @MockBean
     private QueryOrderUseCase queryOrderUseCase;
 
+    @MockBean
+    private OrderStatsUseCase orderStatsUseCase;
+
     @MockBean
     private OrderMapper orderMapper;
 
+    @MockBean
+    private RenderedOrderCache renderedOrderCache;
+
     private OrderRequestDTO orderRequestDTO;
     private OrderResponseDTO orderResponseDTO;
     private OrderDomain orderDomain;
@@ -74,15 +111,15 @@ class OrderRestAdapterTest {
         OrderItemDomain itemDomain = OrderItemDomain.builder()
                 .productCode("PROD-001")
                 .quantity(2)
-                .unitPrice(BigDecimal.valueOf(50.00))
-                .totalPrice(BigDecimal.valueOf(100.00))
+                .unitPrice(Money.ofMinor(5000))
+                .totalPrice(Money.ofMinor(10000))
                 .build();
 
         orderDomain = OrderDomain.builder()
                 .id(orderId)
                 .externalId("ORDER-001")
                 .status(OrderStatusDomain.COMPLETED)
-                .totalAmount(BigDecimal.valueOf(100.00))
+                .totalAmount(Money.ofMinor(10000))
                 .items(List.of(itemDomain))
                 .build();
 
@@ -100,13 +137,14 @@ class OrderRestAdapterTest {
     @Test
     void shouldCreateOrderSuccessfully() throws Exception {
         when(orderMapper.toDomain(any(OrderRequestDTO.class))).thenReturn(orderDomain);
-        when(createOrderUseCase.createOrder(any(OrderDomain.class))).thenReturn(orderDomain);
-        when(orderMapper.toResponseDTO(any(OrderDomain.class))).thenReturn(orderResponseDTO);
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.REST))).thenReturn(orderDomain);
+        when(renderedOrderCache.render(orderDomain)).thenReturn(rendered(null));
 
         mockMvc.perform(post("/api/v1/orders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(orderRequestDTO)))
                 .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.externalId").value("ORDER-001"))
                 .andExpect(jsonPath("$.status").value("COMPLETED"))
                 .andExpect(jsonPath("$.totalAmount").value(100.00));
@@ -132,13 +170,79 @@ class OrderRestAdapterTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void shouldReturnBadRequestWhenUnitPriceDoesNotFitTheColumn() throws Exception {
+        orderRequestDTO.getItems().get(0).setUnitPrice(new BigDecimal("10000000000000000000000000.00"));
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderRequestDTO)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['items[0].unitPrice']").exists());
+
+        verifyNoInteractions(createOrderUseCase);
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenOrderTotalIsOutOfRange() throws Exception {
+        when(orderMapper.toDomain(any(OrderRequestDTO.class))).thenReturn(orderDomain);
+        when(createOrderUseCase.createOrder(any(OrderDomain.class), eq(IngestChannel.REST)))
+                .thenThrow(new IllegalArgumentException("Order cannot be processed: amount out of range"));
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderRequestDTO)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldCreateOrdersInBatchSuccessfully() throws Exception {
+        OrderBatchRequestDTO batchRequest = OrderBatchRequestDTO.builder()
+                .orders(List.of(orderRequestDTO))
+                .build();
+        OrderBatchResponseDTO batchResponse = OrderBatchResponseDTO.builder()
+                .received(1)
+                .created(1)
+                .results(List.of(OrderBatchResultDTO.builder()
+                        .externalId("ORDER-001")
+                        .outcome(OrderCreationOutcome.CREATED)
+                        .order(orderResponseDTO)
+                        .build()))
+                .build();
+
+        when(orderMapper.toDomainList(any(OrderBatchRequestDTO.class))).thenReturn(List.of(orderDomain));
+        when(createOrderUseCase.createOrders(anyList(), eq(IngestChannel.REST))).thenReturn(List.of(OrderCreationResult.created(orderDomain)));
+        when(orderMapper.toBatchResponseDTO(anyList())).thenReturn(batchResponse);
+
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].order.externalId").value("ORDER-001"));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenBatchIsEmpty() throws Exception {
+        OrderBatchRequestDTO batchRequest = OrderBatchRequestDTO.builder()
+                .orders(new ArrayList<>())
+                .build();
+
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldGetOrderByIdSuccessfully() throws Exception {
         when(queryOrderUseCase.findById(orderId)).thenReturn(orderDomain);
-        when(orderMapper.toResponseDTO(any(OrderDomain.class))).thenReturn(orderResponseDTO);
+        when(renderedOrderCache.render(orderDomain)).thenReturn(rendered(null));
 
         mockMvc.perform(get("/api/v1/orders/{id}", orderId))
                 .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(orderId.toString()))
                 .andExpect(jsonPath("$.externalId").value("ORDER-001"));
     }
@@ -146,11 +250,36 @@ class OrderRestAdapterTest {
     @Test
     void shouldGetOrderByExternalIdSuccessfully() throws Exception {
         when(queryOrderUseCase.findByExternalId("ORDER-001")).thenReturn(orderDomain);
-        when(orderMapper.toResponseDTO(any(OrderDomain.class))).thenReturn(orderResponseDTO);
+        when(renderedOrderCache.render(orderDomain)).thenReturn(rendered(null));
+
+        mockMvc.perform(get("/api/v1/orders/external/{externalId}", "ORDER-001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.externalId").value("ORDER-001"));
+    }
+
+    @Test
+    void shouldServeRenderedOrderWithoutQueryingWhenCached() throws Exception {
+        byte[] gzip = {0x1f, (byte) 0x8b, 1, 2, 3};
+        when(renderedOrderCache.findByExternalId("ORDER-001")).thenReturn(rendered(gzip));
 
         mockMvc.perform(get("/api/v1/orders/external/{externalId}", "ORDER-001"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
                 .andExpect(jsonPath("$.externalId").value("ORDER-001"));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/external/{externalId}", "ORDER-001")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        assertArrayEquals(gzip, result.getResponse().getContentAsByteArray());
+        verifyNoInteractions(queryOrderUseCase);
+    }
+
+    private RenderedOrder rendered(byte[] gzip) throws Exception {
+        return new RenderedOrder(0, objectMapper.writeValueAsBytes(orderResponseDTO), gzip);
     }
 
     @Test
@@ -194,5 +323,115 @@ class OrderRestAdapterTest {
                 .andExpect(jsonPath("$.content[0].status").value("COMPLETED"))
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
-}
 
+    @Test
+    void shouldGetOrdersByCursorWithNextCursor() throws Exception {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.now(), orderId);
+        OrderSlice slice = new OrderSlice(List.of(orderDomain), cursor);
+
+        when(queryOrderUseCase.findAllAfter(isNull(), eq(20))).thenReturn(slice);
+        when(orderMapper.toSliceResponseDTO(slice)).thenReturn(OrderSliceResponseDTO.builder()
+                .content(List.of(orderResponseDTO))
+                .size(1)
+                .nextCursor("next")
+                .build());
+
+        mockMvc.perform(get("/api/v1/orders/keyset"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].externalId").value("ORDER-001"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void shouldGetOrdersByStatusAndCursorCappingSliceSize() throws Exception {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.now(), orderId);
+        OrderSlice slice = new OrderSlice(List.of(orderDomain), null);
+
+        when(orderMapper.decodeCursor("abc")).thenReturn(cursor);
+        when(queryOrderUseCase.findByStatusAfter(OrderStatusDomain.COMPLETED, cursor, 100)).thenReturn(slice);
+        when(orderMapper.toSliceResponseDTO(slice)).thenReturn(OrderSliceResponseDTO.builder()
+                .content(List.of(orderResponseDTO))
+                .size(1)
+                .build());
+
+        mockMvc.perform(get("/api/v1/orders/status/{status}/keyset", "COMPLETED")
+                        .param("cursor", "abc")
+                        .param("size", "5000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].status").value("COMPLETED"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        when(orderMapper.decodeCursor("garbage")).thenThrow(new InvalidCursorException("Invalid cursor: garbage"));
+
+        mockMvc.perform(get("/api/v1/orders/keyset").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldGetOrderStats() throws Exception {
+        OrderStats stats = OrderStats.builder()
+                .granularity(OrderStatsGranularity.MINUTE)
+                .currentByStatus(Map.of(OrderStatusDomain.FAILED, 3L))
+                .buckets(List.of())
+                .build();
+
+        when(orderStatsUseCase.getStats(eq(OrderStatsGranularity.MINUTE), isNull(), isNull())).thenReturn(stats);
+        when(orderMapper.toStatsResponseDTO(stats)).thenReturn(OrderStatsResponseDTO.builder()
+                .granularity(OrderStatsGranularity.MINUTE)
+                .currentByStatus(stats.getCurrentByStatus())
+                .totals(List.of(OrderStatsBucketDTO.builder().status(OrderStatusDomain.FAILED).count(2).build()))
+                .buckets(List.of())
+                .build());
+
+        mockMvc.perform(get("/api/v1/orders/stats").param("granularity", "MINUTE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentByStatus.FAILED").value(3))
+                .andExpect(jsonPath("$.totals[0].count").value(2));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenStatsRangeIsInvalid() throws Exception {
+        when(orderStatsUseCase.getStats(any(), any(), any()))
+                .thenThrow(new InvalidStatsRangeException("Stats range start must be before its end"));
+
+        mockMvc.perform(get("/api/v1/orders/stats")
+                        .param("from", "2024-01-15T10:00:00")
+                        .param("to", "2024-01-15T09:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldStreamOrdersAsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<OrderDomain> consumer = invocation.getArgument(1);
+            consumer.accept(orderDomain);
+            consumer.accept(orderDomain);
+            return null;
+        }).when(queryOrderUseCase).exportOrders(
+                argThat(filter -> filter.getStatus() == OrderStatusDomain.COMPLETED
+                        && filter.getCreatedFrom().equals(LocalDateTime.of(2024, 1, 1, 0, 0))
+                        && filter.getCreatedTo() == null),
+                any());
+        when(orderMapper.toResponseDTO(any(OrderDomain.class))).thenReturn(orderResponseDTO);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/export")
+                        .param("status", "COMPLETED")
+                        .param("createdFrom", "2024-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("ORDER-001", objectMapper.readTree(lines[0]).get("externalId").asText());
+        assertTrue(body.endsWith("\n"));
+    }
+}
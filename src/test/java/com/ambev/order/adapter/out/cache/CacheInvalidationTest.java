@@ -0,0 +1,40 @@
+package com.ambev.order.adapter.out.cache;
+
+import com.ambev.order.domain.model.OrderDomain;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CacheInvalidationTest {
+
+    @Test
+    void shouldRoundTripIdAndVersion() {
+        OrderDomain order = OrderDomain.builder().id(UUID.randomUUID()).version(3L).build();
+
+        assertEquals(Optional.of(new CacheInvalidation(order.getId(), 3)), parse(CacheInvalidation.format(order)));
+    }
+
+    @Test
+    void shouldInvalidateAnyVersionWhenNoneIsBroadcast() {
+        OrderDomain order = OrderDomain.builder().id(UUID.randomUUID()).build();
+
+        assertEquals(order.getId().toString(), CacheInvalidation.format(order));
+        assertEquals(Optional.of(new CacheInvalidation(order.getId(), Long.MAX_VALUE)), parse(order.getId().toString()));
+    }
+
+    @Test
+    void shouldIgnoreMalformedPayloads() {
+        assertEquals(Optional.empty(), parse(""));
+        assertEquals(Optional.empty(), parse("not-an-order"));
+        assertEquals(Optional.empty(), parse(UUID.randomUUID() + ":null"));
+        assertEquals(Optional.empty(), parse("not-an-order:1"));
+    }
+
+    private static Optional<CacheInvalidation> parse(String payload) {
+        return CacheInvalidation.parse(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,201 @@
+package com.ambev.order.adapter.out.cache;
+
+import com.ambev.order.adapter.out.persistence.OrderPersistenceAdapter;
+import com.ambev.order.config.MoneyJacksonModule;
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingOrderRepositoryAdapterTest {
+
+    @Mock
+    private OrderPersistenceAdapter delegate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new MoneyJacksonModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachingOrderRepositoryAdapter adapter;
+    private OrderDomain order;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachingOrderRepositoryAdapter(delegate, redisTemplate, listenerContainer, objectMapper,
+                meterRegistry, 100, Duration.ofMinutes(10), Duration.ofHours(1), "order:cache:invalidate");
+
+        order = OrderDomain.builder()
+                .id(UUID.randomUUID())
+                .externalId("ORDER-001")
+                .status(OrderStatusDomain.COMPLETED)
+                .totalAmount(Money.ofMinor(10000))
+                .createdAt(LocalDateTime.now())
+                .version(0L)
+                .items(List.of(OrderItemDomain.builder()
+                        .productCode("PROD-001")
+                        .quantity(2)
+                        .unitPrice(Money.ofMinor(5000))
+                        .totalPrice(Money.ofMinor(10000))
+                        .build()))
+                .build();
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void shouldLoadFromDatabaseOnceAndServeFromL1() {
+        when(delegate.findById(order.getId())).thenReturn(Optional.of(order));
+
+        assertEquals(order, adapter.findById(order.getId()).orElseThrow());
+        assertEquals(order, adapter.findById(order.getId()).orElseThrow());
+
+        verify(delegate, times(1)).findById(order.getId());
+        verify(valueOperations).set(eq("order:entity:" + order.getId()), anyString(), eq(Duration.ofHours(1)));
+        assertEquals(1.0, meterRegistry.get("order.cache.l2.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void shouldServeFromL2WithoutHittingDatabase() throws Exception {
+        when(valueOperations.get("order:entity:" + order.getId())).thenReturn(objectMapper.writeValueAsString(order));
+
+        OrderDomain result = adapter.findById(order.getId()).orElseThrow();
+
+        assertEquals("ORDER-001", result.getExternalId());
+        assertEquals(1, result.getItems().size());
+        verify(delegate, never()).findById(any(UUID.class));
+        assertEquals(1.0, meterRegistry.get("order.cache.l2.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void shouldShareInFlightLoadWithConcurrentLookups() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(order.getId())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(order);
+        });
+
+        CompletableFuture<Optional<OrderDomain>> first = CompletableFuture.supplyAsync(() -> adapter.findById(order.getId()));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Optional<OrderDomain>> second = CompletableFuture.supplyAsync(() -> adapter.findById(order.getId()));
+        release.countDown();
+
+        assertEquals(order, first.get(5, TimeUnit.SECONDS).orElseThrow());
+        assertEquals(order, second.get(5, TimeUnit.SECONDS).orElseThrow());
+        verify(delegate, times(1)).findById(order.getId());
+    }
+
+    @Test
+    void shouldResolveExternalIdThroughCachedId() {
+        when(delegate.findByExternalId("ORDER-001")).thenReturn(Optional.of(order));
+
+        adapter.findByExternalId("ORDER-001");
+        OrderDomain result = adapter.findByExternalId("ORDER-001").orElseThrow();
+
+        assertEquals(order.getId(), result.getId());
+        verify(delegate, times(1)).findByExternalId("ORDER-001");
+        verify(delegate, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void shouldEvictOnlyOlderVersionsOnInvalidationMessage() {
+        when(delegate.findById(order.getId())).thenReturn(Optional.of(order));
+        adapter.findById(order.getId());
+
+        adapter.onMessage(invalidation(order.getId() + ":0"), null);
+        adapter.findById(order.getId());
+        verify(delegate, times(1)).findById(order.getId());
+
+        adapter.onMessage(invalidation(order.getId() + ":1"), null);
+        adapter.findById(order.getId());
+        verify(delegate, times(2)).findById(order.getId());
+    }
+
+    @Test
+    void shouldIgnoreMalformedInvalidationMessage() {
+        when(delegate.findById(order.getId())).thenReturn(Optional.of(order));
+        adapter.findById(order.getId());
+
+        assertDoesNotThrow(() -> adapter.onMessage(invalidation(order.getId() + ":not-a-version"), null));
+        adapter.findById(order.getId());
+
+        verify(delegate, times(1)).findById(order.getId());
+    }
+
+    @Test
+    void shouldBroadcastInvalidationWhenExistingOrderIsSaved() {
+        OrderDomain updated = OrderDomain.builder().id(order.getId()).externalId("ORDER-001").version(1L).build();
+        when(delegate.save(order)).thenReturn(updated);
+
+        adapter.save(order);
+
+        verify(redisTemplate).delete("order:entity:" + order.getId());
+        verify(redisTemplate).convertAndSend("order:cache:invalidate", order.getId() + ":1");
+    }
+
+    @Test
+    void shouldDeferInvalidationUntilTransactionCommits() {
+        OrderDomain updated = OrderDomain.builder().id(order.getId()).externalId("ORDER-001").version(1L).build();
+        when(delegate.save(order)).thenReturn(updated);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            adapter.save(order);
+            verify(redisTemplate, never()).convertAndSend(anyString(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(redisTemplate).delete("order:entity:" + order.getId());
+        verify(redisTemplate).convertAndSend("order:cache:invalidate", order.getId() + ":1");
+    }
+
+    private DefaultMessage invalidation(String body) {
+        return new DefaultMessage("order:cache:invalidate".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
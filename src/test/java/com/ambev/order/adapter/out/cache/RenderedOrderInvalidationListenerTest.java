@@ -0,0 +1,73 @@
+package com.ambev.order.adapter.out.cache;
+
+import com.ambev.order.application.cache.RenderedOrderCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RenderedOrderInvalidationListenerTest {
+
+    private static final String CHANNEL = "order:cache:invalidate";
+
+    @Mock
+    private RenderedOrderCache renderedOrderCache;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private RenderedOrderInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new RenderedOrderInvalidationListener(renderedOrderCache, listenerContainer, CHANNEL);
+    }
+
+    @Test
+    void shouldSubscribeToOrderCacheChannel() {
+        listener.subscribe();
+
+        verify(listenerContainer).addMessageListener(listener, new ChannelTopic(CHANNEL));
+    }
+
+    @Test
+    void shouldInvalidateRenderedOrderUpToBroadcastVersion() {
+        UUID id = UUID.randomUUID();
+
+        listener.onMessage(message(id + ":4"), null);
+
+        verify(renderedOrderCache).invalidate(id, 4);
+    }
+
+    @Test
+    void shouldInvalidateAnyVersionWhenNoneIsBroadcast() {
+        UUID id = UUID.randomUUID();
+
+        listener.onMessage(message(id.toString()), null);
+
+        verify(renderedOrderCache).invalidate(id, Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldIgnoreMalformedMessage() {
+        assertDoesNotThrow(() -> listener.onMessage(message("not-an-order"), null));
+
+        verifyNoInteractions(renderedOrderCache);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+package com.ambev.order.adapter.out.filter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScalableBloomFilterTest {
+
+    @Test
+    void shouldNeverReturnFalseNegatives() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("ORDER-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("ORDER-" + i));
+        }
+    }
+
+    @Test
+    void shouldGrowLayersAndKeepFalsePositiveRateBounded() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("ORDER-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("OTHER-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(filter.layerCount() > 1);
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+        assertTrue(filter.memoryBytes() > 0);
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(1_000, 1.0));
+    }
+}
@@ -0,0 +1,106 @@
+package com.ambev.order.adapter.out.messaging;
+
+import com.ambev.order.adapter.out.persistence.OrderOutboxJpaRepository;
+import com.ambev.order.adapter.out.persistence.entity.OrderOutboxEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxRelayTest {
+
+    @Mock
+    private OrderOutboxJpaRepository outboxRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OrderOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OrderOutboxRelay(outboxRepository, rabbitTemplate, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(relay, "exchange", "order.exchange");
+        ReflectionTestUtils.setField(relay, "outgoingQueue", "order.outgoing.queue");
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "confirmTimeout", 100L);
+    }
+
+    @Test
+    void shouldDeleteOnlyConfirmedEntries() {
+        OrderOutboxEntity acked = outboxEntry();
+        OrderOutboxEntity nacked = outboxEntry();
+        when(outboxRepository.lockNextBatch(2)).thenReturn(List.of(acked, nacked));
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            boolean ack = correlationData.getId().equals(acked.getId().toString());
+            correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).send(eq("order.exchange"), eq("order.outgoing.queue"), any(Message.class), any(CorrelationData.class));
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(0, relayed);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(acked.getId()));
+        assertEquals(1.0, meterRegistry.counter("order.outbox.relay.unconfirmed").count());
+    }
+
+    @Test
+    void shouldKeepEntriesWhenConfirmTimesOut() {
+        OrderOutboxEntity entry = outboxEntry();
+        when(outboxRepository.lockNextBatch(2)).thenReturn(List.of(entry));
+
+        relay.relayBatch();
+
+        verify(rabbitTemplate).send(eq("order.exchange"), eq("order.outgoing.queue"), any(Message.class), any(CorrelationData.class));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of());
+    }
+
+    @Test
+    void shouldDrainUntilBatchIsNotFull() {
+        when(outboxRepository.lockNextBatch(2))
+                .thenReturn(List.of(outboxEntry(), outboxEntry()))
+                .thenReturn(List.of(outboxEntry()))
+                .thenReturn(List.of());
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(any(String.class), any(String.class), any(Message.class), any(CorrelationData.class));
+
+        relay.relay();
+
+        verify(outboxRepository, times(2)).lockNextBatch(anyInt());
+        verify(rabbitTemplate, times(3)).send(any(String.class), any(String.class), any(Message.class), any(CorrelationData.class));
+    }
+
+    private OrderOutboxEntity outboxEntry() {
+        return OrderOutboxEntity.builder()
+                .id(UUID.randomUUID())
+                .orderId(UUID.randomUUID())
+                .payload("{}".getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+}
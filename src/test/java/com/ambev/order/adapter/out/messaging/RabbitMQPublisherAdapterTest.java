@@ -0,0 +1,162 @@
+package com.ambev.order.adapter.out.messaging;
+
+import com.ambev.order.adapter.out.persistence.OrderOutboxJpaRepository;
+import com.ambev.order.adapter.out.persistence.entity.OrderOutboxEntity;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RabbitMQPublisherAdapterTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private OrderOutboxJpaRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private RabbitMQPublisherAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new RabbitMQPublisherAdapter(rabbitTemplate, objectMapper, new OrderMapper(), outboxRepository, transactionManager);
+        ReflectionTestUtils.setField(adapter, "exchange", "order.exchange");
+        ReflectionTestUtils.setField(adapter, "outgoingQueue", "order.outgoing.queue");
+        ReflectionTestUtils.setField(adapter, "maxInFlight", 1);
+        ReflectionTestUtils.setField(adapter, "confirmTimeout", 100L);
+        adapter.init();
+    }
+
+    @Test
+    void shouldCompleteFutureWhenBrokerConfirms() throws Exception {
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        ArgumentCaptor<CorrelationData> correlationData = ArgumentCaptor.forClass(CorrelationData.class);
+
+        CompletableFuture<Void> future = adapter.publishOrderAsync(order());
+
+        verify(rabbitTemplate).send(eq("order.exchange"), eq("order.outgoing.queue"), message.capture(), correlationData.capture());
+        assertFalse(future.isDone());
+        assertEquals("ORDER-001", objectMapper.readTree(message.getValue().getBody()).get("externalId").asText());
+
+        correlationData.getValue().getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        assertNull(future.get());
+        verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    void shouldFailFutureWhenBrokerNacks() {
+        ArgumentCaptor<CorrelationData> correlationData = ArgumentCaptor.forClass(CorrelationData.class);
+
+        CompletableFuture<Void> future = adapter.publishOrderAsync(order());
+
+        verify(rabbitTemplate).send(any(String.class), any(String.class), any(Message.class), correlationData.capture());
+        correlationData.getValue().getFuture().complete(new CorrelationData.Confirm(false, "queue full"));
+
+        assertThrows(ExecutionException.class, future::get);
+    }
+
+    @Test
+    void shouldWriteNackedOrderToTheOutboxBeforeReportingTheFailure() throws Exception {
+        ArgumentCaptor<CorrelationData> correlationData = ArgumentCaptor.forClass(CorrelationData.class);
+        OrderDomain order = order();
+
+        CompletableFuture<Void> future = adapter.publishOrderAsync(order);
+        verify(rabbitTemplate).send(any(String.class), any(String.class), any(Message.class), correlationData.capture());
+        correlationData.getValue().getFuture().complete(new CorrelationData.Confirm(false, "queue full"));
+
+        assertTrue(future.isCompletedExceptionally());
+        ArgumentCaptor<OrderOutboxEntity> written = ArgumentCaptor.forClass(OrderOutboxEntity.class);
+        verify(outboxRepository).save(written.capture());
+        verify(transactionManager).commit(any());
+        assertEquals(order.getId(), written.getValue().getOrderId());
+        assertEquals("ORDER-001", objectMapper.readTree(written.getValue().getPayload()).get("externalId").asText());
+    }
+
+    @Test
+    void shouldStillReportFailureWhenOutboxWriteFails() {
+        doThrow(new IllegalStateException("template closed"))
+                .when(rabbitTemplate).send(any(String.class), any(String.class), any(Message.class), any(CorrelationData.class));
+        when(outboxRepository.save(any(OrderOutboxEntity.class)))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        CompletableFuture<Void> future = adapter.publishOrderAsync(order());
+
+        assertTrue(future.isCompletedExceptionally());
+        verify(outboxRepository).save(any(OrderOutboxEntity.class));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void shouldReleasePermitWhenSendFailsWithAnyException() {
+        doThrow(new IllegalStateException("template closed"))
+                .doNothing()
+                .when(rabbitTemplate).send(any(String.class), any(String.class), any(Message.class), any(CorrelationData.class));
+
+        CompletableFuture<Void> failed = adapter.publishOrderAsync(order());
+        CompletableFuture<Void> next = adapter.publishOrderAsync(order());
+
+        assertTrue(failed.isCompletedExceptionally());
+        assertFalse(next.isDone());
+        verify(rabbitTemplate, times(2)).send(any(String.class), any(String.class), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void shouldRejectWhenWindowIsFullAndAcceptAfterConfirm() throws Exception {
+        ArgumentCaptor<CorrelationData> correlationData = ArgumentCaptor.forClass(CorrelationData.class);
+
+        adapter.publishOrderAsync(order());
+        OrderDomain overflow = order();
+        CompletableFuture<Void> rejected = adapter.publishOrderAsync(overflow);
+
+        assertTrue(rejected.isCompletedExceptionally());
+        verify(rabbitTemplate, times(1)).send(any(String.class), any(String.class), any(Message.class), correlationData.capture());
+        verify(outboxRepository).save(argThat(entry -> overflow.getId().equals(entry.getOrderId())));
+
+        correlationData.getValue().getFuture().complete(new CorrelationData.Confirm(true, null));
+        adapter.publishOrderAsync(order());
+
+        verify(rabbitTemplate, times(2)).send(any(String.class), any(String.class), any(Message.class), any(CorrelationData.class));
+    }
+
+    private OrderDomain order() {
+        return OrderDomain.builder()
+                .id(UUID.randomUUID())
+                .externalId("ORDER-001")
+                .status(OrderStatusDomain.COMPLETED)
+                .totalAmount(Money.ofMinor(1000))
+                .items(List.of())
+                .build();
+    }
+}
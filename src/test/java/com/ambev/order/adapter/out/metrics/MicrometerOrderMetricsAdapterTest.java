@@ -0,0 +1,67 @@
+package com.ambev.order.adapter.out.metrics;
+
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.model.OrderCreationOutcome;
+import com.ambev.order.domain.model.OrderPipelineStage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerOrderMetricsAdapterTest {
+
+    private static final Duration[] SLO = {Duration.ofMillis(10), Duration.ofMillis(100)};
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRecordStagesPerChannelAndMode() {
+        MicrometerOrderMetricsAdapter metrics = new MicrometerOrderMetricsAdapter(registry, true, SLO);
+
+        metrics.recordStage(OrderPipelineStage.SAVE, IngestChannel.AMQP, true, metrics.start());
+        metrics.recordStage(OrderPipelineStage.SAVE, IngestChannel.AMQP, true, metrics.start());
+        metrics.recordStage(OrderPipelineStage.SAVE, IngestChannel.REST, false, metrics.start());
+
+        Timer amqpBatchSave = registry.get(MicrometerOrderMetricsAdapter.STAGE_TIMER)
+                .tags("stage", "save", "channel", "amqp", "mode", "batch").timer();
+        Timer restSingleSave = registry.get(MicrometerOrderMetricsAdapter.STAGE_TIMER)
+                .tags("stage", "save", "channel", "rest", "mode", "single").timer();
+        assertEquals(2, amqpBatchSave.count());
+        assertEquals(1, restSingleSave.count());
+        assertTrue(Arrays.stream(amqpBatchSave.takeSnapshot().histogramCounts())
+                .anyMatch(bucket -> bucket.bucket(TimeUnit.MILLISECONDS) == 100));
+    }
+
+    @Test
+    void shouldCountOutcomesAndPublishFailures() {
+        MicrometerOrderMetricsAdapter metrics = new MicrometerOrderMetricsAdapter(registry, true, SLO);
+
+        metrics.recordOutcomes(OrderCreationOutcome.DUPLICATE, IngestChannel.REST, 3);
+        metrics.recordOutcomes(OrderCreationOutcome.INVALID, IngestChannel.REST, 0);
+        metrics.recordPublishFailure(IngestChannel.AMQP);
+
+        assertEquals(3, registry.get(MicrometerOrderMetricsAdapter.OUTCOME_COUNTER)
+                .tags("outcome", "duplicate", "channel", "rest").counter().count());
+        assertEquals(0, registry.get(MicrometerOrderMetricsAdapter.OUTCOME_COUNTER)
+                .tags("outcome", "invalid", "channel", "rest").counter().count());
+        assertEquals(1, registry.get(MicrometerOrderMetricsAdapter.PUBLISH_FAILURE_COUNTER)
+                .tags("channel", "amqp").counter().count());
+    }
+
+    @Test
+    void shouldRegisterNothingWhenDisabled() {
+        MicrometerOrderMetricsAdapter metrics = new MicrometerOrderMetricsAdapter(registry, false, SLO);
+
+        assertEquals(0L, metrics.start());
+        metrics.recordStage(OrderPipelineStage.COMMIT, IngestChannel.REST, false, 0L);
+        metrics.recordOutcomes(OrderCreationOutcome.CREATED, IngestChannel.REST, 1);
+        metrics.recordPublishFailure(IngestChannel.REST);
+
+        assertTrue(registry.getMeters().isEmpty());
+    }
+}
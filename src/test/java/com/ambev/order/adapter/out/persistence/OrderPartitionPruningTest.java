@@ -0,0 +1,168 @@
+package com.ambev.order.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Explains the repository queries against the Flyway-built partitioned schema and checks
+ * which partitions each plan reads.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class OrderPartitionPruningTest {
+
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int ORDERS_PER_MONTH = 1000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDate currentMonth;
+
+    @BeforeEach
+    void setUp() {
+        currentMonth = jdbcTemplate.queryForObject("SELECT date_trunc('month', now())::date", LocalDate.class);
+        for (int i = 1; i <= 3; i++) {
+            LocalDate start = currentMonth.minusMonths(i);
+            jdbcTemplate.queryForList("SELECT create_order_partition(?::timestamp, ?::timestamp, ?)",
+                    start.toString(), start.plusMonths(1).toString(), MONTH_SUFFIX.format(start));
+        }
+
+        // Four months of orders, spread over the first hours of each month
+        jdbcTemplate.update("""
+                INSERT INTO orders (external_id, status, total_amount, created_at, updated_at)
+                SELECT 'PRUNE-' || g, 'COMPLETED', 10,
+                       ?::timestamp - (g % 4) * INTERVAL '1 month' + (g / 4) * INTERVAL '1 minute', now()
+                FROM generate_series(1, ?) g
+                """, currentMonth.toString(), ORDERS_PER_MONTH * 4);
+        jdbcTemplate.execute("ANALYZE orders");
+    }
+
+    @Test
+    void shouldReadOnlyNewestPartitionsForFirstSlice() {
+        List<String> plan = explainAnalyze(OrderSql.FIND_FIRST_SLICE.replace(":limit", "21"));
+
+        assertPartitionNeverExecuted(plan, currentMonth.minusMonths(1));
+        assertPartitionNeverExecuted(plan, currentMonth.minusMonths(3));
+    }
+
+    @Test
+    void shouldPruneNewerPartitionsWhenSeekingPastCursor() {
+        String sql = OrderSql.FIND_SLICE_BY_STATUS_AFTER
+                .replace(":status", "'COMPLETED'")
+                .replace(":createdAt", "'" + currentMonth.minusMonths(2).atTime(12, 0) + "'::timestamp")
+                .replace(":id", "'ffffffff-ffff-7fff-bfff-ffffffffffff'::uuid")
+                .replace(":limit", "21");
+
+        String plan = String.join("\n", explain(sql));
+
+        assertTrue(plan.contains(partition(currentMonth.minusMonths(2))));
+        assertTrue(plan.contains(partition(currentMonth.minusMonths(3))));
+        assertFalse(plan.contains(partition(currentMonth.minusMonths(1))));
+        assertFalse(plan.contains(partition(currentMonth)));
+    }
+
+    @Test
+    void shouldPruneToRequestedRangeOnExport() {
+        LocalDate month = currentMonth.minusMonths(1);
+        // SQL equivalent of OrderJpaRepository#streamRowsForExport
+        String plan = String.join("\n", explain("SELECT * FROM orders WHERE created_at >= '" + month.atStartOfDay() + "' " +
+                "AND created_at < '" + month.plusMonths(1).atStartOfDay() + "' ORDER BY created_at, id"));
+
+        assertTrue(plan.contains(partition(month)));
+        assertFalse(plan.contains(partition(currentMonth)));
+        assertFalse(plan.contains(partition(currentMonth.minusMonths(2))));
+    }
+
+    @Test
+    void shouldRejectDuplicateExternalIdAcrossPartitions() {
+        assertThrows(DuplicateKeyException.class, () -> jdbcTemplate.update(
+                "INSERT INTO orders (external_id, status, created_at) VALUES ('PRUNE-1', 'COMPLETED', ?::timestamp)",
+                currentMonth.minusMonths(3).toString()));
+    }
+
+    @Test
+    void shouldDropExpiredPartitionsAndTheirExternalIds() {
+        jdbcTemplate.update("INSERT INTO order_status_totals (status, order_count) VALUES ('COMPLETED', ?) " +
+                "ON CONFLICT (status) DO UPDATE SET order_count = EXCLUDED.order_count", ORDERS_PER_MONTH * 4);
+        OrderPartitionMaintenanceJob job = new OrderPartitionMaintenanceJob(jdbcTemplate);
+        ReflectionTestUtils.setField(job, "interval", OrderPartitionMaintenanceJob.PartitionInterval.MONTHLY);
+        ReflectionTestUtils.setField(job, "premake", 3);
+        ReflectionTestUtils.setField(job, "retention", 2);
+        ReflectionTestUtils.setField(job, "retentionAction", OrderPartitionMaintenanceJob.RetentionAction.DROP);
+
+        job.maintain();
+
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = 'orders'::regclass", String.class);
+        assertFalse(partitions.contains(partition(currentMonth.minusMonths(3))));
+        assertTrue(partitions.contains(partition(currentMonth.minusMonths(2))));
+        assertTrue(partitions.contains(partition(currentMonth.plusMonths(3))));
+        assertEquals(ORDERS_PER_MONTH * 3, jdbcTemplate.queryForObject("SELECT count(*) FROM order_external_ids", Integer.class));
+        assertEquals(ORDERS_PER_MONTH * 3, completedTotal());
+    }
+
+    @Test
+    void shouldRecomputeStatusTotalsFromOrders() {
+        jdbcTemplate.update("DELETE FROM order_status_totals");
+        jdbcTemplate.update("INSERT INTO order_status_totals (status, order_count) VALUES ('FAILED', 42)");
+
+        new OrderPartitionMaintenanceJob(jdbcTemplate).reconcileStatusTotals();
+
+        assertEquals(ORDERS_PER_MONTH * 4, completedTotal());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT order_count FROM order_status_totals WHERE status = 'FAILED'", Integer.class));
+    }
+
+    private int completedTotal() {
+        return jdbcTemplate.queryForObject(
+                "SELECT order_count FROM order_status_totals WHERE status = 'COMPLETED'", Integer.class);
+    }
+
+    private List<String> explain(String sql) {
+        return jdbcTemplate.queryForList("EXPLAIN (COSTS OFF) " + sql, String.class);
+    }
+
+    private List<String> explainAnalyze(String sql) {
+        return jdbcTemplate.queryForList("EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF, SUMMARY OFF) " + sql, String.class);
+    }
+
+    private void assertPartitionNeverExecuted(List<String> plan, LocalDate month) {
+        List<String> scans = plan.stream().filter(line -> line.contains(" on " + partition(month))).toList();
+        assertFalse(scans.isEmpty(), "partition " + partition(month) + " missing from plan");
+        scans.forEach(line -> assertTrue(line.contains("never executed"), line));
+    }
+
+    private String partition(LocalDate month) {
+        return "orders_p" + MONTH_SUFFIX.format(month);
+    }
+}
@@ -0,0 +1,191 @@
+package com.ambev.order.adapter.out.persistence;
+
+import com.ambev.order.application.exception.DuplicateOrderException;
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderExportFilter;
+import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderSlice;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the read queries against a real Postgres and counts the statements Hibernate prepares,
+ * so an N+1 on the items collection fails the build, and the entities it loads, so a read that
+ * stops projecting into OrderRow / OrderItemRow does too.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderPersistenceAdapter.class, OrderPersistenceMapper.class})
+@Testcontainers(disabledWithoutDocker = true)
+class OrderPersistenceAdapterTest {
+
+    private static final int ORDERS = 25;
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private OrderPersistenceAdapter adapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<OrderDomain> saved;
+
+    @BeforeEach
+    void setUp() {
+        List<OrderDomain> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            OrderDomain order = OrderDomain.builder()
+                    .externalId("ORDER-" + i)
+                    .items(new ArrayList<>(List.of(item("PROD-A"), item("PROD-B"))))
+                    .build();
+            order.initializeNewOrder();
+            order.changeStatus(OrderStatusDomain.COMPLETED);
+            order.calculateTotalAmount();
+            orders.add(order);
+        }
+        saved = adapter.saveAll(orders);
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldReportExternalIdAlreadyRegisteredAsDuplicate() {
+        OrderDomain replay = OrderDomain.builder()
+                .externalId("ORDER-0")
+                .items(new ArrayList<>(List.of(item("PROD-A"))))
+                .build();
+        replay.initializeNewOrder();
+        replay.calculateTotalAmount();
+
+        assertThrows(DuplicateOrderException.class, () -> adapter.save(replay));
+    }
+
+    @Test
+    void shouldLoadPageWithItemsInConstantNumberOfQueries() {
+        Page<OrderDomain> page = adapter.findAll(PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        assertEquals(ORDERS, page.getTotalElements());
+        page.getContent().forEach(order -> assertEquals(2, order.getItems().size()));
+
+        // page + count + one IN query for all items
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void shouldLoadStatusPageWithItemsInConstantNumberOfQueries() {
+        List<OrderDomain> page = adapter.findByStatus(OrderStatusDomain.COMPLETED, PageRequest.of(0, PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, page.size());
+        page.forEach(order -> assertEquals(2, order.getItems().size()));
+        // page + one IN query for all items; the total comes from the order stats, not a count query
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void shouldLoadKeysetSliceWithItemsInTwoQueries() {
+        OrderSlice first = adapter.findAllAfter(null, PAGE_SIZE);
+
+        assertEquals(PAGE_SIZE, first.getOrders().size());
+        assertNotNull(first.getNextCursor());
+        first.getOrders().forEach(order -> assertEquals(2, order.getItems().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        OrderSlice last = adapter.findAllAfter(first.getNextCursor(), PAGE_SIZE);
+
+        assertEquals(ORDERS - PAGE_SIZE, last.getOrders().size());
+        assertNull(last.getNextCursor());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void shouldReturnVersionWrittenByUpdate() {
+        OrderDomain existing = adapter.findById(saved.get(0).getId()).orElseThrow();
+        existing.setTotalAmount(Money.ofMinor(999));
+
+        OrderDomain updated = adapter.save(existing);
+
+        assertEquals(existing.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    void shouldProjectSingleOrderWithoutLoadingEntities() {
+        OrderDomain expected = saved.get(0);
+
+        OrderDomain byId = adapter.findById(expected.getId()).orElseThrow();
+        OrderDomain byExternalId = adapter.findByExternalId(expected.getExternalId()).orElseThrow();
+
+        assertEquals(expected.getExternalId(), byId.getExternalId());
+        assertEquals(OrderStatusDomain.COMPLETED, byId.getStatus());
+        assertEquals(Money.ofMinor(2000), byId.getTotalAmount());
+        assertEquals(expected.getVersion(), byId.getVersion());
+        assertEquals(2, byId.getItems().size());
+        assertEquals(expected.getId(), byExternalId.getId());
+        assertEquals(2, byExternalId.getItems().size());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void shouldExportProjectedOrders() {
+        AtomicInteger exported = new AtomicInteger();
+
+        adapter.forEachOrder(OrderExportFilter.builder().status(OrderStatusDomain.COMPLETED).build(), order -> {
+            assertEquals(2, order.getItems().size());
+            exported.incrementAndGet();
+        });
+
+        assertEquals(ORDERS, exported.get());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private OrderItemDomain item(String productCode) {
+        return OrderItemDomain.builder()
+                .productCode(productCode)
+                .quantity(1)
+                .unitPrice(Money.ofMinor(1000))
+                .totalPrice(Money.ofMinor(1000))
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.ambev.order.adapter.out.persistence;
+
+import com.ambev.order.domain.model.OrderCursor;
+import com.ambev.order.domain.model.OrderSlice;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the R2DBC adapter against the Flyway-built partitioned schema
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OrderR2dbcAdapterTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static OrderR2dbcAdapter adapter;
+
+    // Mid current month: always inside the partition V6 creates for it
+    private final LocalDateTime now = LocalDate.now().withDayOfMonth(15).atTime(12, 0);
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+
+        DatabaseClient databaseClient = DatabaseClient.create(ConnectionFactories.get(ConnectionFactoryOptions.builder()
+                .option(ConnectionFactoryOptions.DRIVER, "postgresql")
+                .option(ConnectionFactoryOptions.HOST, postgres.getHost())
+                .option(ConnectionFactoryOptions.PORT, postgres.getFirstMappedPort())
+                .option(ConnectionFactoryOptions.DATABASE, postgres.getDatabaseName())
+                .option(ConnectionFactoryOptions.USER, postgres.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, postgres.getPassword())
+                .build()));
+        adapter = new OrderR2dbcAdapter(databaseClient);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+        jdbcTemplate.update("DELETE FROM order_external_ids");
+    }
+
+    @Test
+    void shouldFindOrderByIdWithItems() {
+        UUID id = insertOrder("ORDER-001", "COMPLETED", now, 2);
+
+        StepVerifier.create(adapter.findById(id))
+                .assertNext(order -> {
+                    assertEquals("ORDER-001", order.getExternalId());
+                    assertEquals(OrderStatusDomain.COMPLETED, order.getStatus());
+                    assertEquals(now, order.getCreatedAt());
+                    assertEquals(2, order.getItems().size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFindOrderByExternalIdThroughRegistry() {
+        UUID id = insertOrder("ORDER-001", "COMPLETED", now, 1);
+
+        StepVerifier.create(adapter.findByExternalId("ORDER-001"))
+                .assertNext(order -> assertEquals(id, order.getId()))
+                .verifyComplete();
+        StepVerifier.create(adapter.findByExternalId("ORDER-404"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldPageByCursorWithItems() {
+        for (int i = 0; i < 5; i++) {
+            insertOrder("ORDER-" + i, i % 2 == 0 ? "COMPLETED" : "FAILED", now.minusMinutes(i), 1);
+        }
+
+        OrderSlice first = adapter.findAllAfter(null, 2).block();
+        assertEquals(2, first.getOrders().size());
+        assertEquals("ORDER-0", first.getOrders().get(0).getExternalId());
+        assertEquals(1, first.getOrders().get(1).getItems().size());
+        assertNotNull(first.getNextCursor());
+
+        OrderSlice completed = adapter.findByStatusAfter(OrderStatusDomain.COMPLETED,
+                OrderCursor.after(first.getOrders().get(0)), 10).block();
+        assertEquals(2, completed.getOrders().size());
+        assertEquals("ORDER-2", completed.getOrders().get(0).getExternalId());
+        assertNull(completed.getNextCursor());
+    }
+
+    private UUID insertOrder(String externalId, String status, LocalDateTime createdAt, int items) {
+        UUID id = jdbcTemplate.queryForObject("INSERT INTO orders (external_id, status, total_amount, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?) RETURNING id", UUID.class, externalId, status, BigDecimal.TEN, createdAt, createdAt);
+        for (int i = 0; i < items; i++) {
+            jdbcTemplate.update("INSERT INTO order_items (order_id, order_created_at, product_code, quantity, unit_price, total_price) " +
+                    "VALUES (?, ?, ?, 1, 10, 10)", id, createdAt, "PROD-" + i);
+        }
+        return id;
+    }
+}
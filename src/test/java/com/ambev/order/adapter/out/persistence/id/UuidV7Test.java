@@ -0,0 +1,50 @@
+package com.ambev.order.adapter.out.persistence.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void shouldSetVersionVariantAndCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(UuidV7.timestamp(uuid) >= before);
+    }
+
+    @Test
+    void shouldBeStrictlyIncreasingWithinTheSameMillisecond() {
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.next();
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0,
+                    () -> "not increasing at " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void shouldBeUniqueAcrossThreads() {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 8).parallel().forEach(thread -> {
+            List<UUID> local = new ArrayList<>();
+            for (int i = 0; i < 50_000; i++) {
+                local.add(UuidV7.next());
+            }
+            ids.addAll(local);
+        });
+
+        assertEquals(8 * 50_000, ids.size());
+    }
+}
@@ -0,0 +1,118 @@
+package com.ambev.order.adapter.out.stats;
+
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderStatsBucket;
+import com.ambev.order.domain.model.OrderStatsGranularity;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatsAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderStatsAdapter adapter;
+    private OrderDomain order;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new OrderStatsAdapter(jdbcTemplate, transactionManager);
+
+        order = OrderDomain.builder()
+                .externalId("ORDER-001")
+                .items(new ArrayList<>(List.of(OrderItemDomain.builder()
+                        .productCode("PROD-001")
+                        .quantity(3)
+                        .unitPrice(Money.ofMinor(1050))
+                        .build())))
+                .build();
+        order.process();
+    }
+
+    @Test
+    void shouldCountTransitionsIntoCurrentStatusBeforeFlush() {
+        adapter.recordStatusChanges(List.of(order));
+
+        Map<OrderStatusDomain, Long> counts = adapter.countsByStatus();
+
+        assertEquals(1, counts.get(OrderStatusDomain.COMPLETED));
+        assertEquals(0, counts.get(OrderStatusDomain.RECEIVED));
+        assertEquals(0, counts.get(OrderStatusDomain.PROCESSING));
+        assertEquals(0, counts.get(OrderStatusDomain.FAILED));
+    }
+
+    @Test
+    void shouldServeUnflushedBucketsWithRevenue() {
+        adapter.recordStatusChanges(List.of(order, order));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<OrderStatsBucket> buckets = adapter.findBuckets(OrderStatsGranularity.HOUR, now.minusHours(1), now.plusHours(1));
+
+        OrderStatsBucket completed = buckets.stream()
+                .filter(bucket -> bucket.getStatus() == OrderStatusDomain.COMPLETED)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, completed.getCount());
+        assertEquals(new BigDecimal("63.00"), completed.getRevenue());
+        assertEquals(OrderStatsGranularity.HOUR.bucketStart(now), completed.getBucketStart());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldFlushOnlyNonZeroTotalsAsAdditiveUpserts() {
+        adapter.recordStatusChanges(List.of(order));
+
+        adapter.flush();
+
+        ArgumentCaptor<List<Object[]>> totals = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("order_status_totals"), totals.capture());
+        assertEquals(1, totals.getValue().size());
+        assertArrayEquals(new Object[]{"COMPLETED", 1L}, totals.getValue().get(0));
+
+        ArgumentCaptor<List<Object[]>> rollups = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("order_stats_rollup"), rollups.capture());
+        // RECEIVED, PROCESSING and COMPLETED, per MINUTE and HOUR (the transitions share a minute)
+        assertTrue(rollups.getValue().size() >= 6);
+    }
+
+    @Test
+    void shouldKeepDeltasWhenFlushFails() {
+        adapter.recordStatusChanges(List.of(order));
+        when(jdbcTemplate.batchUpdate(contains("order_stats_rollup"), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        adapter.flush();
+
+        assertEquals(1, adapter.countByStatus(OrderStatusDomain.COMPLETED));
+
+        reset(jdbcTemplate);
+        adapter.flush();
+
+        verify(jdbcTemplate).batchUpdate(contains("order_status_totals"), anyList());
+    }
+}
@@ -0,0 +1,138 @@
+package com.ambev.order.application.cache;
+
+import com.ambev.order.application.cache.RenderedOrderCache.RenderedOrder;
+import com.ambev.order.application.mapper.OrderMapper;
+import com.ambev.order.config.MoneyJacksonModule;
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderedOrderCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new MoneyJacksonModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OrderDomain order;
+
+    @BeforeEach
+    void setUp() {
+        order = OrderDomain.builder()
+                .id(UUID.randomUUID())
+                .externalId("ORDER-001")
+                .status(OrderStatusDomain.COMPLETED)
+                .totalAmount(Money.ofMinor(10000))
+                .createdAt(LocalDateTime.of(2025, 10, 27, 10, 0))
+                .version(3L)
+                .items(List.of(OrderItemDomain.builder()
+                        .productCode("PROD-001")
+                        .quantity(2)
+                        .unitPrice(Money.ofMinor(5000))
+                        .totalPrice(Money.ofMinor(10000))
+                        .build()))
+                .build();
+    }
+
+    @Test
+    void shouldRenderResponseJsonAndCacheCompletedOrder() throws Exception {
+        RenderedOrderCache cache = cache(true, DataSize.ofBytes(0));
+
+        RenderedOrder rendered = cache.render(order);
+
+        JsonNode json = objectMapper.readTree(rendered.json());
+        assertEquals("ORDER-001", json.get("externalId").asText());
+        assertEquals(100.0, json.get("totalAmount").asDouble());
+        assertEquals(3, rendered.version());
+        assertArrayEquals(rendered.json(), gunzip(rendered.gzip()));
+
+        assertSame(rendered, cache.findById(order.getId()));
+        assertSame(rendered, cache.findByExternalId("ORDER-001"));
+        assertEquals(1.0, meterRegistry.get("cache.puts").tag("cache", "orders.rendered").functionCounter().count());
+    }
+
+    @Test
+    void shouldNotCacheOrdersThatCanStillChange() {
+        RenderedOrderCache cache = cache(true, DataSize.ofBytes(0));
+        order.setStatus(OrderStatusDomain.PROCESSING);
+
+        RenderedOrder rendered = cache.render(order);
+
+        assertFalse(rendered.hasGzip());
+        assertNull(cache.findById(order.getId()));
+        assertNull(cache.findByExternalId("ORDER-001"));
+    }
+
+    @Test
+    void shouldSkipGzipBelowMinimumSize() {
+        RenderedOrder rendered = cache(true, DataSize.ofKilobytes(64)).render(order);
+
+        assertFalse(rendered.hasGzip());
+    }
+
+    @Test
+    void shouldBypassCacheWhenDisabled() {
+        RenderedOrderCache cache = cache(false, DataSize.ofBytes(0));
+
+        cache.render(order);
+
+        assertNull(cache.findById(order.getId()));
+    }
+
+    @Test
+    void shouldDropEntriesOlderThanInvalidatedVersion() {
+        RenderedOrderCache cache = cache(true, DataSize.ofBytes(0));
+        cache.render(order);
+
+        cache.invalidate(order.getId(), 3);
+        assertNotNull(cache.findById(order.getId()));
+
+        cache.invalidate(order.getId(), 4);
+        assertNull(cache.findById(order.getId()));
+        assertNull(cache.findByExternalId("ORDER-001"));
+    }
+
+    @Test
+    void shouldHonourAcceptEncoding() {
+        assertTrue(RenderedOrderCache.acceptsGzip("gzip"));
+        assertTrue(RenderedOrderCache.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(RenderedOrderCache.acceptsGzip("*"));
+        assertFalse(RenderedOrderCache.acceptsGzip(null));
+        assertFalse(RenderedOrderCache.acceptsGzip("br, deflate"));
+        assertFalse(RenderedOrderCache.acceptsGzip("gzip;q=0"));
+        assertFalse(RenderedOrderCache.acceptsGzip("gzip; q=0.000"));
+    }
+
+    private RenderedOrderCache cache(boolean enabled, DataSize gzipMinSize) {
+        return new RenderedOrderCache(objectMapper, new OrderMapper(), meterRegistry,
+                enabled, DataSize.ofMegabytes(1), true, gzipMinSize);
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
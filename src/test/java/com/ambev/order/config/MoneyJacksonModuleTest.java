@@ -0,0 +1,30 @@
+package com.ambev.order.config;
+
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderDomain;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyJacksonModuleTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    void shouldWriteMoneyAsPlainDecimal() throws Exception {
+        OrderDomain order = OrderDomain.builder().totalAmount(Money.ofMinor(13005)).build();
+
+        String json = objectMapper.writeValueAsString(order);
+
+        assertTrue(json.contains("\"totalAmount\":130.05"), json);
+        assertEquals(Money.ofMinor(13005), objectMapper.readValue(json, OrderDomain.class).getTotalAmount());
+    }
+
+    @Test
+    void shouldReadAmountsWrittenAsBigDecimal() throws Exception {
+        OrderDomain order = objectMapper.readValue("{\"totalAmount\":100.0}", OrderDomain.class);
+
+        assertEquals(Money.ofMinor(10000), order.getTotalAmount());
+    }
+}
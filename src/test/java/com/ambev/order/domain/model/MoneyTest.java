@@ -0,0 +1,59 @@
+package com.ambev.order.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void shouldConvertFromAndToDecimal() {
+        assertEquals(1050, Money.of(new BigDecimal("10.5")).minorUnits());
+        assertEquals(1001, Money.of(new BigDecimal("10.005")).minorUnits());
+        assertEquals(new BigDecimal("10.50"), Money.ofMinor(1050).toBigDecimal());
+        assertNull(Money.ofNullable(null));
+    }
+
+    @Test
+    void shouldMultiplyAndAddInMinorUnits() {
+        Money total = Money.ofMinor(1999).times(3).plus(Money.ofMinor(1));
+
+        assertEquals(Money.ofMinor(5998), total);
+        assertTrue(total.isPositive());
+        assertFalse(Money.ZERO.isPositive());
+    }
+
+    @Test
+    void shouldFailInsteadOfOverflowing() {
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE / 2).times(3));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e30")));
+    }
+
+    @Test
+    void shouldFormatAsPlainDecimal() {
+        assertEquals("130.00", Money.ofMinor(13000).toString());
+        assertEquals("0.05", Money.ofMinor(5).toString());
+        assertEquals("-0.05", Money.ofMinor(-5).toString());
+        assertEquals("-12.34", Money.ofMinor(-1234).toString());
+    }
+
+    @Test
+    void shouldComputeOrderTotalOnce() {
+        OrderDomain order = OrderDomain.builder()
+                .externalId("ORDER-001")
+                .items(new ArrayList<>(List.of(
+                        OrderItemDomain.builder().productCode("A").quantity(2).unitPrice(Money.ofMinor(5000)).build(),
+                        OrderItemDomain.builder().productCode("B").quantity(1).unitPrice(Money.ofMinor(3000)).build())))
+                .build();
+
+        order.process();
+
+        assertEquals(Money.ofMinor(10000), order.getItems().get(0).getTotalPrice());
+        assertEquals(Money.ofMinor(13000), order.getTotalAmount());
+    }
+}
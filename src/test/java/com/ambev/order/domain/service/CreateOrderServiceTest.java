@@ -1,26 +1,43 @@
 package com.ambev.order.domain.service;
 
+import com.ambev.order.domain.model.IngestChannel;
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderCreationOutcome;
+import com.ambev.order.domain.model.OrderCreationResult;
 import com.ambev.order.domain.model.OrderDomain;
 import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderPipelineStage;
+import com.ambev.order.domain.model.OrderStatusChangeDomain;
 import com.ambev.order.domain.model.OrderStatusDomain;
+import com.ambev.order.domain.port.out.ExternalIdFilterPort;
 import com.ambev.order.domain.port.out.OrderCachePort;
+import com.ambev.order.domain.port.out.OrderMetricsPort;
 import com.ambev.order.domain.port.out.OrderPublisherPort;
 import com.ambev.order.domain.port.out.OrderRepositoryPort;
+import com.ambev.order.domain.port.out.OrderStatsPort;
 import com.ambev.order.application.exception.DuplicateOrderException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,12 +52,22 @@ class CreateOrderServiceTest {
     @Mock
     private OrderPublisherPort publisherPort;
 
+    @Mock
+    private ExternalIdFilterPort externalIdFilter;
+
+    @Mock
+    private OrderStatsPort statsPort;
+
+    @Mock
+    private OrderMetricsPort metricsPort;
+
     private CreateOrderService service;
     private OrderDomain orderDomain;
 
     @BeforeEach
     void setUp() {
-        service = new CreateOrderService(repositoryPort, cachePort, publisherPort);
+        service = new CreateOrderService(repositoryPort, cachePort, publisherPort, externalIdFilter, statsPort, metricsPort);
+        lenient().when(publisherPort.publishOrderAsync(any(OrderDomain.class))).thenReturn(CompletableFuture.completedFuture(null));
         setupOrderDomain();
     }
 
@@ -48,15 +75,15 @@ class CreateOrderServiceTest {
         OrderItemDomain item1 = OrderItemDomain.builder()
                 .productCode("PROD-001")
                 .quantity(2)
-                .unitPrice(BigDecimal.valueOf(50.00))
-                .totalPrice(BigDecimal.valueOf(100.00))
+                .unitPrice(Money.ofMinor(5000))
+                .totalPrice(Money.ofMinor(10000))
                 .build();
 
         OrderItemDomain item2 = OrderItemDomain.builder()
                 .productCode("PROD-002")
                 .quantity(1)
-                .unitPrice(BigDecimal.valueOf(30.00))
-                .totalPrice(BigDecimal.valueOf(30.00))
+                .unitPrice(Money.ofMinor(3000))
+                .totalPrice(Money.ofMinor(3000))
                 .build();
 
         orderDomain = OrderDomain.builder()
@@ -67,55 +94,274 @@ class CreateOrderServiceTest {
 
     @Test
     void shouldCreateOrderSuccessfully() {
-        when(cachePort.exists(anyString())).thenReturn(false);
-        when(repositoryPort.existsByExternalId(anyString())).thenReturn(false);
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(true);
         when(repositoryPort.save(any(OrderDomain.class))).thenAnswer(invocation -> {
             OrderDomain saved = invocation.getArgument(0);
             saved.setId(UUID.randomUUID());
             return saved;
         });
 
-        OrderDomain result = service.createOrder(orderDomain);
+        OrderDomain result = service.createOrder(orderDomain, IngestChannel.REST);
 
         assertNotNull(result);
         assertNotNull(result.getId());
         assertEquals("ORDER-001", result.getExternalId());
         assertEquals(OrderStatusDomain.COMPLETED, result.getStatus());
-        assertEquals(BigDecimal.valueOf(130.00), result.getTotalAmount());
+        assertEquals(Money.ofMinor(13000), result.getTotalAmount());
+
+        assertEquals(List.of(OrderStatusDomain.RECEIVED, OrderStatusDomain.PROCESSING, OrderStatusDomain.COMPLETED),
+                result.getStatusHistory().stream().map(OrderStatusChangeDomain::getToStatus).toList());
 
-        verify(repositoryPort, times(2)).save(any(OrderDomain.class));
-        verify(publisherPort).publishOrder(any(OrderDomain.class));
-        verify(cachePort).store(anyString(), anyString(), anyLong());
+        verify(repositoryPort, never()).existsByExternalId(anyString());
+        verify(repositoryPort, times(1)).save(any(OrderDomain.class));
+        verify(publisherPort).publishOrderAsync(any(OrderDomain.class));
+        verify(cachePort).commitReservations(eq(List.of("order:duplicate:ORDER-001")), anyString(), any(Duration.class));
+        verify(externalIdFilter).put("ORDER-001");
+        verify(statsPort).recordStatusChanges(List.of(orderDomain));
     }
 
     @Test
-    void shouldThrowDuplicateOrderExceptionWhenOrderExistsInCache() {
-        when(cachePort.exists(anyString())).thenReturn(true);
+    void shouldCheckDatabaseWhenFilterMightContainExternalId() {
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(externalIdFilter.mightContain("ORDER-001")).thenReturn(true);
+        when(repositoryPort.existsByExternalId("ORDER-001")).thenReturn(false);
+        when(repositoryPort.save(any(OrderDomain.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        assertThrows(DuplicateOrderException.class, () -> service.createOrder(orderDomain));
+        service.createOrder(orderDomain, IngestChannel.REST);
 
+        verify(repositoryPort).existsByExternalId("ORDER-001");
+        verify(repositoryPort).save(any(OrderDomain.class));
+    }
+
+    @Test
+    void shouldThrowDuplicateOrderExceptionWhenReservationIsHeld() {
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        assertThrows(DuplicateOrderException.class, () -> service.createOrder(orderDomain, IngestChannel.REST));
+
+        verify(repositoryPort, never()).existsByExternalId(anyString());
         verify(repositoryPort, never()).save(any(OrderDomain.class));
     }
 
     @Test
     void shouldThrowDuplicateOrderExceptionWhenOrderExistsInDatabase() {
-        when(cachePort.exists(anyString())).thenReturn(false);
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(externalIdFilter.mightContain(anyString())).thenReturn(true);
         when(repositoryPort.existsByExternalId(anyString())).thenReturn(true);
 
-        assertThrows(DuplicateOrderException.class, () -> service.createOrder(orderDomain));
+        assertThrows(DuplicateOrderException.class, () -> service.createOrder(orderDomain, IngestChannel.REST));
 
         verify(repositoryPort, never()).save(any(OrderDomain.class));
+        verify(cachePort).commitReservations(anyCollection(), anyString(), any(Duration.class));
+        verify(cachePort, never()).releaseReservations(anyCollection(), anyString());
     }
 
     @Test
-    void shouldThrowExceptionWhenOrderHasNoItems() {
+    void shouldTreatExternalIdRegisteredElsewhereAsDuplicate() {
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(repositoryPort.save(any(OrderDomain.class)))
+                .thenThrow(new DuplicateOrderException("Order with external ID ORDER-001 already exists"));
+
+        assertThrows(DuplicateOrderException.class, () -> service.createOrder(orderDomain, IngestChannel.AMQP));
+
+        verify(repositoryPort, never()).existsByExternalId(anyString());
+        verify(cachePort).commitReservations(eq(List.of("order:duplicate:ORDER-001")), anyString(), any(Duration.class));
+        verify(cachePort, never()).releaseReservations(anyCollection(), anyString());
+        verify(externalIdFilter).put("ORDER-001");
+        verify(metricsPort).recordOutcomes(OrderCreationOutcome.DUPLICATE, IngestChannel.AMQP, 1);
+        verify(publisherPort, never()).publishOrderAsync(any(OrderDomain.class));
+    }
+
+    @Test
+    void shouldThrowExceptionAndReleaseReservationWhenOrderHasNoItems() {
         orderDomain.setItems(List.of());
 
-        when(cachePort.exists(anyString())).thenReturn(false);
-        when(repositoryPort.existsByExternalId(anyString())).thenReturn(false);
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> service.createOrder(orderDomain, IngestChannel.REST));
+
+        verify(repositoryPort, never()).save(any(OrderDomain.class));
+        verify(cachePort).releaseReservations(eq(List.of("order:duplicate:ORDER-001")), anyString());
+    }
+
+    @Test
+    void shouldReleaseReservationWithTheOwnerThatTookItWhenSaveFails() {
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(repositoryPort.save(any(OrderDomain.class))).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> service.createOrder(orderDomain, IngestChannel.REST));
+
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(cachePort).tryReserve(eq("order:duplicate:ORDER-001"), owner.capture(), any(Duration.class));
+        verify(cachePort).releaseReservations(List.of("order:duplicate:ORDER-001"), owner.getValue());
+        verify(cachePort, never()).commitReservations(anyCollection(), anyString(), any(Duration.class));
+        verify(publisherPort, never()).publishOrderAsync(any(OrderDomain.class));
+        verify(statsPort, never()).recordStatusChanges(anyList());
+    }
+
+    @Test
+    void shouldRejectOrderWhoseTotalOverflowsAsInvalid() {
+        orderDomain.setItems(List.of(item(Long.MAX_VALUE / 2, 3)));
+
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> service.createOrder(orderDomain, IngestChannel.REST));
+
+        verify(repositoryPort, never()).save(any(OrderDomain.class));
+        verify(cachePort).releaseReservations(eq(List.of("order:duplicate:ORDER-001")), anyString());
+        verify(metricsPort).recordOutcomes(OrderCreationOutcome.INVALID, IngestChannel.REST, 1);
+    }
+
+    @Test
+    void shouldRejectOrderWhoseTotalDoesNotFitTheColumnAsInvalid() {
+        orderDomain.setItems(List.of(item(Money.MAX_STORED.minorUnits(), 2)));
+
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> service.createOrder(orderDomain, IngestChannel.REST));
+
+        verify(repositoryPort, never()).save(any(OrderDomain.class));
+        verify(metricsPort).recordOutcomes(OrderCreationOutcome.INVALID, IngestChannel.REST, 1);
+    }
+
+    @Test
+    void shouldMarkBatchOrderWhoseTotalOverflowsAsInvalidAndReleaseItsReservation() {
+        OrderDomain oversized = OrderDomain.builder()
+                .externalId("ORDER-002")
+                .items(List.of(item(Long.MAX_VALUE / 2, 3)))
+                .build();
+
+        when(cachePort.tryReserveAll(anyCollection(), anyString(), any(Duration.class)))
+                .thenReturn(Set.of("order:duplicate:ORDER-001", "order:duplicate:ORDER-002"));
+        when(repositoryPort.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<OrderCreationResult> results = service.createOrders(List.of(orderDomain, oversized), IngestChannel.AMQP);
+
+        assertEquals(OrderCreationOutcome.CREATED, results.get(0).getOutcome());
+        assertEquals(OrderCreationOutcome.INVALID, results.get(1).getOutcome());
+        verify(repositoryPort).saveAll(List.of(orderDomain));
+        verify(cachePort).releaseReservations(eq(List.of("order:duplicate:ORDER-002")), anyString());
+        verify(metricsPort).recordOutcomes(OrderCreationOutcome.INVALID, IngestChannel.AMQP, 1);
+    }
 
-        assertThrows(IllegalArgumentException.class, () -> service.createOrder(orderDomain));
+    @Test
+    void shouldCreateOrdersInBatchWithPerOrderResults() {
+        OrderDomain duplicateInBatch = OrderDomain.builder()
+                .externalId("ORDER-001")
+                .items(orderDomain.getItems())
+                .build();
+        OrderDomain existing = OrderDomain.builder()
+                .externalId("ORDER-002")
+                .items(orderDomain.getItems())
+                .build();
+        OrderDomain reserved = OrderDomain.builder()
+                .externalId("ORDER-003")
+                .items(orderDomain.getItems())
+                .build();
+        OrderDomain invalid = OrderDomain.builder()
+                .externalId("ORDER-004")
+                .items(List.of())
+                .build();
 
+        when(cachePort.tryReserveAll(anyCollection(), anyString(), any(Duration.class)))
+                .thenReturn(Set.of("order:duplicate:ORDER-001", "order:duplicate:ORDER-002"));
+        when(repositoryPort.findExistingExternalIds(anyCollection())).thenReturn(Set.of("ORDER-002"));
+        when(repositoryPort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<OrderDomain> saved = new ArrayList<>(invocation.getArgument(0));
+            saved.forEach(order -> order.setId(UUID.randomUUID()));
+            return saved;
+        });
+
+        List<OrderCreationResult> results = service.createOrders(
+                List.of(orderDomain, duplicateInBatch, existing, reserved, invalid), IngestChannel.AMQP);
+
+        assertEquals(5, results.size());
+        assertEquals(OrderCreationOutcome.CREATED, results.get(0).getOutcome());
+        assertEquals(OrderStatusDomain.COMPLETED, results.get(0).getOrder().getStatus());
+        assertEquals(Money.ofMinor(13000), results.get(0).getOrder().getTotalAmount());
+        assertEquals(OrderCreationOutcome.DUPLICATE, results.get(1).getOutcome());
+        assertEquals(OrderCreationOutcome.DUPLICATE, results.get(2).getOutcome());
+        assertEquals(OrderCreationOutcome.DUPLICATE, results.get(3).getOutcome());
+        assertEquals(OrderCreationOutcome.INVALID, results.get(4).getOutcome());
+
+        verify(repositoryPort).saveAll(List.of(orderDomain));
         verify(repositoryPort, never()).save(any(OrderDomain.class));
+        verify(publisherPort, times(1)).publishOrderAsync(any(OrderDomain.class));
+        verify(cachePort).commitReservations(eq(List.of("order:duplicate:ORDER-002")), anyString(), any(Duration.class));
+        verify(cachePort).commitReservations(eq(List.of("order:duplicate:ORDER-001")), anyString(), any(Duration.class));
+        verify(statsPort).recordStatusChanges(List.of(orderDomain));
+        verify(metricsPort).recordOutcomes(OrderCreationOutcome.CREATED, IngestChannel.AMQP, 1);
+        verify(metricsPort).recordOutcomes(OrderCreationOutcome.DUPLICATE, IngestChannel.AMQP, 3);
+        verify(metricsPort).recordOutcomes(OrderCreationOutcome.INVALID, IngestChannel.AMQP, 1);
+        verify(metricsPort).recordStage(eq(OrderPipelineStage.SAVE), eq(IngestChannel.AMQP), eq(true), anyLong());
+    }
+
+    @Test
+    void shouldNotPersistBatchWhenAllOrdersAreDuplicates() {
+        when(cachePort.tryReserveAll(anyCollection(), anyString(), any(Duration.class))).thenReturn(Set.of());
+
+        List<OrderCreationResult> results = service.createOrders(List.of(orderDomain), IngestChannel.AMQP);
+
+        assertEquals(OrderCreationOutcome.DUPLICATE, results.get(0).getOutcome());
+        verify(repositoryPort, never()).findExistingExternalIds(anyCollection());
+        verify(repositoryPort, never()).saveAll(anyList());
+        verify(publisherPort, never()).publishOrderAsync(any(OrderDomain.class));
+    }
+
+    @Test
+    void shouldRecordEveryStageOfASingleOrder() {
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(repositoryPort.save(any(OrderDomain.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.createOrder(orderDomain, IngestChannel.REST);
+
+        for (OrderPipelineStage stage : List.of(OrderPipelineStage.RESERVE, OrderPipelineStage.DEDUPE,
+                OrderPipelineStage.SAVE, OrderPipelineStage.PUBLISH)) {
+            verify(metricsPort).recordStage(eq(stage), eq(IngestChannel.REST), eq(false), anyLong());
+        }
+        verify(metricsPort).recordOutcomes(OrderCreationOutcome.CREATED, IngestChannel.REST, 1);
+        verify(metricsPort, never()).recordPublishFailure(any(IngestChannel.class));
+    }
+
+    @Test
+    void shouldCountDuplicateOrders() {
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        assertThrows(DuplicateOrderException.class, () -> service.createOrder(orderDomain, IngestChannel.AMQP));
+
+        verify(metricsPort).recordOutcomes(OrderCreationOutcome.DUPLICATE, IngestChannel.AMQP, 1);
+        verify(metricsPort, never()).recordStage(eq(OrderPipelineStage.SAVE), any(IngestChannel.class), anyBoolean(), anyLong());
+    }
+
+    @Test
+    void shouldCountPublishFailures() {
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(repositoryPort.save(any(OrderDomain.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(publisherPort.publishOrderAsync(any(OrderDomain.class))).thenThrow(new IllegalStateException("outbox down"));
+
+        assertThrows(IllegalStateException.class, () -> service.createOrder(orderDomain, IngestChannel.REST));
+
+        verify(metricsPort).recordPublishFailure(IngestChannel.REST);
+    }
+
+    @Test
+    void shouldCountPublishFailuresReportedByTheFuture() {
+        when(cachePort.tryReserve(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(repositoryPort.save(any(OrderDomain.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(publisherPort.publishOrderAsync(any(OrderDomain.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("nacked")));
+
+        OrderDomain result = service.createOrder(orderDomain, IngestChannel.AMQP);
+
+        assertEquals(OrderStatusDomain.COMPLETED, result.getStatus());
+        verify(metricsPort).recordPublishFailure(IngestChannel.AMQP);
+    }
+
+    private static OrderItemDomain item(long unitPriceMinor, int quantity) {
+        return OrderItemDomain.builder()
+                .productCode("PROD-001")
+                .quantity(quantity)
+                .unitPrice(Money.ofMinor(unitPriceMinor))
+                .build();
     }
 }
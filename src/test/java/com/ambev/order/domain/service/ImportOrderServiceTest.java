@@ -0,0 +1,118 @@
+package com.ambev.order.domain.service;
+
+import com.ambev.order.domain.model.Money;
+import com.ambev.order.domain.model.OrderCreationOutcome;
+import com.ambev.order.domain.model.OrderCreationResult;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderItemDomain;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.ambev.order.domain.port.out.ExternalIdFilterPort;
+import com.ambev.order.domain.port.out.OrderBulkLoaderPort;
+import com.ambev.order.domain.port.out.OrderCachePort;
+import com.ambev.order.domain.port.out.OrderStatsPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportOrderServiceTest {
+
+    @Mock
+    private OrderBulkLoaderPort bulkLoaderPort;
+
+    @Mock
+    private ExternalIdFilterPort externalIdFilter;
+
+    @Mock
+    private OrderCachePort cachePort;
+
+    @Mock
+    private OrderStatsPort statsPort;
+
+    private ImportOrderService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImportOrderService(bulkLoaderPort, externalIdFilter, cachePort, statsPort);
+    }
+
+    @Test
+    void shouldLoadNewOrdersAndReportDuplicatesAndInvalid() {
+        OrderDomain created = order("ORDER-001", 2);
+        OrderDomain inBatchDuplicate = order("ORDER-001", 1);
+        OrderDomain stored = order("ORDER-002", 1);
+        OrderDomain invalid = OrderDomain.builder().externalId("ORDER-003").items(List.of()).build();
+
+        when(bulkLoaderPort.insertNew(anyList())).thenReturn(Set.of("ORDER-001"));
+
+        List<OrderCreationResult> results = service.importOrders(List.of(created, inBatchDuplicate, stored, invalid));
+
+        assertEquals(OrderCreationOutcome.CREATED, results.get(0).getOutcome());
+        assertEquals(OrderCreationOutcome.DUPLICATE, results.get(1).getOutcome());
+        assertEquals(OrderCreationOutcome.DUPLICATE, results.get(2).getOutcome());
+        assertEquals(OrderCreationOutcome.INVALID, results.get(3).getOutcome());
+
+        assertEquals(OrderStatusDomain.COMPLETED, created.getStatus());
+        assertEquals(Money.ofMinor(2000), created.getTotalAmount());
+        assertEquals(3, created.getStatusHistory().size());
+
+        verify(bulkLoaderPort).insertNew(List.of(created, stored));
+        verify(externalIdFilter).put("ORDER-001");
+        verify(externalIdFilter, never()).put("ORDER-002");
+        verify(cachePort).commitReservations(eq(List.of("order:duplicate:ORDER-001")), anyString(), any(Duration.class));
+        verify(statsPort).recordStatusChanges(List.of(created));
+    }
+
+    @Test
+    void shouldFinishChunkWhenRedisIsUnavailable() {
+        when(bulkLoaderPort.insertNew(anyList())).thenReturn(Set.of("ORDER-001"));
+        doThrow(new IllegalStateException("redis down"))
+                .when(cachePort).commitReservations(anyCollection(), anyString(), any(Duration.class));
+
+        List<OrderCreationResult> results = service.importOrders(List.of(order("ORDER-001", 1)));
+
+        assertEquals(OrderCreationOutcome.CREATED, results.get(0).getOutcome());
+        verify(statsPort).recordStatusChanges(anyList());
+    }
+
+    @Test
+    void shouldNotCallLoaderWhenNothingIsValid() {
+        List<OrderCreationResult> results = service.importOrders(
+                List.of(OrderDomain.builder().externalId(" ").items(List.of(item(1))).build()));
+
+        assertEquals(OrderCreationOutcome.INVALID, results.get(0).getOutcome());
+        verify(bulkLoaderPort, never()).insertNew(anyList());
+        verify(externalIdFilter, never()).put(anyString());
+        verifyNoInteractions(cachePort, statsPort);
+    }
+
+    private OrderDomain order(String externalId, int quantity) {
+        return OrderDomain.builder()
+                .externalId(externalId)
+                .items(new ArrayList<>(List.of(item(quantity))))
+                .build();
+    }
+
+    private OrderItemDomain item(int quantity) {
+        return OrderItemDomain.builder()
+                .productCode("PROD-001")
+                .quantity(quantity)
+                .unitPrice(Money.ofMinor(1000))
+                .build();
+    }
+}
@@ -1,10 +1,12 @@
 package com.ambev.order.domain.service;
 
 import com.ambev.order.application.exception.OrderNotFoundException;
+import com.ambev.order.domain.model.Money;
 import com.ambev.order.domain.model.OrderDomain;
 import com.ambev.order.domain.model.OrderItemDomain;
 import com.ambev.order.domain.model.OrderStatusDomain;
 import com.ambev.order.domain.port.out.OrderRepositoryPort;
+import com.ambev.order.domain.port.out.OrderStatsPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,7 +17,6 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,13 +31,16 @@ class QueryOrderServiceTest {
     @Mock
     private OrderRepositoryPort repositoryPort;
 
+    @Mock
+    private OrderStatsPort statsPort;
+
     private QueryOrderService service;
     private OrderDomain orderDomain;
     private UUID orderId;
 
     @BeforeEach
     void setUp() {
-        service = new QueryOrderService(repositoryPort);
+        service = new QueryOrderService(repositoryPort, statsPort);
         orderId = UUID.randomUUID();
         setupOrderDomain();
     }
@@ -45,15 +49,15 @@ class QueryOrderServiceTest {
         OrderItemDomain item = OrderItemDomain.builder()
                 .productCode("PROD-001")
                 .quantity(2)
-                .unitPrice(BigDecimal.valueOf(50.00))
-                .totalPrice(BigDecimal.valueOf(100.00))
+                .unitPrice(Money.ofMinor(5000))
+                .totalPrice(Money.ofMinor(10000))
                 .build();
 
         orderDomain = OrderDomain.builder()
                 .id(orderId)
                 .externalId("ORDER-001")
                 .status(OrderStatusDomain.COMPLETED)
-                .totalAmount(BigDecimal.valueOf(100.00))
+                .totalAmount(Money.ofMinor(10000))
                 .items(List.of(item))
                 .build();
     }
@@ -115,16 +119,17 @@ class QueryOrderServiceTest {
     }
 
     @Test
-    void shouldFindOrdersByStatusSuccessfully() {
-        Pageable pageable = PageRequest.of(0, 20);
-        Page<OrderDomain> page = new PageImpl<>(List.of(orderDomain), pageable, 1);
+    void shouldFindOrdersByStatusWithTotalFromStats() {
+        Pageable pageable = PageRequest.of(0, 1);
 
-        when(repositoryPort.findByStatus(OrderStatusDomain.COMPLETED, pageable)).thenReturn(page);
+        when(repositoryPort.findByStatus(OrderStatusDomain.COMPLETED, pageable)).thenReturn(List.of(orderDomain));
+        when(statsPort.countByStatus(OrderStatusDomain.COMPLETED)).thenReturn(42L);
 
         Page<OrderDomain> result = service.findByStatus(OrderStatusDomain.COMPLETED, pageable);
 
         assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
+        assertEquals(42, result.getTotalElements());
+        assertEquals(42, result.getTotalPages());
         assertEquals(OrderStatusDomain.COMPLETED, result.getContent().get(0).getStatus());
         verify(repositoryPort).findByStatus(OrderStatusDomain.COMPLETED, pageable);
     }
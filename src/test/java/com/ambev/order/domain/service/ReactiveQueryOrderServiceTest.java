@@ -0,0 +1,68 @@
+package com.ambev.order.domain.service;
+
+import com.ambev.order.application.exception.OrderNotFoundException;
+import com.ambev.order.domain.model.OrderDomain;
+import com.ambev.order.domain.model.OrderSlice;
+import com.ambev.order.domain.model.OrderStatusDomain;
+import com.ambev.order.domain.port.out.ReactiveOrderRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveQueryOrderServiceTest {
+
+    @Mock
+    private ReactiveOrderRepositoryPort repositoryPort;
+
+    private ReactiveQueryOrderService service;
+    private OrderDomain orderDomain;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReactiveQueryOrderService(repositoryPort);
+        orderDomain = OrderDomain.builder()
+                .id(UUID.randomUUID())
+                .externalId("ORDER-001")
+                .status(OrderStatusDomain.COMPLETED)
+                .build();
+    }
+
+    @Test
+    void shouldFindOrderById() {
+        when(repositoryPort.findById(orderDomain.getId())).thenReturn(Mono.just(orderDomain));
+
+        StepVerifier.create(service.findById(orderDomain.getId()))
+                .expectNext(orderDomain)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldSignalNotFoundWhenOrderIsMissing() {
+        when(repositoryPort.findByExternalId("ORDER-404")).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.findByExternalId("ORDER-404"))
+                .expectErrorMatches(e -> e instanceof OrderNotFoundException
+                        && e.getMessage().equals("Order not found with external ID: ORDER-404"))
+                .verify();
+    }
+
+    @Test
+    void shouldDelegateSlicesToRepository() {
+        OrderSlice slice = new OrderSlice(List.of(orderDomain), null);
+        when(repositoryPort.findByStatusAfter(OrderStatusDomain.COMPLETED, null, 20)).thenReturn(Mono.just(slice));
+
+        StepVerifier.create(service.findByStatusAfter(OrderStatusDomain.COMPLETED, null, 20))
+                .expectNext(slice)
+                .verifyComplete();
+    }
+}